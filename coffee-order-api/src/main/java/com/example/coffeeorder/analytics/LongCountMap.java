@@ -0,0 +1,112 @@
+package com.example.coffeeorder.analytics;
+
+import java.util.Arrays;
+
+/**
+ * long 키 -> 건수 해시 맵 (오픈 어드레싱)
+ * 주문 행마다 Long/Integer 박싱이나 엔트리 객체를 만들지 않도록 키와 값을 기본형 배열에 담는다.
+ * 스레드 안전하지 않으므로 포크/조인 작업마다 따로 쓰고 merge로 합친다.
+ */
+public final class LongCountMap {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private long[] keys;
+    private int[] counts;
+    private int size;
+
+    public LongCountMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongCountMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize * 2 - 1, DEFAULT_CAPACITY)) << 1;
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        counts = new int[capacity];
+    }
+
+    // 키 건수 1 증가
+    public void increment(long key) {
+        add(key, 1);
+    }
+
+    // 키 건수 증가 (키는 Long.MIN_VALUE 제외)
+    public void add(long key, int delta) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Long.MIN_VALUE cannot be used as a key");
+        }
+        int slot = slot(key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            size++;
+            counts[slot] = delta;
+            if (size * 2 > keys.length) {
+                rehash(keys.length << 1);
+            }
+        } else {
+            counts[slot] += delta;
+        }
+    }
+
+    // 키 건수 (없으면 0)
+    public int get(long key) {
+        int slot = slot(key);
+        return keys[slot] == EMPTY ? 0 : counts[slot];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 다른 맵의 건수를 더함
+    public void merge(LongCountMap other) {
+        other.forEach(this::add);
+    }
+
+    // 모든 (키, 건수) 순회 (순서 없음)
+    public void forEach(Consumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], counts[i]);
+            }
+        }
+    }
+
+    // 키가 있는 슬롯 또는 키를 넣을 빈 슬롯 (선형 탐사)
+    private int slot(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        counts = new int[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    // 연속된 ID가 같은 구간에 몰리지 않도록 비트 섞기
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @FunctionalInterface
+    public interface Consumer {
+        void accept(long key, int count);
+    }
+}
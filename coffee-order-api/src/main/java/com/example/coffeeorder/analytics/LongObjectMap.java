@@ -0,0 +1,136 @@
+package com.example.coffeeorder.analytics;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * long 키 -> 객체 해시 맵 (오픈 어드레싱, LongCountMap과 같은 선형 탐사)
+ * 주문 ID/메뉴 키를 Long으로 박싱하거나 엔트리 객체를 만들지 않도록 키는 기본형 배열에 담는다.
+ * 삭제는 뒤따르는 슬롯을 당겨 채우므로(backward shift) 묘비 없이 탐사 길이가 유지된다.
+ * 스레드 안전하지 않으므로 호출 쪽 락 안에서만 쓴다.
+ */
+public final class LongObjectMap<V> {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+
+    public LongObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongObjectMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize * 2 - 1, DEFAULT_CAPACITY)) << 1;
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new Object[capacity];
+    }
+
+    // 키의 값 (없으면 null)
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int slot = slot(key);
+        return keys[slot] == EMPTY ? null : (V) values[slot];
+    }
+
+    // 값 저장 (키는 Long.MIN_VALUE 제외), 이전 값 반환
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Long.MIN_VALUE cannot be used as a key");
+        }
+        int slot = slot(key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            values[slot] = value;
+            size++;
+            if (size * 2 > keys.length) {
+                rehash(keys.length << 1);
+            }
+            return null;
+        }
+        V previous = (V) values[slot];
+        values[slot] = value;
+        return previous;
+    }
+
+    // 키 제거, 제거된 값 반환 (없으면 null)
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int slot = slot(key);
+        if (keys[slot] == EMPTY) {
+            return null;
+        }
+        V removed = (V) values[slot];
+        shiftBack(slot);
+        size--;
+        return removed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 모든 값 순회 (순서 없음)
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept((V) values[i]);
+            }
+        }
+    }
+
+    // 키가 있는 슬롯 또는 키를 넣을 빈 슬롯 (선형 탐사)
+    private int slot(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // 빈 슬롯을 만들고, 뒤 슬롯 중 원래 자리가 빈 슬롯 앞쪽인 키를 당겨 탐사가 끊기지 않게 함
+    private void shiftBack(int emptied) {
+        int mask = keys.length - 1;
+        int hole = emptied;
+        int slot = (hole + 1) & mask;
+        while (keys[slot] != EMPTY) {
+            int home = mix(keys[slot]) & mask;
+            // home이 (hole, slot] 구간 밖이면 hole로 옮겨도 탐사로 찾을 수 있음
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                keys[hole] = keys[slot];
+                values[hole] = values[slot];
+                hole = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+        values[hole] = null;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new Object[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    // 연속된 ID가 같은 구간에 몰리지 않도록 비트 섞기 (LongCountMap과 동일)
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.coffeeorder.analytics;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 기간 주문 집계 결과 (한 번의 스캔으로 세 가지 통계를 동시에 누적)
+ * - 팀원별 메뉴 주문 수: 키 = 팀원 ID << 32 | 메뉴 키 하위 32비트 (메뉴 키: 커스텀 +menuId, 투썸 -twosomeMenuId)
+ * - 부서별 요일 주문 수: 키 = 부서 ID << 3 | 요일 인덱스 (월=0 ... 일=6)
+ * - 날짜별 주문 수: from 기준 일 오프셋 인덱스 배열
+ */
+public final class OrderAggregate {
+
+    private final LocalDate from;
+    private final long fromEpochDay;
+    private final int[] dayCounts;
+    private final LongCountMap teamMenuCounts = new LongCountMap();
+    private final LongCountMap departmentWeekdayCounts = new LongCountMap();
+    private long totalCount;
+
+    public OrderAggregate(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.fromEpochDay = from.toEpochDay();
+        this.dayCounts = new int[(int) ChronoUnit.DAYS.between(from, to) + 1];
+    }
+
+    // 주문 한 건 누적
+    public void add(long teamId, long departmentId, long epochDay, long menuKey) {
+        teamMenuCounts.increment(teamMenuKey(teamId, menuKey));
+        // 1970-01-01(epochDay 0)이 목요일이므로 +3 하면 월요일이 0
+        int weekday = (int) Math.floorMod(epochDay + 3, 7L);
+        departmentWeekdayCounts.increment(departmentId << 3 | weekday);
+        dayCounts[(int) (epochDay - fromEpochDay)]++;
+        totalCount++;
+    }
+
+    // 다른 구간의 집계를 합침 (같은 from/to로 만든 집계끼리만)
+    public OrderAggregate merge(OrderAggregate other) {
+        teamMenuCounts.merge(other.teamMenuCounts);
+        departmentWeekdayCounts.merge(other.departmentWeekdayCounts);
+        for (int i = 0; i < dayCounts.length; i++) {
+            dayCounts[i] += other.dayCounts[i];
+        }
+        totalCount += other.totalCount;
+        return this;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public int[] getDayCounts() {
+        return dayCounts;
+    }
+
+    public LongCountMap getTeamMenuCounts() {
+        return teamMenuCounts;
+    }
+
+    public LongCountMap getDepartmentWeekdayCounts() {
+        return departmentWeekdayCounts;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public static long teamMenuKey(long teamId, long menuKey) {
+        return teamId << 32 | (menuKey & 0xFFFFFFFFL);
+    }
+
+    public static long teamIdOf(long teamMenuKey) {
+        return teamMenuKey >>> 32;
+    }
+
+    public static long menuKeyOf(long teamMenuKey) {
+        return (int) teamMenuKey;
+    }
+}
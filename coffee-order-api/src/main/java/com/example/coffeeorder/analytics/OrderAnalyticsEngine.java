@@ -0,0 +1,98 @@
+package com.example.coffeeorder.analytics;
+
+import com.example.coffeeorder.dto.OrderAnalyticsRow;
+import com.example.coffeeorder.mapper.OrderMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 기간 주문 집계 엔진
+ * 기간을 날짜 구간으로 반씩 나눠 포크/조인으로 병렬 스캔하고, 각 구간은 주문 행을 한 번만 읽으며
+ * 기본형 누적기(OrderAggregate)에 접어 넣은 뒤 구간 결과를 합친다.
+ * 구간마다 DB 커넥션을 하나씩 쓰므로 병렬도는 커넥션 풀(기본 10)보다 작게 제한한다.
+ */
+@Slf4j
+@Component
+public class OrderAnalyticsEngine {
+
+    // 한 번의 스캔으로 처리할 최대 일수 (이보다 길면 반으로 나눔)
+    static final int LEAF_DAYS = 31;
+
+    private static final int MAX_PARALLELISM = 4;
+
+    private final OrderMapper orderMapper;
+    private final ForkJoinPool pool;
+
+    public OrderAnalyticsEngine(OrderMapper orderMapper) {
+        this.orderMapper = orderMapper;
+        this.pool = new ForkJoinPool(Math.min(Runtime.getRuntime().availableProcessors(), MAX_PARALLELISM));
+    }
+
+    /**
+     * 기간 주문 집계
+     * @param departmentId 부서 ID (null이면 전체 부서)
+     * @param from 시작 날짜
+     * @param to 종료 날짜 (포함)
+     */
+    public OrderAggregate aggregate(Long departmentId, LocalDate from, LocalDate to) {
+        long startTime = System.currentTimeMillis();
+        OrderAggregate aggregate = pool.invoke(new RangeTask(departmentId, from, to, from, to));
+        log.debug("Aggregated {} orders ({} ~ {}, department {}) in {}ms",
+                aggregate.getTotalCount(), from, to, departmentId, System.currentTimeMillis() - startTime);
+        return aggregate;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    // 날짜 구간 집계 작업 (누적기는 항상 전체 기간 크기로 만들어 합칠 때 인덱스를 맞춤)
+    private class RangeTask extends RecursiveTask<OrderAggregate> {
+
+        private final Long departmentId;
+        private final LocalDate from;
+        private final LocalDate to;
+        private final LocalDate start;
+        private final LocalDate end;
+
+        RangeTask(Long departmentId, LocalDate from, LocalDate to, LocalDate start, LocalDate end) {
+            this.departmentId = departmentId;
+            this.from = from;
+            this.to = to;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected OrderAggregate compute() {
+            long days = ChronoUnit.DAYS.between(start, end) + 1;
+            if (days <= LEAF_DAYS) {
+                return scan();
+            }
+
+            LocalDate mid = start.plusDays(days / 2 - 1);
+            RangeTask left = new RangeTask(departmentId, from, to, start, mid);
+            RangeTask right = new RangeTask(departmentId, from, to, mid.plusDays(1), end);
+            left.fork();
+            OrderAggregate rightResult = right.compute();
+            return left.join().merge(rightResult);
+        }
+
+        private OrderAggregate scan() {
+            OrderAggregate aggregate = new OrderAggregate(from, to);
+            orderMapper.scanAnalyticsRows(departmentId, start, end, context -> {
+                OrderAnalyticsRow row = context.getResultObject();
+                aggregate.add(row.getTeamId(), row.getDepartmentId(),
+                        row.getOrderDate().toEpochDay(), row.getMenuKey());
+            });
+            return aggregate;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.coffeeorder.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStatsRollupScheduler {
+
+    private final OrderStatsRollupService orderStatsRollupService;
+
+    /**
+     * 매일 새벽 2시 30분에 주문 통계 증분 롤업 실행 (투썸 메뉴 동기화 전)
+     * cron: 초 분 시 일 월 요일
+     */
+    @Scheduled(cron = "0 30 2 * * *", zone = "Asia/Seoul")
+    public void rollupOrderStats() {
+        String startTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        log.info("=== Order Stats Rollup Job Started at {} ===", startTime);
+
+        try {
+            OrderStatsRollupService.RollupResult result = orderStatsRollupService.rollup();
+            log.info("=== Order Stats Rollup Job Completed. Days: {}, Months: {}, Daily rows: {}, Monthly rows: {}, Time: {}ms ===",
+                    result.getDayCount(), result.getMonthCount(), result.getDailyRowCount(),
+                    result.getMonthlyRowCount(), result.getElapsedTimeMs());
+        } catch (Exception e) {
+            log.error("=== Order Stats Rollup Job Failed ===", e);
+        }
+    }
+}
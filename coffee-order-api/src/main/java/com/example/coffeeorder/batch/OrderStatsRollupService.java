@@ -0,0 +1,108 @@
+package com.example.coffeeorder.batch;
+
+import com.example.coffeeorder.entity.StatsRollupState;
+import com.example.coffeeorder.mapper.OrderStatsMapper;
+import com.example.coffeeorder.repository.StatsRollupStateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 주문 통계 롤업 (order_daily_stats, order_monthly_stats)
+ * 마지막 실행 이후 변경된 주문 날짜만 일별로 다시 집계하고, 그 날짜가 속한 월만 다시 합산한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderStatsRollupService {
+
+    static final String JOB_NAME = "order_stats";
+
+    // 실행 중에 커밋된 주문을 놓치지 않도록 기준 시각을 겹쳐서 조회 (재집계는 멱등)
+    private static final long OVERLAP_MINUTES = 5;
+
+    // IN 절 한 번에 넣을 날짜 수
+    private static final int DATE_CHUNK_SIZE = 100;
+
+    private final OrderStatsMapper orderStatsMapper;
+    private final StatsRollupStateRepository statsRollupStateRepository;
+
+    /**
+     * 증분 롤업 수행
+     * 첫 실행(기준 시각 없음)은 전체 주문 날짜를 집계한다.
+     */
+    @Transactional
+    public RollupResult rollup() {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+
+        StatsRollupState state = statsRollupStateRepository.findById(JOB_NAME)
+                .orElseGet(() -> new StatsRollupState(JOB_NAME, null, null));
+        LocalDateTime since = state.getLastProcessedTime() != null
+                ? state.getLastProcessedTime().minusMinutes(OVERLAP_MINUTES)
+                : null;
+
+        List<LocalDate> changedDates = orderStatsMapper.findChangedOrderDates(since);
+        log.info("Order stats rollup: {} changed dates since {}", changedDates.size(), since);
+
+        RollupResult result = new RollupResult();
+        result.setDayCount(changedDates.size());
+
+        // 1. 일별 통계: 변경된 날짜만 삭제 후 재집계
+        for (int i = 0; i < changedDates.size(); i += DATE_CHUNK_SIZE) {
+            List<LocalDate> chunk = changedDates.subList(i, Math.min(i + DATE_CHUNK_SIZE, changedDates.size()));
+            orderStatsMapper.deleteDailyStats(chunk);
+            result.addDailyRows(orderStatsMapper.insertDailyStats(chunk, now));
+        }
+
+        // 2. 월별 통계: 변경된 날짜가 속한 월만 일별 통계에서 다시 합산
+        TreeSet<LocalDate> months = new TreeSet<>();
+        for (LocalDate date : changedDates) {
+            months.add(date.withDayOfMonth(1));
+        }
+        for (LocalDate month : months) {
+            orderStatsMapper.deleteMonthlyStats(month);
+            result.addMonthlyRows(orderStatsMapper.insertMonthlyStats(month, month.plusMonths(1), now));
+        }
+        result.setMonthCount(months.size());
+
+        state.setLastProcessedTime(now);
+        state.setLastRunTime(LocalDateTime.now());
+        statsRollupStateRepository.save(state);
+
+        result.setElapsedTimeMs(System.currentTimeMillis() - startTime);
+        return result;
+    }
+
+    /**
+     * 롤업 결과
+     */
+    public static class RollupResult {
+        private int dayCount = 0;
+        private int monthCount = 0;
+        private int dailyRowCount = 0;
+        private int monthlyRowCount = 0;
+        private long elapsedTimeMs = 0;
+
+        public int getDayCount() { return dayCount; }
+        public void setDayCount(int dayCount) { this.dayCount = dayCount; }
+
+        public int getMonthCount() { return monthCount; }
+        public void setMonthCount(int monthCount) { this.monthCount = monthCount; }
+
+        public int getDailyRowCount() { return dailyRowCount; }
+        public void addDailyRows(int count) { this.dailyRowCount += count; }
+
+        public int getMonthlyRowCount() { return monthlyRowCount; }
+        public void addMonthlyRows(int count) { this.monthlyRowCount += count; }
+
+        public long getElapsedTimeMs() { return elapsedTimeMs; }
+        public void setElapsedTimeMs(long elapsedTimeMs) { this.elapsedTimeMs = elapsedTimeMs; }
+    }
+}
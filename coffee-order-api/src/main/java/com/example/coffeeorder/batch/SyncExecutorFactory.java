@@ -0,0 +1,60 @@
+package com.example.coffeeorder.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 동기화 병렬 호출(이미지 다운로드, 옵션 조회)용 실행기 생성
+ * spring.threads.virtual.enabled=true 이고 Java 21 이상이면 가상 스레드로 실행해
+ * HTTP 대기 중에도 OS 스레드를 점유하지 않는다. 동시 호출 수는 투썸 API 부하를 고려해 설정값으로 제한한다.
+ * 그 외에는 기존과 같은 고정 크기(10) 플랫폼 스레드 풀을 쓴다.
+ */
+@Slf4j
+@Component
+public class SyncExecutorFactory {
+
+    // 플랫폼 스레드 풀 크기
+    static final int PLATFORM_POOL_SIZE = 10;
+
+    private final boolean virtual;
+
+    // 가상 스레드 모드의 최대 동시 호출 수
+    private final int virtualConcurrency;
+
+    public SyncExecutorFactory(Environment environment,
+                               @Value("${app.twosome.sync.virtual-concurrency:50}") int virtualConcurrency) {
+        this.virtual = Threading.VIRTUAL.isActive(environment);
+        this.virtualConcurrency = virtualConcurrency;
+        log.info("Twosome sync fan-out uses {} threads (concurrency: {})",
+                virtual ? "virtual" : "platform", getConcurrency());
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public int getConcurrency() {
+        return virtual ? virtualConcurrency : PLATFORM_POOL_SIZE;
+    }
+
+    /**
+     * 동기화 한 단계용 실행기 (사용 후 shutdown 필요)
+     * @param name 스레드 이름 접두사
+     */
+    public ExecutorService create(String name) {
+        if (!virtual) {
+            return Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+        }
+        // 가상 스레드는 생성 비용이 작아 풀 크기는 동시 호출 수 제한 용도로만 쓰임
+        ThreadFactory factory = new VirtualThreadTaskExecutor(name + "-").getVirtualThreadFactory();
+        return Executors.newFixedThreadPool(virtualConcurrency, factory);
+    }
+}
@@ -12,6 +12,10 @@ import com.example.coffeeorder.repository.TwosomeMenuRepository;
 import com.example.coffeeorder.repository.TwosomeMenuOptionRepository;
 import com.example.coffeeorder.service.DistributedLockService;
 import com.example.coffeeorder.service.ImageDownloadService;
+import com.example.coffeeorder.service.MenuSearchService;
+import com.example.coffeeorder.service.OrderCatalog;
+import com.example.coffeeorder.service.TwosomeMenuCatalog;
+import com.example.coffeeorder.service.TwosomeMenuPopularity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -34,9 +38,11 @@ public class TwosomeMenuSyncService {
     private final TwosomeMenuOptionRepository twosomeMenuOptionRepository;
     private final ImageDownloadService imageDownloadService;
     private final DistributedLockService distributedLockService;
-
-    // 병렬 처리 스레드 수
-    private static final int THREAD_POOL_SIZE = 10;
+    private final SyncExecutorFactory syncExecutorFactory;
+    private final OrderCatalog orderCatalog;
+    private final TwosomeMenuPopularity twosomeMenuPopularity;
+    private final MenuSearchService menuSearchService;
+    private final TwosomeMenuCatalog twosomeMenuCatalog;
 
     /**
      * 전체 동기화 수행 (메뉴 + 이미지 + 옵션)
@@ -189,6 +195,11 @@ public class TwosomeMenuSyncService {
         }
 
         result.setMenuCount(syncedMenus.size());
+        // 메뉴명/분류가 바뀌었을 수 있으므로 주문 카탈로그는 커밋 이후 다시 적재
+        orderCatalog.invalidateTwosomeMenus();
+        twosomeMenuPopularity.invalidateMenus();
+        menuSearchService.onTwosomeMenusChanged();
+        twosomeMenuCatalog.invalidate();
         log.info("Menu sync completed. Inserted: {}, Updated: {}, Total: {}",
                 result.getInsertedCount(), result.getUpdatedCount(), syncedMenus.size());
 
@@ -199,7 +210,8 @@ public class TwosomeMenuSyncService {
      * 이미지 다운로드 (병렬 처리)
      */
     private void syncImages(List<TwosomeMenu> menus, SyncResult result, SyncProgress progress) {
-        ExecutorService executor = Executors.newFixedThreadPool(THREAD_POOL_SIZE);
+        ExecutorService executor = syncExecutorFactory.create("twosome-image");
+        long startTime = System.currentTimeMillis();
         AtomicInteger downloadCount = new AtomicInteger(0);
         AtomicInteger processedCount = new AtomicInteger(0);
         int totalCount = menus.size();
@@ -242,16 +254,23 @@ public class TwosomeMenuSyncService {
 
         // 로컬 경로 업데이트된 메뉴들 저장
         twosomeMenuRepository.saveAll(menus);
+        // 자주 주문하는 메뉴 응답에 담긴 이미지 경로도 갱신되도록 다시 적재
+        twosomeMenuPopularity.invalidateMenus();
+        menuSearchService.onTwosomeMenusChanged();
+        twosomeMenuCatalog.invalidate();
 
         result.setImageCount(downloadCount.get());
-        log.info("Image download completed. Downloaded: {}/{}", downloadCount.get(), menus.size());
+        log.info("Image download completed. Downloaded: {}/{}, Time: {}ms ({} threads x {})",
+                downloadCount.get(), menus.size(), System.currentTimeMillis() - startTime,
+                syncExecutorFactory.isVirtual() ? "virtual" : "platform", syncExecutorFactory.getConcurrency());
     }
 
     /**
      * 온도/사이즈 옵션 동기화 (병렬 처리)
      */
     private void syncOptions(List<TwosomeMenu> menus, SyncResult result, SyncProgress progress) {
-        ExecutorService executor = Executors.newFixedThreadPool(THREAD_POOL_SIZE);
+        ExecutorService executor = syncExecutorFactory.create("twosome-option");
+        long startTime = System.currentTimeMillis();
         AtomicInteger optionCount = new AtomicInteger(0);
         AtomicInteger processedCount = new AtomicInteger(0);
         int totalCount = menus.size();
@@ -329,7 +348,9 @@ public class TwosomeMenuSyncService {
         }
 
         result.setOptionCount(allOptions.size());
-        log.info("Option sync completed. Total options: {}", allOptions.size());
+        log.info("Option sync completed. Total options: {}, Time: {}ms ({} threads x {})",
+                allOptions.size(), System.currentTimeMillis() - startTime,
+                syncExecutorFactory.isVirtual() ? "virtual" : "platform", syncExecutorFactory.getConcurrency());
     }
 
     private TwosomeMenu createMenuFromItem(TwosomeMenuItem item) {
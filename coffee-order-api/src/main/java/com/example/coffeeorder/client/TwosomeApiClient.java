@@ -6,6 +6,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
@@ -24,9 +25,9 @@ import java.util.regex.Pattern;
 @RequiredArgsConstructor
 public class TwosomeApiClient {
 
-    private static final String TWOSOME_MENU_API_URL = "https://mo.twosome.co.kr/mn/menuInfoListAjax.json";
-    private static final String TWOSOME_MENU_DETAIL_URL = "https://mo.twosome.co.kr/mn/menuInfoDetail.do?menuCd=";
-    private static final String TWOSOME_SIZE_OPT_API_URL = "https://mo.twosome.co.kr/mn/menuSizeOptListAjax.json";
+    private static final String TWOSOME_MENU_API_PATH = "/mn/menuInfoListAjax.json";
+    private static final String TWOSOME_MENU_DETAIL_PATH = "/mn/menuInfoDetail.do?menuCd=";
+    private static final String TWOSOME_SIZE_OPT_API_PATH = "/mn/menuSizeOptListAjax.json";
 
     // 온도 옵션 추출 패턴: fn_ondoTabClick('010H') 또는 fn_ondoTabClick('011I')
     private static final Pattern ONDO_PATTERN = Pattern.compile("fn_ondoTabClick\\('(\\d{3}[HI])'\\)");
@@ -34,6 +35,10 @@ public class TwosomeApiClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
 
+    // 투썸 모바일 사이트 주소 (부하/성능 측정 시 로컬 스텁으로 바꿔 씀)
+    @Value("${app.twosome.base-url:https://mo.twosome.co.kr}")
+    private String baseUrl;
+
     private final HttpClient httpClient = HttpClient.newBuilder()
             .connectTimeout(Duration.ofSeconds(10))
             .followRedirects(HttpClient.Redirect.NORMAL)
@@ -43,9 +48,10 @@ public class TwosomeApiClient {
      * 메뉴 리스트 조회
      */
     public TwosomeMenuResponse fetchMenuList() {
-        log.info("Fetching menu list from Twosome API: {}", TWOSOME_MENU_API_URL);
+        String url = baseUrl + TWOSOME_MENU_API_PATH;
+        log.info("Fetching menu list from Twosome API: {}", url);
         try {
-            TwosomeMenuResponse response = restTemplate.getForObject(TWOSOME_MENU_API_URL, TwosomeMenuResponse.class);
+            TwosomeMenuResponse response = restTemplate.getForObject(url, TwosomeMenuResponse.class);
             if (response != null && response.getQueryCode() == 1000) {
                 log.info("Successfully fetched {} menus from Twosome API",
                     response.getFetchResultListSet() != null ? response.getFetchResultListSet().size() : 0);
@@ -69,7 +75,7 @@ public class TwosomeApiClient {
 
         try {
             HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(TWOSOME_MENU_DETAIL_URL + menuCd))
+                    .uri(URI.create(baseUrl + TWOSOME_MENU_DETAIL_PATH + menuCd))
                     .timeout(Duration.ofSeconds(15))
                     .header("User-Agent", "Mozilla/5.0")
                     .GET()
@@ -108,7 +114,7 @@ public class TwosomeApiClient {
      */
     public List<TwosomeSizeOptionResponse> fetchSizeOptions(String menuCd, String ondoOpt) {
         try {
-            String url = TWOSOME_SIZE_OPT_API_URL + "?menuCd=" + menuCd + "&ondoOpt=" + ondoOpt;
+            String url = baseUrl + TWOSOME_SIZE_OPT_API_PATH + "?menuCd=" + menuCd + "&ondoOpt=" + ondoOpt;
 
             HttpRequest request = HttpRequest.newBuilder()
                     .uri(URI.create(url))
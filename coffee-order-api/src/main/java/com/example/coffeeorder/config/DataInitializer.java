@@ -6,6 +6,7 @@ import com.example.coffeeorder.repository.MenuRepository;
 import com.example.coffeeorder.repository.OrderRepository;
 import com.example.coffeeorder.repository.SettingsRepository;
 import com.example.coffeeorder.repository.TeamRepository;
+import com.example.coffeeorder.service.SettingsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -25,6 +26,7 @@ public class DataInitializer implements CommandLineRunner {
     private final MenuRepository menuRepository;
     private final OrderRepository orderRepository;
     private final SettingsRepository settingsRepository;
+    private final SettingsService settingsService;
 
     // 초기 부서 목록
     private static final List<String> INITIAL_DEPARTMENTS = Arrays.asList(
@@ -39,6 +41,17 @@ public class DataInitializer implements CommandLineRunner {
     public void run(String... args) {
         initializeDepartments();
         migrateExistingData();
+        provisionDefaultSettings();
+    }
+
+    private void provisionDefaultSettings() {
+        // 설정이 없는 부서에 기본 설정 생성 (부서 생성 시 만들기 전의 데이터)
+        for (Department department : departmentRepository.findByDelYnOrderByIdAsc("N")) {
+            if (!settingsRepository.existsByDepartmentId(department.getId())) {
+                settingsService.provisionDefaults(department);
+                log.info("부서 기본 설정 생성: {}", department.getName());
+            }
+        }
     }
 
     private void initializeDepartments() {
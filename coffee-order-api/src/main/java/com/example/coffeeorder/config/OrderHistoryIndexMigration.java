@@ -0,0 +1,36 @@
+package com.example.coffeeorder.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 DB에서 이력 키셋 페이징용 인덱스로 교체된 주문 인덱스 정리
+ *
+ * ddl-auto=update는 새 인덱스(idx_orders_dept_recent, idx_orders_recent)만 추가하고 기존 인덱스는 지우지 않으므로,
+ * 주문 쓰기마다 같은 열을 덮는 인덱스까지 갱신하지 않도록 시작 시 삭제한다. (여러 번 실행해도 결과가 같음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Order(OrderHistoryIndexMigration.ORDER)
+public class OrderHistoryIndexMigration implements CommandLineRunner {
+
+    // 실행 순서 (주문 테이블 제약을 먼저 적용하는 OrderSchemaMigration 다음)
+    static final int ORDER = OrderSchemaMigration.ORDER + 1;
+
+    // 교체된 인덱스 (부서별 날짜 -> idx_orders_dept_recent, 날짜 -> idx_orders_recent)
+    private static final String[] REPLACED_INDEXES = {"idx_orders_dept_date", "idx_orders_date"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        for (String index : REPLACED_INDEXES) {
+            jdbcTemplate.execute("DROP INDEX IF EXISTS " + index);
+        }
+    }
+}
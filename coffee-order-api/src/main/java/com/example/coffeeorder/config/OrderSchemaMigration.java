@@ -0,0 +1,77 @@
+package com.example.coffeeorder.config;
+
+import com.example.coffeeorder.entity.Order;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기존 DB에 주문 테이블 변경분 적용
+ *
+ * ddl-auto=update는 중복 주문이 남아 있으면 유니크 제약 추가에 실패하고 경고만 남긴다.
+ * 제약이 없으면 직접 추가하되, 중복 주문이 남아 있으면 주문을 임의로 지우지 않고 충돌 목록과 함께 시작을 중단한다.
+ * 나머지 단계는 여러 번 실행해도 결과가 같으므로 매번 적용한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@org.springframework.core.annotation.Order(OrderSchemaMigration.ORDER)
+public class OrderSchemaMigration implements CommandLineRunner {
+
+    // 실행 순서 (시작 작업 중 가장 먼저, 교체된 인덱스 정리는 OrderHistoryIndexMigration이 바로 다음에)
+    static final int ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void run(String... args) {
+        applyActiveTeamDateConstraint();
+        backfillUpdatedTime();
+    }
+
+    // 팀원당 하루 한 건 유니크 제약 (없을 때만 추가, 같은 팀원/날짜의 활성 주문이 여러 건이면 시작 중단)
+    private void applyActiveTeamDateConstraint() {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS "
+                        + "WHERE UPPER(TABLE_NAME) = 'ORDERS' AND UPPER(CONSTRAINT_NAME) = UPPER(?)",
+                Integer.class, Order.UK_ACTIVE_TEAM_DATE);
+        if (existing != null && existing > 0) {
+            return;
+        }
+
+        List<String> conflicts = jdbcTemplate.query(
+                "SELECT active_team_id, order_date, LISTAGG(id, ', ') WITHIN GROUP (ORDER BY id) AS ids "
+                        + "FROM orders WHERE active_team_id IS NOT NULL "
+                        + "GROUP BY active_team_id, order_date HAVING COUNT(*) > 1 "
+                        + "ORDER BY order_date, active_team_id",
+                (rs, rowNum) -> String.format("팀원 %d, %s: 주문 %s",
+                        rs.getLong("active_team_id"), rs.getObject("order_date", LocalDate.class), rs.getString("ids")));
+        if (!conflicts.isEmpty()) {
+            throw new IllegalStateException(String.format(
+                    "%s 제약을 추가할 수 없습니다. 같은 팀원/날짜의 활성 주문이 여러 건입니다. "
+                            + "남길 주문 하나만 두고 나머지를 삭제(del_yn = 'Y')한 뒤 다시 시작하세요.%n%s",
+                    Order.UK_ACTIVE_TEAM_DATE, String.join(System.lineSeparator(), conflicts)));
+        }
+
+        jdbcTemplate.execute("ALTER TABLE orders ADD CONSTRAINT " + Order.UK_ACTIVE_TEAM_DATE
+                + " UNIQUE (active_team_id, order_date)");
+        log.info("Added constraint {}", Order.UK_ACTIVE_TEAM_DATE);
+    }
+
+    // 통계 롤업 증분 기준 컬럼 채우기
+    private void backfillUpdatedTime() {
+        int backfilled = jdbcTemplate.update(
+                "UPDATE orders SET updated_time = created_time WHERE updated_time IS NULL");
+        if (backfilled > 0) {
+            log.info("Backfilled updated_time for {} orders", backfilled);
+        }
+    }
+}
@@ -19,7 +19,7 @@ public class WebConfig implements WebMvcConfigurer {
                     "http://localhost:3000",
                     "https://heodabang.me"
                 )
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+                .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
                 .allowCredentials(true);
     }
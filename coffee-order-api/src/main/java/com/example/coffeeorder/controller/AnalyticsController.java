@@ -0,0 +1,86 @@
+package com.example.coffeeorder.controller;
+
+import com.example.coffeeorder.service.OrderAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3000")
+public class AnalyticsController {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final int DEFAULT_DAYS = 365;
+    private static final int MAX_DAYS = 366;
+    private static final int FAVORITES_MAX_LIMIT = 20;
+
+    private final OrderAnalyticsService orderAnalyticsService;
+
+    // 팀원별 즐겨 찾는 메뉴 (기간 기본값: 오늘까지 최근 1년)
+    @GetMapping("/favorites")
+    public ResponseEntity<Object> getTeamFavorites(
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "3") int limit) {
+        if (limit < 1 || limit > FAVORITES_MAX_LIMIT) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "메뉴 개수는 1~" + FAVORITES_MAX_LIMIT + " 사이여야 합니다."));
+        }
+        LocalDate end = to != null ? to : LocalDate.now(KOREA_ZONE);
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        String error = validateRange(start, end);
+        if (error != null) {
+            return ResponseEntity.badRequest().body(Map.of("error", error));
+        }
+        return ResponseEntity.ok(orderAnalyticsService.findTeamFavorites(departmentId, start, end, limit));
+    }
+
+    // 부서별 요일 주문 추이
+    @GetMapping("/weekday-trends")
+    public ResponseEntity<Object> getWeekdayTrends(
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now(KOREA_ZONE);
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        String error = validateRange(start, end);
+        if (error != null) {
+            return ResponseEntity.badRequest().body(Map.of("error", error));
+        }
+        return ResponseEntity.ok(orderAnalyticsService.findWeekdayTrends(departmentId, start, end));
+    }
+
+    // 달력 히트맵 (날짜별 주문 수)
+    @GetMapping("/heatmap")
+    public ResponseEntity<Object> getHeatmap(
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now(KOREA_ZONE);
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        String error = validateRange(start, end);
+        if (error != null) {
+            return ResponseEntity.badRequest().body(Map.of("error", error));
+        }
+        return ResponseEntity.ok(orderAnalyticsService.getHeatmap(departmentId, start, end));
+    }
+
+    // 기간 검증 (오류 메시지, 정상이면 null)
+    private String validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return "시작 날짜가 종료 날짜보다 늦습니다.";
+        }
+        if (from.plusDays(MAX_DAYS - 1).isBefore(to)) {
+            return "분석 기간은 최대 " + MAX_DAYS + "일까지 조회할 수 있습니다.";
+        }
+        return null;
+    }
+}
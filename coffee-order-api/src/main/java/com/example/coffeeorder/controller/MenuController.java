@@ -20,6 +20,9 @@ public class MenuController {
 
     private final MenuService menuService;
 
+    // 일괄 삭제 최대 ID 수
+    private static final int DELETE_MAX_IDS = 200;
+
     // 메뉴 조회 (부서별)
     @GetMapping
     public ResponseEntity<List<Menu>> getMenus(
@@ -79,13 +82,23 @@ public class MenuController {
     // 메뉴 삭제 (소프트 삭제)
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteMenu(@PathVariable Long id) {
-        if (menuService.findById(id).isPresent()) {
-            menuService.softDelete(id);
+        if (menuService.softDelete(id)) {
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
     }
 
+    // 메뉴 일괄 삭제 (소프트 삭제, 예: DELETE /api/menus?ids=1,2,3)
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<Object> deleteMenus(@RequestParam List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > DELETE_MAX_IDS) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "삭제할 메뉴 ID는 1~" + DELETE_MAX_IDS + "개여야 합니다."));
+        }
+        int deleted = menuService.softDeleteAll(ids);
+        return ResponseEntity.ok(Map.of("deletedCount", deleted));
+    }
+
     // 예외 처리
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, String>> handleRuntimeException(RuntimeException e) {
@@ -1,20 +1,38 @@
 package com.example.coffeeorder.controller;
 
+import com.example.coffeeorder.dto.OrderBatchCreateDto;
+import com.example.coffeeorder.dto.OrderBatchResultDto;
 import com.example.coffeeorder.dto.OrderCreateDto;
+import com.example.coffeeorder.dto.OrderPatchDto;
 import com.example.coffeeorder.dto.OrderResponseDto;
 import com.example.coffeeorder.entity.Order;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.coffeeorder.service.IdempotencyStore;
+import com.example.coffeeorder.service.OrderDayFreezer;
+import com.example.coffeeorder.service.OrderExportService;
+import com.example.coffeeorder.service.OrderGroupCommitter;
 import com.example.coffeeorder.service.OrderService;
+import com.example.coffeeorder.service.OrderStreamService;
 import com.example.coffeeorder.service.SettingsService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/orders")
@@ -24,38 +42,106 @@ public class OrderController {
 
     private final OrderService orderService;
     private final SettingsService settingsService;
+    private final OrderStreamService orderStreamService;
+    private final OrderExportService orderExportService;
+    private final OrderGroupCommitter orderGroupCommitter;
+    private final OrderDayFreezer orderDayFreezer;
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
 
-    // 오늘 주문 전체 조회 (부서별 필터링 지원)
+    // 재시도 중복 방지 헤더
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final int IDEMPOTENCY_KEY_MAX_LENGTH = 255;
+
+    // 한국 시간 기준 ZoneId
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    // 이력 조회 최대 페이지 크기
+    private static final int HISTORY_MAX_PAGE_SIZE = 200;
+
+    // 즐겨 찾는 주문 최대 개수
+    private static final int FAVORITES_MAX_LIMIT = 10;
+
+    // 일괄 삭제 최대 ID 수
+    private static final int DELETE_MAX_IDS = 200;
+
+    // 오늘 주문 전체 조회 (부서별 필터링 지원, 마감된 부서는 마감 스냅샷)
     @GetMapping("/today")
-    public ResponseEntity<List<OrderResponseDto>> getTodayOrders(
+    public ResponseEntity<Object> getTodayOrders(
             @RequestParam(required = false) Long departmentId) {
-        List<Order> orders;
         if (departmentId != null) {
-            orders = orderService.findTodayOrdersByDepartment(departmentId);
-        } else {
-            orders = orderService.findTodayOrders();
+            Optional<OrderDayFreezer.FrozenDay> frozen = orderDayFreezer.find(departmentId, LocalDate.now(KOREA_ZONE));
+            if (frozen.isPresent()) {
+                return frozenJson(frozen.get().ordersJson());
+            }
         }
-        List<OrderResponseDto> response = orders.stream()
-                .map(OrderResponseDto::from)
-                .toList();
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(orderService.findTodayOrderResponses(departmentId));
+    }
+
+    // 부서별 주문 현황 실시간 스트림 (SSE, 폴링 대체)
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrders(@RequestParam Long departmentId, HttpServletResponse response) {
+        // 리버스 프록시(nginx) 응답 버퍼링 비활성화
+        response.setHeader("X-Accel-Buffering", "no");
+        return orderStreamService.subscribe(departmentId);
     }
 
-    // 특정 날짜 주문 조회 (부서별 필터링 지원)
+    // 특정 날짜 주문 조회 (부서별 필터링 지원, 마감된 날짜는 마감 스냅샷)
     @GetMapping
-    public ResponseEntity<List<OrderResponseDto>> getOrdersByDate(
+    public ResponseEntity<Object> getOrdersByDate(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
             @RequestParam(required = false) Long departmentId) {
-        List<Order> orders;
         if (departmentId != null) {
-            orders = orderService.findOrdersByDepartmentAndDate(departmentId, date);
-        } else {
-            orders = orderService.findOrdersByDate(date);
+            Optional<OrderDayFreezer.FrozenDay> frozen = orderDayFreezer.find(departmentId, date);
+            if (frozen.isPresent()) {
+                return frozenJson(frozen.get().ordersJson());
+            }
         }
-        List<OrderResponseDto> response = orders.stream()
-                .map(OrderResponseDto::from)
-                .toList();
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(orderService.findOrderResponsesByDate(departmentId, date));
+    }
+
+    // 기간별 주문 이력 조회 (최신순 키셋 페이징, 다음 페이지는 응답의 nextCursor를 after로 전달)
+    @GetMapping("/history")
+    public ResponseEntity<Object> getOrderHistory(
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size) {
+        if (size < 1 || size > HISTORY_MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "페이지 크기는 1~" + HISTORY_MAX_PAGE_SIZE + " 사이여야 합니다."));
+        }
+
+        try {
+            return ResponseEntity.ok(orderService.findOrderHistory(departmentId, from, to, after, size));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 기간별 주문 내역 내보내기 (CSV/NDJSON 스트리밍 다운로드)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(defaultValue = "csv") String format) {
+        OrderExportService.Format exportFormat = OrderExportService.Format.from(format);
+        if (exportFormat == null) {
+            return streamingError("지원하지 않는 형식입니다. (csv, ndjson)");
+        }
+        if (from.isAfter(to)) {
+            return streamingError("시작 날짜가 종료 날짜보다 늦습니다.");
+        }
+
+        StreamingResponseBody body = out -> orderExportService.export(departmentId, from, to, exportFormat, out);
+        String filename = "orders_" + from + "_" + to + "." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .header("X-Accel-Buffering", "no")
+                .body(body);
     }
 
     // ID로 조회
@@ -66,9 +152,60 @@ public class OrderController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    // 주문 생성
+    // 주문 생성 (Idempotency-Key 헤더가 있으면 같은 키의 재시도에 처음 응답을 그대로 반환)
     @PostMapping
-    public ResponseEntity<Object> createOrder(@Valid @RequestBody OrderCreateDto orderDto) {
+    public ResponseEntity<Object> createOrder(
+            @Valid @RequestBody OrderCreateDto orderDto,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return placeOrder(orderDto);
+        }
+        if (idempotencyKey.length() > IDEMPOTENCY_KEY_MAX_LENGTH) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Idempotency-Key가 너무 깁니다."));
+        }
+
+        String fingerprint = toJson(orderDto);
+        IdempotencyStore.Claim claim = idempotencyStore.claim(idempotencyKey, fingerprint);
+        switch (claim.getStatus()) {
+            case COMPLETED -> {
+                return ResponseEntity.status(claim.getResponseStatus())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Idempotent-Replayed", "true")
+                        .body(claim.getResponseBody());
+            }
+            case IN_PROGRESS -> {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(Map.of("error", "같은 주문 요청을 처리하고 있습니다."));
+            }
+            case MISMATCH -> {
+                return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                        .body(Map.of("error", "같은 Idempotency-Key로 다른 주문 요청이 들어왔습니다."));
+            }
+            default -> {
+                // ACQUIRED: 아래에서 처리
+            }
+        }
+
+        try {
+            ResponseEntity<Object> response = placeOrder(orderDto);
+            // 성공 응답만 저장해 재시도에 그대로 돌려줌
+            // 마감/중복/검증 실패는 조건이 바뀌면 같은 키로 다시 시도할 수 있어야 하므로 키를 풀어 줌
+            if (response.getStatusCode().is2xxSuccessful()) {
+                idempotencyStore.complete(idempotencyKey, fingerprint,
+                        response.getStatusCode().value(), toJson(response.getBody()));
+            } else {
+                idempotencyStore.release(idempotencyKey);
+            }
+            return response;
+        } catch (RuntimeException e) {
+            idempotencyStore.release(idempotencyKey);
+            throw e;
+        }
+    }
+
+    // 주문 생성 처리 (주문 가능 시간 체크 + 저장)
+    private ResponseEntity<Object> placeOrder(OrderCreateDto orderDto) {
         // 부서별 주문 가능 시간 체크
         boolean isAvailable;
         if (orderDto.getDepartmentId() != null) {
@@ -83,9 +220,13 @@ public class OrderController {
         }
 
         try {
-            Long orderId = orderService.createOrderFromDto(orderDto);
-
-            OrderResponseDto response = orderService.getOrderResponseById(orderId);
+            OrderResponseDto response;
+            if (orderGroupCommitter.isEnabled()) {
+                // 그룹 커밋 모드: 다른 요청과 한 트랜잭션으로 묶어 저장
+                response = orderGroupCommitter.placeOrder(orderDto);
+            } else {
+                response = orderService.placeOrder(orderDto);
+            }
 
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (Exception e) {
@@ -94,6 +235,29 @@ public class OrderController {
         }
     }
 
+    // 일괄 주문 생성 (팀장이 부서 주문을 한 번에 등록, 항목별 성공/실패 결과 반환)
+    @PostMapping("/batch")
+    public ResponseEntity<Object> createOrdersBatch(@Valid @RequestBody OrderBatchCreateDto batchDto) {
+        if (!settingsService.isOrderAvailableByDepartment(batchDto.getDepartmentId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "주문 마감 시간이 지났습니다."));
+        }
+
+        try {
+            List<OrderBatchResultDto> results = orderService.createOrdersBatch(
+                    batchDto.getDepartmentId(), batchDto.getOrders());
+            long created = results.stream().filter(OrderBatchResultDto::isSuccess).count();
+            return ResponseEntity.ok(Map.of(
+                    "results", results,
+                    "createdCount", created,
+                    "failedCount", results.size() - created
+            ));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
     // 주문 수정
     @PutMapping("/{id}")
     public ResponseEntity<Object> updateOrder(
@@ -113,31 +277,116 @@ public class OrderController {
                     .body(Map.of("error", "주문 마감 시간이 지났습니다."));
         }
 
-        Order updatedOrder = orderService.updateOrder(id, order);
-        if (updatedOrder != null) {
-            return ResponseEntity.ok(updatedOrder);
+        try {
+            Order updatedOrder = orderService.updateOrder(id, order);
+            if (updatedOrder != null) {
+                return ResponseEntity.ok(updatedOrder);
+            }
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 주문 부분 수정 (메뉴/개인 옵션만, 주문 변경 모달용)
+    @PatchMapping("/{id}")
+    public ResponseEntity<Object> patchOrder(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long departmentId,
+            @RequestBody OrderPatchDto patchDto) {
+        // 부서별 주문 가능 시간 체크
+        boolean isAvailable;
+        if (departmentId != null) {
+            isAvailable = settingsService.isOrderAvailableByDepartment(departmentId);
+        } else {
+            isAvailable = settingsService.isOrderAvailable();
+        }
+
+        if (!isAvailable) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "주문 마감 시간이 지났습니다."));
+        }
+
+        try {
+            return orderService.patchOrder(id, patchDto)
+                    .<ResponseEntity<Object>>map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
         }
-        return ResponseEntity.notFound().build();
     }
 
-    // 주문 삭제 (소프트 삭제)
+    // 주문 삭제 (소프트 삭제, 마감된 날짜의 주문은 400)
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteOrder(@PathVariable Long id) {
-        if (orderService.findById(id).isPresent()) {
-            orderService.softDelete(id);
-            return ResponseEntity.noContent().build();
+    public ResponseEntity<Object> deleteOrder(@PathVariable Long id) {
+        try {
+            if (orderService.softDelete(id)) {
+                return ResponseEntity.noContent().build();
+            }
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
         }
-        return ResponseEntity.notFound().build();
     }
 
-    // 날짜별 메뉴 집계
+    // 주문 일괄 삭제 (소프트 삭제, 예: DELETE /api/orders?ids=1,2,3&departmentId=1)
+    // 마감된 날짜의 주문이 하나라도 있으면 전체를 삭제하지 않고 400
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<Object> deleteOrders(
+            @RequestParam List<Long> ids,
+            @RequestParam(required = false) Long departmentId) {
+        if (ids.isEmpty() || ids.size() > DELETE_MAX_IDS) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "삭제할 주문 ID는 1~" + DELETE_MAX_IDS + "개여야 합니다."));
+        }
+
+        // 부서별 주문 가능 시간 체크
+        boolean isAvailable;
+        if (departmentId != null) {
+            isAvailable = settingsService.isOrderAvailableByDepartment(departmentId);
+        } else {
+            isAvailable = settingsService.isOrderAvailable();
+        }
+
+        if (!isAvailable) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "주문 마감 시간이 지났습니다."));
+        }
+
+        try {
+            int deleted = orderService.softDeleteAll(ids);
+            return ResponseEntity.ok(Map.of("deletedCount", deleted));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // 날짜별 메뉴 집계 (부서를 주면 부서별 인메모리 카운터, 마감된 날짜는 마감 스냅샷, 없으면 전체)
     @GetMapping("/summary")
     public ResponseEntity<Map<String, Object>> getMenuSummary(
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        Map<String, Object> summary = orderService.getMenuSummaryByDate(date);
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) Long departmentId) {
+        Map<String, Object> summary = orderService.getMenuSummaryByDate(departmentId, date);
         return ResponseEntity.ok(summary);
     }
 
+    // 부서별 메뉴 집계 (바리스타 주문표용, 날짜가 없으면 오늘, 마감된 날짜는 마감 스냅샷)
+    @GetMapping("/summary/barista")
+    public ResponseEntity<Object> getBaristaSummary(
+            @RequestParam Long departmentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        LocalDate summaryDate = date != null ? date : LocalDate.now(KOREA_ZONE);
+        Optional<OrderDayFreezer.FrozenDay> frozen = orderDayFreezer.find(departmentId, summaryDate);
+        if (frozen.isPresent()) {
+            return frozenJson(frozen.get().summaryJson());
+        }
+        return ResponseEntity.ok(orderService.getMenuCountSummary(departmentId, summaryDate));
+    }
+
     // 특정 팀원의 오늘 주문 조회
     @GetMapping("/team/{teamId}/today")
     public ResponseEntity<Order> getTodayOrderByTeam(@PathVariable Long teamId) {
@@ -149,8 +398,43 @@ public class OrderController {
     // 특정 팀원의 최근 주문 조회
     @GetMapping("/team/{teamId}/latest")
     public ResponseEntity<OrderResponseDto> getLatestOrderByTeam(@PathVariable Long teamId) {
-        return orderService.findLatestOrderByTeam(teamId)
-                .map(order -> ResponseEntity.ok(OrderResponseDto.from(order)))
+        return orderService.findLatestOrderResponseByTeam(teamId)
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    // 특정 팀원의 즐겨 찾는 주문 조회 (최근 이력에서 같은 메뉴/옵션 주문이 많은 순, 다시 주문하기용)
+    @GetMapping("/team/{teamId}/favorites")
+    public ResponseEntity<Object> getFavoriteOrdersByTeam(
+            @PathVariable Long teamId,
+            @RequestParam(defaultValue = "5") int limit) {
+        if (limit < 1 || limit > FAVORITES_MAX_LIMIT) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "주문 개수는 1~" + FAVORITES_MAX_LIMIT + " 사이여야 합니다."));
+        }
+        return ResponseEntity.ok(orderService.findFavoriteOrdersByTeam(teamId, limit));
+    }
+
+    // 마감 시 미리 직렬화해 둔 JSON을 그대로 응답 (다시 직렬화하지 않음)
+    private ResponseEntity<Object> frozenJson(byte[] json) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(json);
+    }
+
+    // 스트리밍 응답 타입 엔드포인트의 400 에러 ({"error": ...} 형식 유지)
+    private ResponseEntity<StreamingResponseBody> streamingError(String message) {
+        byte[] body = toJson(Map.of("error", message)).getBytes(StandardCharsets.UTF_8);
+        return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> out.write(body));
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JSON 변환에 실패했습니다.", e);
+        }
+    }
 }
@@ -0,0 +1,76 @@
+package com.example.coffeeorder.controller;
+
+import com.example.coffeeorder.service.OrderStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3000")
+public class OrderStatsController {
+
+    private static final int DAILY_MAX_DAYS = 366;
+    private static final int MONTHLY_MAX_MONTHS = 120;
+
+    private final OrderStatsService orderStatsService;
+
+    // 일별 메뉴 주문 통계 (전날까지 롤업된 데이터)
+    @GetMapping("/daily")
+    public ResponseEntity<Object> getDailyStats(
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (from.isAfter(to)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "시작 날짜가 종료 날짜보다 늦습니다."));
+        }
+        if (from.plusDays(DAILY_MAX_DAYS).isBefore(to)) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "일별 통계는 최대 " + DAILY_MAX_DAYS + "일까지 조회할 수 있습니다."));
+        }
+        return ResponseEntity.ok(orderStatsService.findDailyStats(departmentId, from, to));
+    }
+
+    // 월별 메뉴 주문 통계 (from, to: yyyy-MM)
+    @GetMapping("/monthly")
+    public ResponseEntity<Object> getMonthlyStats(
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        String error = validateMonthRange(from, to);
+        if (error != null) {
+            return ResponseEntity.badRequest().body(Map.of("error", error));
+        }
+        return ResponseEntity.ok(orderStatsService.findMonthlyStats(departmentId, from, to));
+    }
+
+    // 기간 메뉴별 주문 합계 (예: 분기 from=2025-07&to=2025-09)
+    @GetMapping("/menus")
+    public ResponseEntity<Object> getMenuTotals(
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        String error = validateMonthRange(from, to);
+        if (error != null) {
+            return ResponseEntity.badRequest().body(Map.of("error", error));
+        }
+        return ResponseEntity.ok(orderStatsService.findMenuTotals(departmentId, from, to));
+    }
+
+    // 월 범위 검증 (오류 메시지, 정상이면 null)
+    private String validateMonthRange(YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) {
+            return "시작 월이 종료 월보다 늦습니다.";
+        }
+        if (from.plusMonths(MONTHLY_MAX_MONTHS).isBefore(to)) {
+            return "월별 통계는 최대 " + MONTHLY_MAX_MONTHS + "개월까지 조회할 수 있습니다.";
+        }
+        return null;
+    }
+}
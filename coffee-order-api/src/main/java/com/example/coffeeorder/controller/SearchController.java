@@ -0,0 +1,37 @@
+package com.example.coffeeorder.controller;
+
+import com.example.coffeeorder.service.MenuSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3000")
+public class SearchController {
+
+    private final MenuSearchService menuSearchService;
+
+    // 검색 결과 최대 개수
+    private static final int MAX_LIMIT = 50;
+
+    // 메뉴 검색 (투썸 메뉴 + 부서 커스텀 메뉴, 메뉴명 일부/초성/영문명)
+    @GetMapping("/menus")
+    public ResponseEntity<Object> searchMenus(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "검색 결과 개수는 1~" + MAX_LIMIT + " 사이여야 합니다."));
+        }
+        if (q == null || q.isBlank()) {
+            return ResponseEntity.ok(List.of());
+        }
+        return ResponseEntity.ok(menuSearchService.search(q, departmentId, limit));
+    }
+}
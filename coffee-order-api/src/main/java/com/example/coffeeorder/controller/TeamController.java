@@ -18,6 +18,9 @@ public class TeamController {
 
     private final TeamService teamService;
 
+    // 일괄 삭제 최대 ID 수
+    private static final int DELETE_MAX_IDS = 200;
+
     // 팀원 조회 (부서별)
     @GetMapping
     public ResponseEntity<List<Team>> getTeams(
@@ -76,10 +79,20 @@ public class TeamController {
     // 팀원 삭제 (소프트 삭제)
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTeam(@PathVariable Long id) {
-        if (teamService.findById(id).isPresent()) {
-            teamService.softDelete(id);
+        if (teamService.softDelete(id)) {
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
     }
+
+    // 팀원 일괄 삭제 (소프트 삭제, 예: DELETE /api/teams?ids=1,2,3)
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<Object> deleteTeams(@RequestParam List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > DELETE_MAX_IDS) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "삭제할 팀원 ID는 1~" + DELETE_MAX_IDS + "개여야 합니다."));
+        }
+        int deleted = teamService.softDeleteAll(ids);
+        return ResponseEntity.ok(Map.of("deletedCount", deleted));
+    }
 }
@@ -6,14 +6,18 @@ import com.example.coffeeorder.entity.TwosomeMenu;
 import com.example.coffeeorder.entity.TwosomeMenuOption;
 import com.example.coffeeorder.exception.SyncInProgressException;
 import com.example.coffeeorder.repository.TwosomeMenuOptionRepository;
+import com.example.coffeeorder.service.TwosomeMenuCatalog;
+import com.example.coffeeorder.service.TwosomeMenuPopularity;
 import com.example.coffeeorder.service.TwosomeMenuService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/twosome-menus")
@@ -24,17 +28,46 @@ public class TwosomeMenuController {
     private final TwosomeMenuService twosomeMenuService;
     private final TwosomeMenuSyncService twosomeMenuSyncService;
     private final TwosomeMenuOptionRepository twosomeMenuOptionRepository;
+    private final TwosomeMenuPopularity twosomeMenuPopularity;
+    private final TwosomeMenuCatalog twosomeMenuCatalog;
 
-    // 전체 메뉴 조회 (중분류별 그룹화)
+    // 자주 주문하는 메뉴 최대 개수
+    private static final int POPULAR_MAX_LIMIT = 50;
+
+    // 전체 메뉴 조회 (중분류별 그룹화, 미리 직렬화한 스냅샷을 ETag와 함께 그대로 응답)
     @GetMapping
-    public ResponseEntity<Map<String, List<TwosomeMenu>>> getAllMenus() {
-        List<TwosomeMenu> menus = twosomeMenuService.findAllActive();
+    public ResponseEntity<byte[]> getAllMenus(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        TwosomeMenuCatalog.Snapshot catalog = twosomeMenuCatalog.get();
+        if (catalog.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(catalog.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
 
-        // 중분류(midNm)별로 그룹화
-        Map<String, List<TwosomeMenu>> groupedMenus = menus.stream()
-                .collect(Collectors.groupingBy(TwosomeMenu::getMidNm));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(catalog.etag())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(catalog.gzip());
+        }
+        return response.body(catalog.json());
+    }
 
-        return ResponseEntity.ok(groupedMenus);
+    // 부서에서 자주 주문하는 메뉴 조회 (최근 주문 수 많은 순)
+    @GetMapping("/popular")
+    public ResponseEntity<Object> getPopularMenus(
+            @RequestParam Long departmentId,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > POPULAR_MAX_LIMIT) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "메뉴 개수는 1~" + POPULAR_MAX_LIMIT + " 사이여야 합니다."));
+        }
+        return ResponseEntity.ok(twosomeMenuPopularity.findPopular(departmentId, limit));
     }
 
     // ID로 조회
@@ -149,8 +182,7 @@ public class TwosomeMenuController {
     // 메뉴 삭제 (소프트 삭제)
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteMenu(@PathVariable Long id) {
-        if (twosomeMenuService.findById(id).isPresent()) {
-            twosomeMenuService.softDelete(id);
+        if (twosomeMenuService.softDelete(id)) {
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
@@ -0,0 +1,43 @@
+package com.example.coffeeorder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 부서별 날짜 메뉴 집계 (바리스타 주문표용)
+ * 메뉴별 잔 수와 옵션(온도/사이즈 + 퍼스널 옵션)별 잔 수
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuCountSummaryDto {
+
+    private Long departmentId;
+    private LocalDate orderDate;
+    private int totalCount;
+    private List<MenuCount> menus;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MenuCount {
+        private String menuType;  // CUSTOM 또는 TWOSOME
+        private Long menuId;  // 커스텀 메뉴 ID 또는 투썸 메뉴 ID
+        private String menuName;
+        private String category;
+        private int count;
+        private List<OptionCount> options;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OptionCount {
+        private String option;  // 옵션 없음이면 빈 문자열
+        private int count;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.coffeeorder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 메뉴 검색 결과 (투썸 메뉴 + 커스텀 메뉴)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuSearchResultDto {
+    private String menuType;  // CUSTOM 또는 TWOSOME
+    private Long id;  // 커스텀 메뉴 ID 또는 투썸 메뉴 ID
+    private String name;
+    private String enName;  // 투썸 메뉴 영문명 (커스텀 메뉴는 null)
+    private String category;
+    private String menuCd;  // 투썸 메뉴 코드 (옵션 조회용, 커스텀 메뉴는 null)
+    private String imagePath;  // 투썸 메뉴 로컬 이미지 경로
+}
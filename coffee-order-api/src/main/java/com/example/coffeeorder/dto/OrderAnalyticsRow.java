@@ -0,0 +1,16 @@
+package com.example.coffeeorder.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 주문 분석 스캔용 최소 컬럼 행
+@Data
+@NoArgsConstructor
+public class OrderAnalyticsRow {
+    private long teamId;
+    private long departmentId;    // 부서 없는 과거 주문은 0
+    private LocalDate orderDate;
+    private long menuKey;         // 커스텀 +menuId, 투썸 -twosomeMenuId (메뉴 없으면 0)
+}
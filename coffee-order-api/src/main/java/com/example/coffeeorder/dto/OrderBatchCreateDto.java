@@ -0,0 +1,24 @@
+package com.example.coffeeorder.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBatchCreateDto {
+
+    @NotNull(message = "부서 ID는 필수입니다.")
+    private Long departmentId;  // 일괄 주문 대상 부서 (각 주문의 departmentId는 무시)
+
+    @NotEmpty(message = "주문 목록이 비어 있습니다.")
+    @Size(max = 100, message = "한 번에 최대 100건까지 주문할 수 있습니다.")
+    private List<@Valid OrderCreateDto> orders;
+}
@@ -0,0 +1,24 @@
+package com.example.coffeeorder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBatchResultDto {
+
+    private int index;  // 요청 목록에서의 순서 (0부터)
+    private boolean success;
+    private OrderResponseDto order;  // 성공 시 생성된 주문
+    private String error;  // 실패 사유
+
+    public static OrderBatchResultDto created(int index, OrderResponseDto order) {
+        return new OrderBatchResultDto(index, true, order, null);
+    }
+
+    public static OrderBatchResultDto failed(int index, String error) {
+        return new OrderBatchResultDto(index, false, null, error);
+    }
+}
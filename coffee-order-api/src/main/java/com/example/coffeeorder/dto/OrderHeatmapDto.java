@@ -0,0 +1,32 @@
+package com.example.coffeeorder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 달력 히트맵용 날짜별 주문 수 (주문 없는 날도 0으로 포함)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderHeatmapDto {
+
+    private Long departmentId;
+    private LocalDate from;
+    private LocalDate to;
+    private long totalCount;
+    private int maxCount;
+    private List<DayCount> days;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DayCount {
+        private LocalDate date;
+        private int count;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.coffeeorder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderHistoryPageDto {
+    private List<OrderResponseDto> orders;
+    private String nextCursor;  // 다음 페이지 요청 시 after로 전달 (마지막 페이지면 null)
+}
@@ -0,0 +1,24 @@
+package com.example.coffeeorder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 부분 수정 요청 (PATCH, 보낸 필드만 변경)
+ * 메뉴를 바꿀 때는 menuType과 해당 메뉴 ID를 함께 보낸다 (menuType 없이 ID만 보내면 ID로 타입을 판단).
+ * 개인 옵션은 null이면 유지, 빈 문자열이면 삭제한다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderPatchDto {
+
+    private String menuType;  // CUSTOM 또는 TWOSOME
+
+    private Long menuId;  // 커스텀 메뉴 ID (CUSTOM 모드)
+
+    private Long twosomeMenuId;  // 투썸 메뉴 ID (TWOSOME 모드)
+
+    private String personalOption;
+}
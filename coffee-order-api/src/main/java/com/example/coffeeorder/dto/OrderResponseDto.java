@@ -1,6 +1,7 @@
 package com.example.coffeeorder.dto;
 
 import com.example.coffeeorder.entity.Order;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -20,6 +21,7 @@ public class OrderResponseDto {
     private String teamName;
     private Long menuId;
     private String menuName;
+    private String menuCategory;  // 커스텀 메뉴 카테고리
     private Long twosomeMenuId;
     private String twosomeMenuName;
     private String twosomeMenuCategory;
@@ -28,6 +30,8 @@ public class OrderResponseDto {
     private String personalOption;
     private LocalDate orderDate;
     private LocalDateTime createdTime;
+    @JsonIgnore
+    private LocalDateTime updatedTime;  // 마지막 변경 시각 (인메모리 뷰에서 늦게 도착한 이전 변경을 거르는 용도, 응답에는 없음)
 
     public static OrderResponseDto from(Order order) {
         OrderResponseDto dto = new OrderResponseDto();
@@ -40,6 +44,7 @@ public class OrderResponseDto {
         dto.setPersonalOption(sanitize(order.getPersonalOption()));
         dto.setOrderDate(order.getOrderDate());
         dto.setCreatedTime(order.getCreatedTime());
+        dto.setUpdatedTime(order.getUpdatedTime());
 
         // 메뉴 타입에 따라 처리
         if ("TWOSOME".equals(menuType) && order.getTwosomeMenu() != null) {
@@ -49,9 +54,11 @@ public class OrderResponseDto {
             dto.setTwosomeMenuCode(order.getTwosomeMenu().getMenuCd());
             dto.setMenuId(null);
             dto.setMenuName(null);
+            dto.setMenuCategory(null);
         } else if (order.getMenu() != null) {
             dto.setMenuId(order.getMenu().getId());
             dto.setMenuName(sanitize(order.getMenu().getName()));
+            dto.setMenuCategory(sanitize(order.getMenu().getCategory()));
             dto.setTwosomeMenuId(null);
             dto.setTwosomeMenuName(null);
             dto.setTwosomeMenuCategory(null);
@@ -61,6 +68,46 @@ public class OrderResponseDto {
         return dto;
     }
 
+    // 같은 값을 가진 새 인스턴스 (응답으로 내보낸 DTO를 인메모리 뷰에 보관할 때 공유하지 않도록)
+    public OrderResponseDto copy() {
+        return new OrderResponseDto(id, teamId, teamName, menuId, menuName, menuCategory,
+                twosomeMenuId, twosomeMenuName, twosomeMenuCategory, twosomeMenuCode,
+                menuType, personalOption, orderDate, createdTime, updatedTime);
+    }
+
+    // 조인 조회(OrderMapper) 결과 행을 from(Order)와 같은 규칙으로 정리
+    public static OrderResponseDto normalize(OrderResponseDto row) {
+        String menuType = row.getMenuType() != null ? row.getMenuType() : "CUSTOM";
+        row.setMenuType(menuType);
+        row.setTeamName(sanitize(row.getTeamName()));
+        row.setPersonalOption(sanitize(row.getPersonalOption()));
+
+        if ("TWOSOME".equals(menuType) && row.getTwosomeMenuId() != null) {
+            row.setTwosomeMenuName(sanitize(row.getTwosomeMenuName()));
+            row.setTwosomeMenuCategory(sanitize(row.getTwosomeMenuCategory()));
+            row.setMenuId(null);
+            row.setMenuName(null);
+            row.setMenuCategory(null);
+        } else if (row.getMenuId() != null) {
+            row.setMenuName(sanitize(row.getMenuName()));
+            row.setMenuCategory(sanitize(row.getMenuCategory()));
+            row.setTwosomeMenuId(null);
+            row.setTwosomeMenuName(null);
+            row.setTwosomeMenuCategory(null);
+            row.setTwosomeMenuCode(null);
+        } else {
+            row.setMenuId(null);
+            row.setMenuName(null);
+            row.setMenuCategory(null);
+            row.setTwosomeMenuId(null);
+            row.setTwosomeMenuName(null);
+            row.setTwosomeMenuCategory(null);
+            row.setTwosomeMenuCode(null);
+        }
+
+        return row;
+    }
+
     private static String sanitize(String value) {
         // JSON API에서는 Jackson이 자동으로 이스케이프하지만,
         // 정적 분석 도구를 만족시키기 위해 명시적으로 처리
@@ -0,0 +1,21 @@
+package com.example.coffeeorder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatsDto {
+    private Long departmentId;
+    private LocalDate period;     // 일별: 날짜, 월별: 해당 월 1일, 메뉴별 합계: null
+    private String menuType;      // CUSTOM 또는 TWOSOME
+    private Long menuId;          // CUSTOM이면 menu.id, TWOSOME이면 twosome_menu.id
+    private String menuCode;      // 투썸 메뉴 코드
+    private String menuName;
+    private String category;
+    private Long orderCount;
+}
@@ -0,0 +1,27 @@
+package com.example.coffeeorder.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 주문 부분 수정/삭제 후 변경된 행 (UPDATE 결과, 이름은 카탈로그에서 채움)
+@Data
+@NoArgsConstructor
+public class OrderUpdatedRow {
+    private Long id;
+    private Long departmentId;
+    private Long teamId;
+    private Long menuId;
+    private Long twosomeMenuId;
+    private String menuType;
+    private String personalOption;
+    private LocalDate orderDate;
+    private LocalDateTime createdTime;
+    private LocalDateTime updatedTime;  // 부분 수정 결과에만 채워짐
+    // 부분 수정 전 메뉴 (부분 수정 결과에만 채워짐)
+    private String previousMenuType;
+    private Long previousMenuId;
+    private Long previousTwosomeMenuId;
+}
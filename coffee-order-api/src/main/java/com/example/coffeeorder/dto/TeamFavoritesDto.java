@@ -0,0 +1,32 @@
+package com.example.coffeeorder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 팀원별 기간 즐겨 찾는 메뉴 (주문 수 많은 순)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamFavoritesDto {
+
+    private Long teamId;
+    private String teamName;
+    private int orderCount;
+    private List<FavoriteMenu> favorites;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FavoriteMenu {
+        private String menuType;  // CUSTOM 또는 TWOSOME
+        private Long menuId;  // 커스텀 메뉴 ID 또는 투썸 메뉴 ID
+        private String menuName;
+        private String category;
+        private int count;
+    }
+}
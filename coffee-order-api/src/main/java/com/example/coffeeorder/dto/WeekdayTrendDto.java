@@ -0,0 +1,20 @@
+package com.example.coffeeorder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 부서별 요일 주문 추이 (배열 인덱스 0=월요일 ... 6=일요일)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeekdayTrendDto {
+
+    private Long departmentId;
+    private String departmentName;
+    private int orderCount;
+    private int[] counts;  // 요일별 주문 수
+    private double[] averages;  // 요일별 하루 평균 주문 수 (기간 내 해당 요일 수로 나눔)
+}
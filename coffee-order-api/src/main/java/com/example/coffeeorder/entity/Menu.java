@@ -11,7 +11,9 @@ import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "menu")
+@Table(name = "menu", indexes = {
+    @Index(name = "idx_menu_dept_name", columnList = "department_id, del_yn, name")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,46 @@
+package com.example.coffeeorder.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 커스텀 메뉴 인기 점수 (시간 감쇠, 부서/메뉴당 한 행)
+ * 주문 한 건이 1점이고 반감기마다 절반으로 줄어든다. MenuPopularityIndex가 메모리에서 갱신하고 주기적으로 저장한다.
+ */
+@Entity
+@Table(name = "menu_popularity", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_menu_popularity", columnNames = {"department_id", "menu_id"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuPopularity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 주문의 부서 ID (부서 없는 과거 주문은 0)
+    @Column(name = "department_id", nullable = false)
+    private Long departmentId;
+
+    @Column(name = "menu_id", nullable = false)
+    private Long menuId;
+
+    @Column(nullable = false)
+    private Double score;
+
+    // 점수가 감쇠된 기준 날짜 (일 배치가 하루씩 옮김)
+    @Column(name = "score_date", nullable = false)
+    private LocalDate scoreDate;
+
+    @Column(name = "updated_time", nullable = false)
+    private LocalDateTime updatedTime;
+}
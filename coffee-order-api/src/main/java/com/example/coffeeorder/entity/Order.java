@@ -1,5 +1,6 @@
 package com.example.coffeeorder.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -11,13 +12,29 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", uniqueConstraints = {
+    // 팀원당 하루 한 건 (삭제된 주문은 active_team_id가 NULL이라 제외됨)
+    @UniqueConstraint(name = Order.UK_ACTIVE_TEAM_DATE, columnNames = {"active_team_id", "order_date"})
+}, indexes = {
+    // 부서별 날짜 주문 현황/집계 + 이력 키셋 페이징 (order_date desc, id desc)
+    @Index(name = "idx_orders_dept_recent", columnList = "department_id, del_yn, order_date DESC, id DESC"),
+    // 전체 부서 날짜 주문 조회 + 이력 키셋 페이징
+    @Index(name = "idx_orders_recent", columnList = "del_yn, order_date DESC, id DESC"),
+    // 팀원별 오늘 주문/최근 주문 (날짜, 생성시간 역순 탐색)
+    @Index(name = "idx_orders_team_recent", columnList = "team_id, del_yn, order_date DESC, created_time DESC"),
+    // 메뉴별 최근 주문 수 (인기순 정렬 서브쿼리)
+    @Index(name = "idx_orders_menu_date", columnList = "menu_id, del_yn, order_date"),
+    // 통계 롤업 증분 처리 (마지막 실행 이후 변경된 주문 날짜 탐색)
+    @Index(name = "idx_orders_updated", columnList = "updated_time")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Order {
 
+    public static final String UK_ACTIVE_TEAM_DATE = "uk_orders_active_team_date";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -54,12 +71,24 @@ public class Order {
     @Column(name = "del_yn", nullable = false, length = 1)
     private String delYn = "N";
 
+    // 활성 주문 키 (DB 계산 컬럼: 삭제되지 않은 주문만 team_id, 삭제되면 NULL)
+    @JsonIgnore
+    @Column(name = "active_team_id", insertable = false, updatable = false,
+            columnDefinition = "BIGINT GENERATED ALWAYS AS (CASE WHEN del_yn = 'N' THEN team_id END)")
+    private Long activeTeamId;
+
     @Column(name = "created_time", nullable = false, updatable = false)
     private LocalDateTime createdTime;
 
+    // 마지막 변경 시각 (생성/수정/삭제 시 갱신, 통계 롤업 증분 기준)
+    @JsonIgnore
+    @Column(name = "updated_time")
+    private LocalDateTime updatedTime;
+
     @PrePersist
     protected void onCreate() {
         createdTime = LocalDateTime.now();
+        updatedTime = createdTime;
         if (orderDate == null) {
             orderDate = LocalDate.now();
         }
@@ -70,4 +99,9 @@ public class Order {
             menuType = "CUSTOM";
         }
     }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedTime = LocalDateTime.now();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.example.coffeeorder.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일별 주문 통계 (부서, 날짜, 메뉴별 주문 수)
+ * OrderStatsRollupService가 변경된 날짜만 다시 집계해서 채운다.
+ */
+@Entity
+@Table(name = "order_daily_stats", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_order_daily_stats",
+            columnNames = {"department_id", "stat_date", "menu_type", "menu_id"})
+}, indexes = {
+    // 날짜 단위 재집계 시 삭제 (전체 부서)
+    @Index(name = "idx_order_daily_stats_date", columnList = "stat_date")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 부서 ID (부서 없는 과거 주문은 0)
+    @Column(name = "department_id", nullable = false)
+    private Long departmentId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "menu_type", nullable = false, length = 20)
+    private String menuType;  // CUSTOM 또는 TWOSOME
+
+    // CUSTOM이면 menu.id, TWOSOME이면 twosome_menu.id
+    @Column(name = "menu_id", nullable = false)
+    private Long menuId;
+
+    // 투썸 메뉴 코드 (CUSTOM이면 NULL)
+    @Column(name = "menu_code", length = 50)
+    private String menuCode;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @Column(name = "updated_time", nullable = false)
+    private LocalDateTime updatedTime;
+}
@@ -0,0 +1,52 @@
+package com.example.coffeeorder.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 마감된 (부서, 날짜)의 주문 스냅샷 (주문 목록 + 메뉴 집계 JSON)
+ * OrderDayFreezer가 마감 시각에 만들고, 재기동 후에도 같은 응답을 내려주기 위해 저장한다.
+ */
+@Entity
+@Table(name = "order_day_snapshot", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_order_day_snapshot", columnNames = {"department_id", "order_date"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderDaySnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "department_id", nullable = false)
+    private Long departmentId;
+
+    @Column(name = "order_date", nullable = false)
+    private LocalDate orderDate;
+
+    @Column(name = "order_count", nullable = false)
+    private Integer orderCount;
+
+    // 주문 목록 응답 (List<OrderResponseDto> JSON)
+    @Lob
+    @Column(name = "orders_json", nullable = false)
+    private String ordersJson;
+
+    // 메뉴 집계 응답 (MenuCountSummaryDto JSON)
+    @Lob
+    @Column(name = "summary_json", nullable = false)
+    private String summaryJson;
+
+    // 스냅샷 생성 시각 (마감 이후 변경으로 다시 만들면 갱신)
+    @Column(name = "frozen_time", nullable = false)
+    private LocalDateTime frozenTime;
+}
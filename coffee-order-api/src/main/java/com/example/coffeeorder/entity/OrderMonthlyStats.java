@@ -0,0 +1,58 @@
+package com.example.coffeeorder.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 월별 주문 통계 (부서, 월, 메뉴별 주문 수)
+ * 일별 통계에서 변경된 날짜가 속한 월만 다시 합산해서 채운다.
+ */
+@Entity
+@Table(name = "order_monthly_stats", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_order_monthly_stats",
+            columnNames = {"department_id", "stat_month", "menu_type", "menu_id"})
+}, indexes = {
+    // 월 단위 재집계 시 삭제 (전체 부서)
+    @Index(name = "idx_order_monthly_stats_month", columnList = "stat_month")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderMonthlyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 부서 ID (부서 없는 과거 주문은 0)
+    @Column(name = "department_id", nullable = false)
+    private Long departmentId;
+
+    // 해당 월 1일
+    @Column(name = "stat_month", nullable = false)
+    private LocalDate statMonth;
+
+    @Column(name = "menu_type", nullable = false, length = 20)
+    private String menuType;  // CUSTOM 또는 TWOSOME
+
+    // CUSTOM이면 menu.id, TWOSOME이면 twosome_menu.id
+    @Column(name = "menu_id", nullable = false)
+    private Long menuId;
+
+    // 투썸 메뉴 코드 (CUSTOM이면 NULL)
+    @Column(name = "menu_code", length = 50)
+    private String menuCode;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @Column(name = "updated_time", nullable = false)
+    private LocalDateTime updatedTime;
+}
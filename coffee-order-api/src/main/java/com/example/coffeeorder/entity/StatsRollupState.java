@@ -0,0 +1,34 @@
+package com.example.coffeeorder.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통계 롤업 작업별 마지막 실행 기준 시각 (다음 실행은 이 시각 이후 변경된 주문만 처리)
+ */
+@Entity
+@Table(name = "stats_rollup_state")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatsRollupState {
+
+    // 롤업 작업 이름
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    // 마지막으로 반영된 주문 변경 시각
+    @Column(name = "last_processed_time")
+    private LocalDateTime lastProcessedTime;
+
+    // 마지막 실행 완료 시각
+    @Column(name = "last_run_time")
+    private LocalDateTime lastRunTime;
+}
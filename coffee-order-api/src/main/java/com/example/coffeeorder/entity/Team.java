@@ -10,7 +10,9 @@ import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "team")
+@Table(name = "team", indexes = {
+    @Index(name = "idx_team_dept", columnList = "department_id, del_yn")
+})
 @Getter
 @Setter
 @NoArgsConstructor
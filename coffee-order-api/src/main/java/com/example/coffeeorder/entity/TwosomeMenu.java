@@ -10,7 +10,10 @@ import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "twosome_menu")
+@Table(name = "twosome_menu", indexes = {
+    @Index(name = "idx_twosome_menu_mid", columnList = "mid_nm, del_yn, sort_ord"),
+    @Index(name = "idx_twosome_menu_grt", columnList = "grt_nm, del_yn, mid_nm, sort_ord")
+})
 @Getter
 @Setter
 @NoArgsConstructor
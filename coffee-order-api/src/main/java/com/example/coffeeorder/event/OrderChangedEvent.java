@@ -0,0 +1,39 @@
+package com.example.coffeeorder.event;
+
+import com.example.coffeeorder.dto.OrderResponseDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 주문 생성/수정/삭제 이벤트
+ * OrderService에서 발행하며, 트랜잭션 커밋 이후 인메모리 뷰 갱신에 사용된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class OrderChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long orderId;
+    private final Long departmentId;  // 부서 미지정 주문이면 null
+    private final Long teamId;
+    private final LocalDate orderDate;
+    private final OrderResponseDto order;  // 발행 시점에 응답을 이미 만든 경우만 (없으면 구독 측에서 다시 조회, 삭제면 메뉴 타입/ID만 채워짐)
+    private final OrderResponseDto previous;  // 수정이면 수정 전 메뉴 타입/ID (메뉴 인기 점수에서 이전 메뉴 몫을 빼기 위함)
+
+    public OrderChangedEvent(Type type, Long orderId, Long departmentId, Long teamId, LocalDate orderDate) {
+        this(type, orderId, departmentId, teamId, orderDate, null, null);
+    }
+
+    public OrderChangedEvent(Type type, Long orderId, Long departmentId, Long teamId, LocalDate orderDate,
+                             OrderResponseDto order) {
+        this(type, orderId, departmentId, teamId, orderDate, order, null);
+    }
+}
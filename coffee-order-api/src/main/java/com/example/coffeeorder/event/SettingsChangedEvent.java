@@ -0,0 +1,15 @@
+package com.example.coffeeorder.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 설정(마감 시간/24시간 여부) 변경 이벤트
+ * SettingsService에서 발행하며, 트랜잭션 커밋 이후 마감 예약을 다시 잡는 데 사용된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SettingsChangedEvent {
+
+    private final Long departmentId;  // 하위 호환(부서 미지정) 설정 변경이면 null
+}
@@ -1,10 +1,17 @@
 package com.example.coffeeorder.mapper;
 
 import com.example.coffeeorder.dto.MenuSummaryDto;
+import com.example.coffeeorder.dto.OrderAnalyticsRow;
+import com.example.coffeeorder.dto.OrderResponseDto;
+import com.example.coffeeorder.dto.OrderUpdatedRow;
+import com.example.coffeeorder.entity.Order;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -16,4 +23,100 @@ public interface OrderMapper {
      * @return 메뉴별 주문 집계 목록
      */
     List<MenuSummaryDto> findMenuSummaryByDate(@Param("orderDate") LocalDate orderDate);
-}
\ No newline at end of file
+
+    /**
+     * 날짜별 주문 목록 조회 (팀원/메뉴 정보를 한 번의 조인으로 조회)
+     * @param departmentId 부서 ID (null이면 전체 부서)
+     * @param orderDate 주문 날짜
+     * @return 주문 응답 목록 (정리 전 원본 행, OrderResponseDto.normalize 필요)
+     */
+    List<OrderResponseDto> findOrderResponses(@Param("departmentId") Long departmentId,
+                                              @Param("orderDate") LocalDate orderDate);
+
+    /**
+     * 주문 단건 조회 (삭제된 주문이면 null)
+     * @param id 주문 ID
+     * @return 주문 응답 (정리 전 원본 행)
+     */
+    OrderResponseDto findOrderResponseById(@Param("id") Long id);
+
+    /**
+     * 팀원별 최근 주문 조회 (주문 날짜, 생성 시각 역순)
+     * @param teamId 팀원 ID
+     * @param limit 최대 조회 건수
+     * @return 주문 응답 목록 (정리 전 원본 행)
+     */
+    List<OrderResponseDto> findRecentOrderResponsesByTeam(@Param("teamId") Long teamId,
+                                                          @Param("limit") int limit);
+
+    /**
+     * 기간별 주문 이력 조회 (order_date desc, id desc 순 키셋 페이징)
+     * @param departmentId 부서 ID (null이면 전체 부서)
+     * @param from 시작 날짜 (null이면 제한 없음)
+     * @param to 종료 날짜 (null이면 제한 없음)
+     * @param afterDate 이전 페이지 마지막 주문 날짜 (null이면 첫 페이지)
+     * @param afterId 이전 페이지 마지막 주문 ID
+     * @param limit 최대 조회 건수
+     * @return 주문 응답 목록 (정리 전 원본 행)
+     */
+    List<OrderResponseDto> findOrderHistory(@Param("departmentId") Long departmentId,
+                                            @Param("from") LocalDate from,
+                                            @Param("to") LocalDate to,
+                                            @Param("afterDate") LocalDate afterDate,
+                                            @Param("afterId") Long afterId,
+                                            @Param("limit") int limit);
+
+    /**
+     * 기간별 주문 내보내기용 커서 조회 (날짜, ID 오름차순, 한 행씩 읽어 메모리 사용량 고정)
+     * 트랜잭션 안에서 열고 다 읽은 뒤 닫아야 한다.
+     * @param departmentId 부서 ID (null이면 전체 부서)
+     * @param from 시작 날짜
+     * @param to 종료 날짜
+     * @return 주문 응답 커서 (정리 전 원본 행)
+     */
+    Cursor<OrderResponseDto> streamOrderResponses(@Param("departmentId") Long departmentId,
+                                                  @Param("from") LocalDate from,
+                                                  @Param("to") LocalDate to);
+
+    /**
+     * 기간 주문 분석용 스캔 (최소 컬럼만 한 행씩 handler로 전달, 결과 목록을 만들지 않음)
+     * @param departmentId 부서 ID (null이면 전체 부서)
+     * @param from 시작 날짜
+     * @param to 종료 날짜
+     * @param handler 행 처리기
+     */
+    void scanAnalyticsRows(@Param("departmentId") Long departmentId,
+                           @Param("from") LocalDate from,
+                           @Param("to") LocalDate to,
+                           ResultHandler<OrderAnalyticsRow> handler);
+
+    /**
+     * 주문 일괄 INSERT (다건 VALUES 한 문장, 생성된 ID는 각 Order의 id에 채워짐)
+     * @param orders 저장할 주문 목록 (team/department/menu/twosomeMenu는 ID만 사용)
+     * @return 저장된 행 수
+     */
+    int insertOrders(@Param("orders") List<Order> orders);
+
+    /**
+     * 주문 부분 수정 (삭제되지 않은 주문만, UPDATE 한 문장으로 변경 후 행과 변경 전 메뉴 반환)
+     * null인 값은 변경하지 않으며, menuType을 바꾸면 다른 타입의 메뉴 ID는 비운다.
+     * @param id 주문 ID
+     * @param menuType 변경할 메뉴 타입 (null이면 메뉴 유지)
+     * @param menuId 커스텀 메뉴 ID (CUSTOM)
+     * @param twosomeMenuId 투썸 메뉴 ID (TWOSOME)
+     * @param personalOption 개인 옵션 (null이면 유지, 빈 문자열이면 NULL로 저장)
+     * @return 변경된 행 (previous* 필드에 변경 전 메뉴, 대상이 없으면 null)
+     */
+    OrderUpdatedRow updateOrderPartially(@Param("id") Long id,
+                                         @Param("menuType") String menuType,
+                                         @Param("menuId") Long menuId,
+                                         @Param("twosomeMenuId") Long twosomeMenuId,
+                                         @Param("personalOption") String personalOption);
+
+    /**
+     * 주문 일괄 소프트 삭제 (삭제되지 않은 주문만, UPDATE 한 문장)
+     * @param ids 주문 ID 목록
+     * @return 삭제된 행 (id, departmentId, teamId, 메뉴 타입/ID, orderDate만 채워짐)
+     */
+    List<OrderUpdatedRow> softDeleteOrders(@Param("ids") Collection<Long> ids);
+}
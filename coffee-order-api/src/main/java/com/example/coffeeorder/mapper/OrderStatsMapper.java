@@ -0,0 +1,97 @@
+package com.example.coffeeorder.mapper;
+
+import com.example.coffeeorder.dto.OrderStatsDto;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface OrderStatsMapper {
+
+    /**
+     * 기준 시각 이후 생성/수정/삭제된 주문의 주문 날짜 목록
+     * @param since 기준 시각 (null이면 전체 주문 날짜)
+     * @return 변경된 주문 날짜 목록 (오름차순)
+     */
+    List<LocalDate> findChangedOrderDates(@Param("since") LocalDateTime since);
+
+    /**
+     * 일별 통계 삭제 (재집계 전)
+     * @param dates 대상 날짜 목록
+     * @return 삭제된 행 수
+     */
+    int deleteDailyStats(@Param("dates") Collection<LocalDate> dates);
+
+    /**
+     * 주문 원본에서 일별 통계 집계 INSERT (부서, 날짜, 메뉴별 한 행)
+     * @param dates 대상 날짜 목록
+     * @param now 집계 시각
+     * @return 저장된 행 수
+     */
+    int insertDailyStats(@Param("dates") Collection<LocalDate> dates,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * 월별 통계 삭제 (재집계 전)
+     * @param month 대상 월 1일
+     * @return 삭제된 행 수
+     */
+    int deleteMonthlyStats(@Param("month") LocalDate month);
+
+    /**
+     * 일별 통계를 합산해서 월별 통계 INSERT
+     * @param month 대상 월 1일
+     * @param nextMonth 다음 월 1일
+     * @param now 집계 시각
+     * @return 저장된 행 수
+     */
+    int insertMonthlyStats(@Param("month") LocalDate month,
+                           @Param("nextMonth") LocalDate nextMonth,
+                           @Param("now") LocalDateTime now);
+
+    /**
+     * 일별 통계 조회
+     * @param departmentId 부서 ID (null이면 전체 부서)
+     * @param from 시작 날짜
+     * @param to 종료 날짜
+     * @return 날짜 오름차순, 같은 날짜는 주문 수 내림차순
+     */
+    List<OrderStatsDto> findDailyStats(@Param("departmentId") Long departmentId,
+                                       @Param("from") LocalDate from,
+                                       @Param("to") LocalDate to);
+
+    /**
+     * 월별 통계 조회
+     * @param departmentId 부서 ID (null이면 전체 부서)
+     * @param from 시작 월 1일
+     * @param to 종료 월 1일
+     * @return 월 오름차순, 같은 월은 주문 수 내림차순
+     */
+    List<OrderStatsDto> findMonthlyStats(@Param("departmentId") Long departmentId,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to);
+
+    /**
+     * 기간 메뉴별 합계 (월별 통계 합산, 예: 분기별 메뉴 순위)
+     * @param departmentId 부서 ID (null이면 전체 부서)
+     * @param from 시작 월 1일
+     * @param to 종료 월 1일
+     * @return 주문 수 내림차순
+     */
+    List<OrderStatsDto> findMenuTotals(@Param("departmentId") Long departmentId,
+                                       @Param("from") LocalDate from,
+                                       @Param("to") LocalDate to);
+
+    /**
+     * 주문 원본에서 부서/날짜/메뉴별 주문 수 (메뉴 인기 점수 최초 적재용, 통계 롤업 전이어도 정확)
+     * @param menuType 메뉴 타입 (CUSTOM 또는 TWOSOME)
+     * @param from 시작 날짜
+     * @return 부서/날짜/메뉴별 한 행 (period = 주문 날짜)
+     */
+    List<OrderStatsDto> findMenuDailyCounts(@Param("menuType") String menuType,
+                                            @Param("from") LocalDate from);
+}
@@ -0,0 +1,26 @@
+package com.example.coffeeorder.repository;
+
+import com.example.coffeeorder.entity.MenuPopularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MenuPopularityRepository extends JpaRepository<MenuPopularity, Long> {
+
+    List<MenuPopularity> findByMenuIdIn(Collection<Long> menuIds);
+
+    // 전체 점수 감쇠 (UPDATE 한 문장)
+    @Transactional
+    @Modifying
+    @Query("UPDATE MenuPopularity p SET p.score = p.score * :factor, p.scoreDate = :scoreDate, p.updatedTime = :now")
+    int decayAll(@Param("factor") double factor, @Param("scoreDate") LocalDate scoreDate, @Param("now") LocalDateTime now);
+}
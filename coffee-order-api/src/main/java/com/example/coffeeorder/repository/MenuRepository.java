@@ -3,11 +3,12 @@ package com.example.coffeeorder.repository;
 import com.example.coffeeorder.entity.Department;
 import com.example.coffeeorder.entity.Menu;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,21 +21,15 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
     // 부서별 메뉴 조회
     List<Menu> findByDepartmentAndDelYnOrderByNameAsc(Department department, String delYn);
 
-    // 부서 ID로 메뉴 조회
-    List<Menu> findByDepartmentIdAndDelYnOrderByNameAsc(Long departmentId, String delYn);
+    // 부서 ID로 메뉴 조회 (department 조인 없이 FK 컬럼으로 필터링해 idx_menu_dept_name 사용)
+    @Query("SELECT m FROM Menu m WHERE m.department.id = :departmentId AND m.delYn = :delYn ORDER BY m.name")
+    List<Menu> findByDepartmentIdAndDelYnOrderByNameAsc(@Param("departmentId") Long departmentId, @Param("delYn") String delYn);
 
     // ID와 부서로 조회
     Optional<Menu> findByIdAndDepartment(Long id, Department department);
 
-    // 최근 3개월 주문 많은 순으로 정렬
-    @Query("SELECT m FROM Menu m WHERE m.delYn = 'N' ORDER BY " +
-           "(SELECT COUNT(o) FROM Order o WHERE o.menu.id = m.id " +
-           "AND o.delYn = 'N' AND o.orderDate >= :threeMonthsAgo) DESC")
-    List<Menu> findAllOrderByRecentOrderCount(@Param("threeMonthsAgo") LocalDate threeMonthsAgo);
-
-    // 부서별 최근 3개월 주문 많은 순으로 정렬
-    @Query("SELECT m FROM Menu m WHERE m.department.id = :departmentId AND m.delYn = 'N' ORDER BY " +
-           "(SELECT COUNT(o) FROM Order o WHERE o.menu.id = m.id " +
-           "AND o.delYn = 'N' AND o.orderDate >= :threeMonthsAgo) DESC")
-    List<Menu> findByDepartmentOrderByRecentOrderCount(@Param("departmentId") Long departmentId, @Param("threeMonthsAgo") LocalDate threeMonthsAgo);
+    // 메뉴 일괄 소프트 삭제 (UPDATE 한 문장, 이미 삭제된 항목은 제외)
+    @Modifying
+    @Query("UPDATE Menu m SET m.delYn = 'Y' WHERE m.id IN :ids AND m.delYn = 'N'")
+    int softDeleteByIdIn(@Param("ids") Collection<Long> ids);
 }
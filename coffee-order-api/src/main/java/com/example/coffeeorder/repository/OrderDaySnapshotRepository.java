@@ -0,0 +1,20 @@
+package com.example.coffeeorder.repository;
+
+import com.example.coffeeorder.entity.OrderDaySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OrderDaySnapshotRepository extends JpaRepository<OrderDaySnapshot, Long> {
+
+    Optional<OrderDaySnapshot> findByDepartmentIdAndOrderDate(Long departmentId, LocalDate orderDate);
+
+    // 저장된 스냅샷의 (부서 ID, 날짜) 목록 (JSON 본문은 읽지 않음)
+    @Query("SELECT s.departmentId, s.orderDate FROM OrderDaySnapshot s")
+    List<Object[]> findAllKeys();
+}
@@ -4,9 +4,12 @@ import com.example.coffeeorder.entity.Department;
 import com.example.coffeeorder.entity.Order;
 import com.example.coffeeorder.entity.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,17 +20,26 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     // 부서별 날짜 주문 조회
     List<Order> findByDepartmentAndOrderDateAndDelYn(Department department, LocalDate orderDate, String delYn);
 
-    // 부서 ID와 날짜로 주문 조회
-    List<Order> findByDepartmentIdAndOrderDateAndDelYn(Long departmentId, LocalDate orderDate, String delYn);
+    // 부서 ID와 날짜로 주문 조회 (department 조인 없이 FK 컬럼으로 필터링해 idx_orders_dept_recent 사용)
+    @Query("SELECT o FROM Order o WHERE o.department.id = :departmentId AND o.orderDate = :orderDate AND o.delYn = :delYn")
+    List<Order> findByDepartmentIdAndOrderDateAndDelYn(@Param("departmentId") Long departmentId,
+                                                       @Param("orderDate") LocalDate orderDate,
+                                                       @Param("delYn") String delYn);
 
     Optional<Order> findByTeamAndOrderDateAndDelYn(Team team, LocalDate orderDate, String delYn);
 
-    // 특정 날짜에 팀원이 이미 주문했는지 확인
-    boolean existsByTeamAndOrderDateAndDelYn(Team team, LocalDate orderDate, String delYn);
+    // 여러 팀원의 활성 주문 (팀원 ID, 주문 날짜) 목록 조회 (일괄 주문 중복 체크용)
+    @Query("SELECT o.team.id, o.orderDate FROM Order o " +
+           "WHERE o.team.id IN :teamIds AND o.orderDate IN :orderDates AND o.delYn = 'N'")
+    List<Object[]> findActiveTeamOrderDates(@Param("teamIds") Collection<Long> teamIds,
+                                            @Param("orderDates") Collection<LocalDate> orderDates);
 
     // 특정 팀원의 최근 주문 조회 (날짜 내림차순, 생성시간 내림차순)
     Optional<Order> findTopByTeamAndDelYnOrderByOrderDateDescCreatedTimeDesc(Team team, String delYn);
 
     // 부서별 오늘 주문 수 조회
-    long countByDepartmentIdAndOrderDateAndDelYn(Long departmentId, LocalDate orderDate, String delYn);
+    @Query("SELECT COUNT(o) FROM Order o WHERE o.department.id = :departmentId AND o.orderDate = :orderDate AND o.delYn = :delYn")
+    long countByDepartmentIdAndOrderDateAndDelYn(@Param("departmentId") Long departmentId,
+                                                @Param("orderDate") LocalDate orderDate,
+                                                @Param("delYn") String delYn);
 }
@@ -15,6 +15,9 @@ public interface SettingsRepository extends JpaRepository<Settings, Long> {
     // 부서 ID로 설정 조회 (첫 번째 결과만 반환)
     Optional<Settings> findFirstByDepartmentId(Long departmentId);
 
+    // 가장 먼저 만든 설정 조회 (부서 미지정 하위 호환용)
+    Optional<Settings> findFirstByOrderByIdAsc();
+
     // 부서 ID로 설정 존재 여부 확인
     boolean existsByDepartmentId(Long departmentId);
 }
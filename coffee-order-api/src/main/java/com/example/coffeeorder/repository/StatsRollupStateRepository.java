@@ -0,0 +1,9 @@
+package com.example.coffeeorder.repository;
+
+import com.example.coffeeorder.entity.StatsRollupState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StatsRollupStateRepository extends JpaRepository<StatsRollupState, String> {
+}
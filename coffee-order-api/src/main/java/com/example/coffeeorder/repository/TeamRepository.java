@@ -3,8 +3,12 @@ package com.example.coffeeorder.repository;
 import com.example.coffeeorder.entity.Department;
 import com.example.coffeeorder.entity.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,9 +19,15 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
     // 부서별 팀원 조회
     List<Team> findByDepartmentAndDelYnOrderByIdAsc(Department department, String delYn);
 
-    // 부서 ID와 삭제 여부로 조회
-    List<Team> findByDepartmentIdAndDelYnOrderByIdAsc(Long departmentId, String delYn);
+    // 부서 ID와 삭제 여부로 조회 (department 조인 없이 FK 컬럼으로 필터링해 idx_team_dept 사용)
+    @Query("SELECT t FROM Team t WHERE t.department.id = :departmentId AND t.delYn = :delYn ORDER BY t.id")
+    List<Team> findByDepartmentIdAndDelYnOrderByIdAsc(@Param("departmentId") Long departmentId, @Param("delYn") String delYn);
 
     // ID와 부서로 조회
     Optional<Team> findByIdAndDepartment(Long id, Department department);
-}
\ No newline at end of file
+
+    // 팀원 일괄 소프트 삭제 (UPDATE 한 문장, 이미 삭제된 항목은 제외)
+    @Modifying
+    @Query("UPDATE Team t SET t.delYn = 'Y' WHERE t.id IN :ids AND t.delYn = 'N'")
+    int softDeleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -2,8 +2,12 @@ package com.example.coffeeorder.repository;
 
 import com.example.coffeeorder.entity.TwosomeMenu;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,4 +28,9 @@ public interface TwosomeMenuRepository extends JpaRepository<TwosomeMenu, Long>
 
     // 메뉴코드 존재 여부 확인
     boolean existsByMenuCd(String menuCd);
-}
\ No newline at end of file
+
+    // 투썸 메뉴 일괄 소프트 삭제 (UPDATE 한 문장, 이미 삭제된 항목은 제외)
+    @Modifying
+    @Query("UPDATE TwosomeMenu m SET m.delYn = 'Y', m.updatedDate = LOCAL DATETIME WHERE m.id IN :ids AND m.delYn = 'N'")
+    int softDeleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,105 @@
+package com.example.coffeeorder.search;
+
+import java.util.Locale;
+
+/**
+ * 검색용 한글 문자열 변환 (음절 분해, 초성 추출)
+ * 입력 중인 글자("카펠" = 카페 + ㄹ)도 맞출 수 있도록 음절을 호환 자모로 풀고,
+ * 겹자음/겹모음(ㄺ, ㅘ 등)도 낱자로 나눠 검색어와 메뉴명을 같은 기준으로 비교한다.
+ */
+public final class HangulText {
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNGSUNG_COUNT = 21;
+    private static final int JONGSUNG_COUNT = 28;
+
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private static final String[] JUNGSUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONGSUNG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 검색어에 낱자로 들어온 겹자음/겹모음 -> 낱자
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_PARTS = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private HangulText() {
+    }
+
+    /**
+     * 비교용 정규화 (소문자, 앞뒤 공백 제거, 연속 공백은 하나로)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 음절을 자모로 분해 (공백 제외, 한글이 아닌 문자는 그대로)
+     * 예) "카페 라떼" -> "ㅋㅏㅍㅔㄹㅏㄸㅔ"
+     */
+    public static String decompose(String text) {
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST) {
+                int offset = c - SYLLABLE_FIRST;
+                jamo.append(CHOSUNG.charAt(offset / (JUNGSUNG_COUNT * JONGSUNG_COUNT)))
+                        .append(JUNGSUNG[offset / JONGSUNG_COUNT % JUNGSUNG_COUNT])
+                        .append(JONGSUNG[offset % JONGSUNG_COUNT]);
+            } else if (COMPOUND_JAMO.indexOf(c) >= 0) {
+                jamo.append(COMPOUND_JAMO_PARTS[COMPOUND_JAMO.indexOf(c)]);
+            } else if (!Character.isWhitespace(c)) {
+                jamo.append(c);
+            }
+        }
+        return jamo.toString();
+    }
+
+    /**
+     * 초성 추출 (공백 제외, 한글이 아닌 문자는 그대로)
+     * 예) "카페 라떼" -> "ㅋㅍㄹㄸ"
+     */
+    public static String chosung(String text) {
+        StringBuilder initials = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST) {
+                initials.append(CHOSUNG.charAt((c - SYLLABLE_FIRST) / (JUNGSUNG_COUNT * JONGSUNG_COUNT)));
+            } else if (!Character.isWhitespace(c)) {
+                initials.append(c);
+            }
+        }
+        return initials.toString();
+    }
+
+    /**
+     * 초성만으로 된 검색어인지 (공백 제외, 예: "ㅇㅁㄹㅋㄴ")
+     */
+    public static boolean isChosung(String text) {
+        boolean found = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (CHOSUNG.indexOf(c) < 0) {
+                return false;
+            }
+            found = true;
+        }
+        return found;
+    }
+}
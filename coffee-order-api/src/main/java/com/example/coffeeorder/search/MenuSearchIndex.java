@@ -0,0 +1,289 @@
+package com.example.coffeeorder.search;
+
+import com.example.coffeeorder.dto.MenuSearchResultDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 메뉴명 검색 인덱스 (불변, 한 번 만들면 여러 스레드가 락 없이 조회)
+ * 메뉴명/영문명은 자모로 분해한 키, 한글 메뉴명은 초성 키로도 색인한다.
+ * 키마다 앞부분은 트라이(전체 이름 시작, 단어 시작)로, 중간 부분은 2-gram 역색인 교집합 후 포함 여부로 찾는다.
+ * 순위는 이름 시작 일치 > 단어 시작 일치 > 중간 일치, 같으면 짧은 이름과 색인 순서(투썸 분류/정렬 순서, 커스텀 메뉴) 순.
+ */
+public final class MenuSearchIndex {
+
+    public static final MenuSearchIndex EMPTY = new Builder().build();
+
+    private static final int[] NO_DOCS = new int[0];
+
+    private final List<Document> documents;
+    private final KeySpace jamo;
+    private final KeySpace chosung;
+
+    private MenuSearchIndex(List<Document> documents, KeySpace jamo, KeySpace chosung) {
+        this.documents = documents;
+        this.jamo = jamo;
+        this.chosung = chosung;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * 메뉴 검색
+     * 초성만 입력하면 초성으로, 아니면 자모 단위로 비교하므로 입력 중인 마지막 글자도 맞는다.
+     * @param query 검색어
+     * @param departmentId 부서 ID (커스텀 메뉴는 이 부서 메뉴만, 투썸 메뉴는 항상 포함)
+     * @param limit 최대 건수
+     */
+    public List<MenuSearchResultDto> search(String query, Long departmentId, int limit) {
+        String normalized = HangulText.normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        boolean initialsOnly = HangulText.isChosung(normalized);
+        KeySpace space = initialsOnly ? chosung : jamo;
+        String key = initialsOnly ? HangulText.chosung(normalized) : HangulText.decompose(normalized);
+
+        // 문서별 가장 좋은 일치 순위 (0: 이름 시작, 1: 단어 시작, 2: 중간)
+        Map<Integer, Integer> ranks = new HashMap<>();
+        collect(ranks, space.names.find(key), 0, departmentId);
+        collect(ranks, space.words.find(key), 1, departmentId);
+        for (int doc : space.contains(key)) {
+            if (!ranks.containsKey(doc) && visible(doc, departmentId)) {
+                ranks.put(doc, 2);
+            }
+        }
+
+        return ranks.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<Integer, Integer>>comparingInt(Map.Entry::getValue)
+                        .thenComparingInt(entry -> documents.get(entry.getKey()).length())
+                        .thenComparingInt(Map.Entry::getKey))
+                .limit(limit)
+                .map(entry -> documents.get(entry.getKey()).result())
+                .toList();
+    }
+
+    private void collect(Map<Integer, Integer> ranks, int[] docs, int rank, Long departmentId) {
+        for (int doc : docs) {
+            if (visible(doc, departmentId)) {
+                ranks.putIfAbsent(doc, rank);
+            }
+        }
+    }
+
+    private boolean visible(int doc, Long departmentId) {
+        Document document = documents.get(doc);
+        return !"CUSTOM".equals(document.result().getMenuType())
+                || Objects.equals(document.departmentId(), departmentId);
+    }
+
+    // 색인 문서 (검색 결과는 미리 만들어 두고 그대로 반환)
+    private record Document(MenuSearchResultDto result, Long departmentId, int length) {
+    }
+
+    /**
+     * 인덱스 생성기 (투썸 메뉴, 커스텀 메뉴 순으로 추가)
+     */
+    public static final class Builder {
+
+        private final List<Document> documents = new ArrayList<>();
+        private final KeySpace.Builder jamo = new KeySpace.Builder();
+        private final KeySpace.Builder chosung = new KeySpace.Builder();
+
+        private Builder() {
+        }
+
+        /**
+         * 문서 추가
+         * @param result 검색 결과로 돌려줄 값 (name/enName을 색인)
+         * @param departmentId 커스텀 메뉴의 부서 ID (투썸 메뉴는 null)
+         */
+        public Builder add(MenuSearchResultDto result, Long departmentId) {
+            int doc = documents.size();
+            String name = HangulText.normalize(result.getName());
+            documents.add(new Document(result, departmentId, name.length()));
+
+            for (String text : new String[]{name, HangulText.normalize(result.getEnName())}) {
+                if (!text.isEmpty()) {
+                    jamo.add(doc, text, HangulText::decompose);
+                }
+            }
+            if (!name.isEmpty()) {
+                chosung.add(doc, name, HangulText::chosung);
+            }
+            return this;
+        }
+
+        public MenuSearchIndex build() {
+            return new MenuSearchIndex(List.copyOf(documents), jamo.build(), chosung.build());
+        }
+    }
+
+    /**
+     * 한 가지 키 변환(자모/초성)의 색인
+     */
+    private static final class KeySpace {
+
+        private final Trie names;
+        private final Trie words;
+        private final Map<String, int[]> bigrams;
+        private final Map<Character, int[]> unigrams;
+        // 문서별 키 (2-gram 후보의 실제 포함 여부 확인용)
+        private final Map<Integer, List<String>> keys;
+
+        private KeySpace(Trie names, Trie words, Map<String, int[]> bigrams, Map<Character, int[]> unigrams,
+                         Map<Integer, List<String>> keys) {
+            this.names = names;
+            this.words = words;
+            this.bigrams = bigrams;
+            this.unigrams = unigrams;
+            this.keys = keys;
+        }
+
+        // 키를 포함하는 문서 (2-gram 목록 교집합 후 포함 여부 확인, 한 글자면 1-gram 목록)
+        int[] contains(String key) {
+            if (key.length() == 1) {
+                return unigrams.getOrDefault(key.charAt(0), NO_DOCS);
+            }
+            int[] candidates = null;
+            for (int i = 0; i + 2 <= key.length(); i++) {
+                int[] posting = bigrams.get(key.substring(i, i + 2));
+                if (posting == null) {
+                    return NO_DOCS;
+                }
+                candidates = candidates == null ? posting : intersect(candidates, posting);
+                if (candidates.length == 0) {
+                    return NO_DOCS;
+                }
+            }
+            return Arrays.stream(candidates)
+                    .filter(doc -> keys.get(doc).stream().anyMatch(text -> text.contains(key)))
+                    .toArray();
+        }
+
+        private static int[] intersect(int[] left, int[] right) {
+            int[] result = new int[Math.min(left.length, right.length)];
+            int i = 0;
+            int j = 0;
+            int size = 0;
+            while (i < left.length && j < right.length) {
+                if (left[i] < right[j]) {
+                    i++;
+                } else if (left[i] > right[j]) {
+                    j++;
+                } else {
+                    result[size++] = left[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+        private static final class Builder {
+
+            private final Trie names = new Trie();
+            private final Trie words = new Trie();
+            private final Map<String, BitSet> bigrams = new HashMap<>();
+            private final Map<Character, BitSet> unigrams = new HashMap<>();
+            private final Map<Integer, List<String>> keys = new HashMap<>();
+
+            // 정규화된 텍스트를 키로 바꿔 색인 (단어마다 따로 변환해 단어 시작 위치를 기록)
+            void add(int doc, String text, Function<String, String> toKey) {
+                String[] parts = text.split(" ");
+                StringBuilder key = new StringBuilder();
+                List<Integer> wordStarts = new ArrayList<>(parts.length);
+                for (String part : parts) {
+                    wordStarts.add(key.length());
+                    key.append(toKey.apply(part));
+                }
+                String full = key.toString();
+                if (full.isEmpty()) {
+                    return;
+                }
+
+                names.insert(full, doc);
+                for (int start : wordStarts.subList(1, wordStarts.size())) {
+                    if (start < full.length()) {
+                        words.insert(full.substring(start), doc);
+                    }
+                }
+                for (int i = 0; i < full.length(); i++) {
+                    unigrams.computeIfAbsent(full.charAt(i), k -> new BitSet()).set(doc);
+                    if (i + 2 <= full.length()) {
+                        bigrams.computeIfAbsent(full.substring(i, i + 2), k -> new BitSet()).set(doc);
+                    }
+                }
+                keys.computeIfAbsent(doc, k -> new ArrayList<>()).add(full);
+            }
+
+            KeySpace build() {
+                names.freeze();
+                words.freeze();
+                Map<String, int[]> frozenBigrams = new HashMap<>();
+                bigrams.forEach((gram, docs) -> frozenBigrams.put(gram, docs.stream().toArray()));
+                Map<Character, int[]> frozenUnigrams = new HashMap<>();
+                unigrams.forEach((c, docs) -> frozenUnigrams.put(c, docs.stream().toArray()));
+                Map<Integer, List<String>> frozenKeys = new HashMap<>();
+                keys.forEach((doc, texts) -> frozenKeys.put(doc, List.copyOf(texts)));
+                return new KeySpace(names, words, Map.copyOf(frozenBigrams), Map.copyOf(frozenUnigrams),
+                        Map.copyOf(frozenKeys));
+            }
+        }
+    }
+
+    /**
+     * 접두사 트라이 (노드마다 그 아래 키를 가진 문서 목록을 미리 담아 두어 조회는 검색어 길이만큼만 내려감)
+     */
+    private static final class Trie {
+
+        private final Node root = new Node();
+
+        void insert(String key, int doc) {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), k -> new Node());
+                node.building.set(doc);
+            }
+        }
+
+        int[] find(String prefix) {
+            Node node = root;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.children.get(prefix.charAt(i));
+            }
+            return node != null ? node.docs : NO_DOCS;
+        }
+
+        // 생성 완료 (문서 목록을 정렬된 배열로 고정)
+        void freeze() {
+            root.freeze();
+        }
+
+        private static final class Node {
+            private final Map<Character, Node> children = new HashMap<>();
+            private BitSet building = new BitSet();
+            private int[] docs = NO_DOCS;
+
+            void freeze() {
+                docs = building.stream().toArray();
+                building = null;
+                children.values().forEach(Node::freeze);
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@ import java.util.stream.Collectors;
 public class DepartmentService {
 
     private final DepartmentRepository departmentRepository;
+    private final SettingsService settingsService;
 
     // 전체 팀 목록 조회 (삭제되지 않은 것만)
     public List<DepartmentDto> findAll() {
@@ -38,6 +39,8 @@ public class DepartmentService {
         Department department = new Department();
         department.setName(name);
         Department saved = departmentRepository.save(department);
+        // 주문 가능 여부 조회 시 설정을 만들지 않도록 생성 시점에 기본 설정 저장
+        settingsService.provisionDefaults(saved);
         return DepartmentDto.from(saved);
     }
 
@@ -0,0 +1,193 @@
+package com.example.coffeeorder.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Idempotency-Key 중복 요청 저장소
+ * 같은 키로 재시도된 요청에는 처음 응답을 그대로 돌려주기 위해 응답을 짧은 기간 보관한다.
+ * 기본은 인메모리(TTL 만료)이며, app.idempotency.redis-enabled=true 이면 Redis에도 저장해 여러 인스턴스가 공유한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // Redis 키 접두사
+    private static final String REDIS_KEY_PREFIX = "idempotency:";
+    // 처리 중 표시 (Redis 저장값)
+    private static final String PENDING_VALUE = "PENDING";
+    // 처리 중 상태 최대 유지 시간 (요청 스레드가 비정상 종료된 경우 대비)
+    private static final Duration PENDING_TTL = Duration.ofMinutes(1);
+
+    @Value("${app.idempotency.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    @Value("${app.idempotency.redis-enabled:false}")
+    private boolean redisEnabled;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 키 선점 시도
+     * @param key Idempotency-Key
+     * @param fingerprint 요청 본문 식별값 (같은 키로 다른 요청이 들어오는지 확인용)
+     */
+    public Claim claim(String key, String fingerprint) {
+        long now = System.currentTimeMillis();
+        Entry pending = new Entry(fingerprint, 0, null, now + PENDING_TTL.toMillis());
+
+        Entry existing = entries.compute(key, (k, current) ->
+                current == null || current.isExpired(now) ? pending : current);
+
+        if (existing == pending) {
+            // 다른 인스턴스에서 먼저 처리한 요청인지 확인
+            if (redisEnabled) {
+                Claim remote = claimRemote(key, fingerprint);
+                if (remote.getStatus() != ClaimStatus.ACQUIRED) {
+                    entries.remove(key, pending);
+                }
+                return remote;
+            }
+            return Claim.acquired();
+        }
+        return toClaim(existing, fingerprint);
+    }
+
+    /**
+     * 처리 결과 저장 (이후 같은 키의 요청은 이 응답을 재사용)
+     */
+    public void complete(String key, String fingerprint, int status, String body) {
+        Duration ttl = Duration.ofMinutes(ttlMinutes);
+        entries.put(key, new Entry(fingerprint, status, body, System.currentTimeMillis() + ttl.toMillis()));
+
+        if (redisEnabled) {
+            try {
+                stringRedisTemplate.opsForValue().set(REDIS_KEY_PREFIX + key, encode(fingerprint, status, body), ttl);
+            } catch (Exception e) {
+                log.warn("Failed to store idempotent response in Redis: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 선점 해제 (예기치 못한 오류로 응답을 저장하지 않는 경우)
+     */
+    public void release(String key) {
+        entries.remove(key);
+
+        if (redisEnabled) {
+            try {
+                stringRedisTemplate.delete(REDIS_KEY_PREFIX + key);
+            } catch (Exception e) {
+                log.warn("Failed to release idempotency key in Redis: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 만료된 키 정리 (1분마다)
+     */
+    @Scheduled(fixedRate = 60000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    private Claim claimRemote(String key, String fingerprint) {
+        String redisKey = REDIS_KEY_PREFIX + key;
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(redisKey, PENDING_VALUE, PENDING_TTL);
+            if (Boolean.TRUE.equals(acquired)) {
+                return Claim.acquired();
+            }
+
+            String value = stringRedisTemplate.opsForValue().get(redisKey);
+            if (value == null) {
+                // 그 사이 만료된 경우 다시 선점
+                return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(redisKey, PENDING_VALUE, PENDING_TTL))
+                        ? Claim.acquired() : Claim.inProgress();
+            }
+            if (PENDING_VALUE.equals(value)) {
+                return Claim.inProgress();
+            }
+
+            Entry stored = decode(value);
+            entries.put(key, stored);
+            return toClaim(stored, fingerprint);
+        } catch (Exception e) {
+            // Redis 장애 시 인메모리 기준으로만 처리
+            log.warn("Failed to check idempotency key in Redis: {}", e.getMessage());
+            return Claim.acquired();
+        }
+    }
+
+    private Claim toClaim(Entry entry, String fingerprint) {
+        if (!entry.fingerprint().equals(fingerprint)) {
+            return Claim.mismatch();
+        }
+        if (entry.body() == null) {
+            return Claim.inProgress();
+        }
+        return Claim.completed(entry.status(), entry.body());
+    }
+
+    // Redis 저장 형식: 상태코드 \n 요청식별값 \n 응답본문
+    private String encode(String fingerprint, int status, String body) {
+        return status + "\n" + fingerprint + "\n" + body;
+    }
+
+    private Entry decode(String value) {
+        String[] parts = value.split("\n", 3);
+        return new Entry(parts[1], Integer.parseInt(parts[0]), parts[2],
+                System.currentTimeMillis() + Duration.ofMinutes(ttlMinutes).toMillis());
+    }
+
+    private record Entry(String fingerprint, int status, String body, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    public enum ClaimStatus {
+        ACQUIRED,     // 처음 들어온 요청 (처리 진행)
+        IN_PROGRESS,  // 같은 키의 요청이 아직 처리 중
+        COMPLETED,    // 이미 처리된 요청 (저장된 응답 재사용)
+        MISMATCH      // 같은 키로 다른 내용의 요청
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Claim {
+        private final ClaimStatus status;
+        private final int responseStatus;
+        private final String responseBody;
+
+        static Claim acquired() {
+            return new Claim(ClaimStatus.ACQUIRED, 0, null);
+        }
+
+        static Claim inProgress() {
+            return new Claim(ClaimStatus.IN_PROGRESS, 0, null);
+        }
+
+        static Claim mismatch() {
+            return new Claim(ClaimStatus.MISMATCH, 0, null);
+        }
+
+        static Claim completed(int status, String body) {
+            return new Claim(ClaimStatus.COMPLETED, status, body);
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.dto.OrderResponseDto;
+import com.example.coffeeorder.dto.OrderStatsDto;
+import com.example.coffeeorder.entity.Menu;
+import com.example.coffeeorder.entity.MenuPopularity;
+import com.example.coffeeorder.event.OrderChangedEvent;
+import com.example.coffeeorder.mapper.OrderMapper;
+import com.example.coffeeorder.mapper.OrderStatsMapper;
+import com.example.coffeeorder.repository.MenuPopularityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 커스텀 메뉴 인기 순위 (시간 감쇠 점수, 인메모리)
+ * 메뉴 목록을 열 때마다 3개월치 주문을 메뉴별로 세던 정렬을 대신해, 부서별로 점수 높은 순 메뉴 ID 목록을 유지한다.
+ * 주문 한 건은 주문 날짜 기준 1점이고 반감기마다 절반이 되며, 생성/수정/삭제는 커밋 이후 OrderChangedEvent로 반영한다.
+ * 점수는 menu_popularity에 주기적으로 저장하고, 매일 새벽 한 번 전체를 감쇠한다. (기동 시 저장된 점수를 적재)
+ * 주문 수정으로 메뉴가 바뀌면 이벤트에 실린 수정 전 메뉴에서 빼고 새 메뉴에 더한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuPopularityIndex {
+
+    // 한국 시간 기준 ZoneId
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    // 부서 없는 주문의 부서 키 (order_daily_stats와 같은 규칙)
+    private static final Long NO_DEPARTMENT = 0L;
+
+    // 이보다 작은 점수는 0 (순위에서 제외)
+    private static final double MIN_SCORE = 1e-9;
+
+    private final MenuPopularityRepository menuPopularityRepository;
+    private final OrderStatsMapper orderStatsMapper;
+    private final OrderMapper orderMapper;
+
+    // 점수 반감기 (일)
+    @Value("${app.menu.popularity.half-life-days:30}")
+    private int halfLifeDays;
+
+    // 최초 적재 시 읽을 기간 (일, 이보다 오래된 주문은 점수에 거의 영향 없음)
+    @Value("${app.menu.popularity.window-days:180}")
+    private int windowDays;
+
+    // 부서 ID -> (메뉴 ID -> 점수), 락 안에서만 변경
+    private final Map<Long, Map<Long, Double>> scores = new HashMap<>();
+
+    // 부서 ID -> 점수 높은 순 메뉴 ID (불변 목록으로 교체, 조회는 락 없이 읽음)
+    private final Map<Long, List<Long>> rankings = new ConcurrentHashMap<>();
+
+    // 저장 대기 중인 (부서 ID, 메뉴 ID)
+    private final Set<ScoreKey> dirty = new HashSet<>();
+
+    // 점수가 감쇠된 기준 날짜 (적재 전이면 null)
+    private volatile LocalDate scoreDate;
+
+    // 점수 변경 직렬화용 락 (순위 조회는 락 없이 읽음)
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // 저장/감쇠 직렬화용 락 (DB 작업 중에도 주문 반영은 막지 않도록 writeLock과 분리)
+    private final ReentrantLock persistLock = new ReentrantLock();
+
+    /**
+     * 부서 메뉴를 인기 순으로 정렬 (점수 없는 메뉴는 받은 순서대로 뒤에)
+     * 순위 목록을 한 번 훑으므로 메뉴 수에 비례하고 주문은 읽지 않는다.
+     * @param menus 부서의 메뉴 (이름순)
+     */
+    public List<Menu> rank(Long departmentId, List<Menu> menus) {
+        List<Long> ranking = rankings.getOrDefault(departmentId, List.of());
+        if (ranking.isEmpty()) {
+            return menus;
+        }
+
+        Map<Long, Menu> remaining = new LinkedHashMap<>();
+        for (Menu menu : menus) {
+            remaining.put(menu.getId(), menu);
+        }
+        List<Menu> ranked = new ArrayList<>(menus.size());
+        for (Long menuId : ranking) {
+            Menu menu = remaining.remove(menuId);
+            if (menu != null) {
+                ranked.add(menu);
+            }
+        }
+        ranked.addAll(remaining.values());
+        return ranked;
+    }
+
+    /**
+     * 전체 메뉴를 인기 순으로 정렬 (부서 미지정 하위 호환용, 부서별 점수를 합산)
+     */
+    public List<Menu> rankAll(List<Menu> menus) {
+        Map<Long, Double> totals = new HashMap<>();
+        writeLock.lock();
+        try {
+            scores.values().forEach(departmentScores -> departmentScores.forEach(
+                    (menuId, score) -> totals.merge(menuId, score, Double::sum)));
+        } finally {
+            writeLock.unlock();
+        }
+        // 안정 정렬이라 점수가 같으면 받은 순서 유지
+        return menus.stream()
+                .sorted(Comparator.comparingDouble((Menu menu) -> totals.getOrDefault(menu.getId(), 0.0)).reversed())
+                .toList();
+    }
+
+    /**
+     * 기동 시 저장된 점수 적재 (없으면 최근 주문에서 한 번 계산해 저장)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        LocalDate today = LocalDate.now(KOREA_ZONE);
+        List<MenuPopularity> stored = menuPopularityRepository.findAll();
+
+        writeLock.lock();
+        try {
+            if (stored.isEmpty()) {
+                scoreDate = today;
+                for (OrderStatsDto row : orderStatsMapper.findMenuDailyCounts("CUSTOM", today.minusDays(windowDays))) {
+                    addScore(row.getDepartmentId(), row.getMenuId(), row.getOrderCount() * weight(row.getPeriod()));
+                }
+            } else {
+                scoreDate = stored.stream().map(MenuPopularity::getScoreDate).max(Comparator.naturalOrder()).orElse(today);
+                for (MenuPopularity popularity : stored) {
+                    scores.computeIfAbsent(popularity.getDepartmentId(), k -> new HashMap<>())
+                            .put(popularity.getMenuId(), popularity.getScore());
+                }
+            }
+            scores.keySet().forEach(this::publish);
+        } finally {
+            writeLock.unlock();
+        }
+
+        flush();
+        // 새벽 감쇠를 놓친 경우 (서버가 내려가 있었음)
+        if (scoreDate.isBefore(today)) {
+            decay();
+        }
+        log.info("Menu popularity loaded for {} departments (score date {})", scores.size(), scoreDate);
+    }
+
+    /**
+     * 주문 생성/수정/삭제 반영 (커밋 이후)
+     * 삭제 이벤트에는 삭제된 행의 메뉴가, 수정 이벤트에는 수정 전 메뉴가 실려 있다.
+     * 생성/수정 이벤트에 응답이 없으면 원래 트랜잭션의 커넥션으로 다시 조회한다.
+     */
+    @TransactionalEventListener
+    public void onOrderChanged(OrderChangedEvent event) {
+        if (scoreDate == null) {
+            return;
+        }
+
+        // 빼야 할 메뉴 (삭제된 주문 또는 수정 전 메뉴)
+        Long removedMenuId = switch (event.getType()) {
+            case CREATED -> null;
+            case UPDATED -> customMenuId(event.getPrevious());
+            case DELETED -> customMenuId(event.getOrder());
+        };
+        // 더해야 할 메뉴 (생성/수정 후 메뉴)
+        Long addedMenuId = null;
+        if (event.getType() != OrderChangedEvent.Type.DELETED) {
+            if (event.getType() == OrderChangedEvent.Type.UPDATED && event.getPrevious() == null) {
+                // 수정 전 메뉴를 모르면 더하지도 않음 (한쪽만 반영하면 점수가 어긋남)
+                return;
+            }
+            OrderResponseDto order = event.getOrder();
+            if (order == null) {
+                order = orderMapper.findOrderResponseById(event.getOrderId());
+            }
+            addedMenuId = customMenuId(order);
+        }
+        if (Objects.equals(removedMenuId, addedMenuId)) {
+            return;
+        }
+
+        Long departmentId = event.getDepartmentId() != null ? event.getDepartmentId() : NO_DEPARTMENT;
+        writeLock.lock();
+        try {
+            double weight = weight(event.getOrderDate());
+            if (removedMenuId != null) {
+                addScore(departmentId, removedMenuId, -weight);
+            }
+            if (addedMenuId != null) {
+                addScore(departmentId, addedMenuId, weight);
+            }
+            publish(departmentId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 변경된 점수 저장 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void flush() {
+        persistLock.lock();
+        try {
+            Map<ScoreKey, Double> pending = new HashMap<>();
+            LocalDate date;
+            writeLock.lock();
+            try {
+                if (dirty.isEmpty() || scoreDate == null) {
+                    return;
+                }
+                for (ScoreKey key : dirty) {
+                    pending.put(key, scores.get(key.departmentId()).getOrDefault(key.menuId(), 0.0));
+                }
+                dirty.clear();
+                date = scoreDate;
+            } finally {
+                writeLock.unlock();
+            }
+
+            LocalDateTime now = LocalDateTime.now(KOREA_ZONE);
+            List<Long> menuIds = pending.keySet().stream().map(ScoreKey::menuId).distinct().toList();
+            Map<ScoreKey, MenuPopularity> existing = menuPopularityRepository.findByMenuIdIn(menuIds).stream()
+                    .collect(Collectors.toMap(p -> new ScoreKey(p.getDepartmentId(), p.getMenuId()), Function.identity()));
+            List<MenuPopularity> changed = new ArrayList<>(pending.size());
+            pending.forEach((key, score) -> {
+                MenuPopularity popularity = existing.computeIfAbsent(key, k -> new MenuPopularity());
+                popularity.setDepartmentId(key.departmentId());
+                popularity.setMenuId(key.menuId());
+                popularity.setScore(score);
+                popularity.setScoreDate(date);
+                popularity.setUpdatedTime(now);
+                changed.add(popularity);
+            });
+            menuPopularityRepository.saveAll(changed);
+        } catch (RuntimeException e) {
+            log.error("Failed to store menu popularity", e);
+        } finally {
+            persistLock.unlock();
+        }
+    }
+
+    /**
+     * 매일 새벽 2시 40분 점수 감쇠 (주문 통계 롤업 이후, 지난 날짜만큼)
+     * 모든 점수에 같은 비율을 곱하므로 순위는 바뀌지 않고, 이후 주문이 상대적으로 더 큰 비중을 갖게 된다.
+     */
+    @Scheduled(cron = "0 40 2 * * *", zone = "Asia/Seoul")
+    public void decay() {
+        persistLock.lock();
+        try {
+            flush();
+            LocalDate today = LocalDate.now(KOREA_ZONE);
+            double factor;
+            writeLock.lock();
+            try {
+                if (scoreDate == null || !scoreDate.isBefore(today)) {
+                    return;
+                }
+                factor = Math.pow(0.5, (double) ChronoUnit.DAYS.between(scoreDate, today) / halfLifeDays);
+                scores.values().forEach(departmentScores -> departmentScores.replaceAll((menuId, score) -> score * factor));
+                scoreDate = today;
+            } finally {
+                writeLock.unlock();
+            }
+            int rows = menuPopularityRepository.decayAll(factor, today, LocalDateTime.now(KOREA_ZONE));
+            log.info("Menu popularity decayed by {} ({} rows)", factor, rows);
+        } catch (RuntimeException e) {
+            log.error("Failed to decay menu popularity", e);
+        } finally {
+            persistLock.unlock();
+        }
+    }
+
+    // 주문 날짜의 현재 가중치 (기준 날짜 주문이 1, 반감기마다 절반, 기간 밖이면 0)
+    private double weight(LocalDate orderDate) {
+        long days = orderDate != null ? ChronoUnit.DAYS.between(orderDate, scoreDate) : 0;
+        if (days <= 0) {
+            return 1.0;
+        }
+        return days > windowDays ? 0.0 : Math.pow(0.5, (double) days / halfLifeDays);
+    }
+
+    private void addScore(Long departmentId, Long menuId, double delta) {
+        if (delta == 0.0) {
+            return;
+        }
+        // 생성과 삭제의 가중치가 상쇄되고 남은 부동소수점 오차는 0으로 봄
+        scores.computeIfAbsent(departmentId, k -> new HashMap<>())
+                .merge(menuId, delta, (score, added) -> score + added < MIN_SCORE ? 0.0 : score + added);
+        dirty.add(new ScoreKey(departmentId, menuId));
+    }
+
+    // 커스텀 메뉴 주문이면 메뉴 ID (투썸 메뉴나 메뉴 없음이면 null)
+    private static Long customMenuId(OrderResponseDto order) {
+        if (order == null || "TWOSOME".equals(order.getMenuType())) {
+            return null;
+        }
+        return order.getMenuId();
+    }
+
+    // 부서 순위 목록 교체 (부서 메뉴 수만큼만 정렬)
+    private void publish(Long departmentId) {
+        List<Long> ranking = scores.getOrDefault(departmentId, Map.of()).entrySet().stream()
+                .filter(entry -> entry.getValue() >= MIN_SCORE)
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+        rankings.put(departmentId, ranking);
+    }
+
+    private record ScoreKey(Long departmentId, Long menuId) {
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.dto.MenuSearchResultDto;
+import com.example.coffeeorder.entity.Menu;
+import com.example.coffeeorder.entity.TwosomeMenu;
+import com.example.coffeeorder.repository.MenuRepository;
+import com.example.coffeeorder.repository.TwosomeMenuRepository;
+import com.example.coffeeorder.search.MenuSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 메뉴 검색 (투썸 메뉴 + 부서 커스텀 메뉴, 인메모리 인덱스)
+ * 휴대폰에서 메뉴명 일부나 초성만 입력해도 바로 찾을 수 있도록 검색 인덱스를 미리 만들어 두고,
+ * 검색은 DB를 타지 않고 현재 인덱스만 읽는다.
+ * 커스텀 메뉴 생성/수정/삭제는 커밋 이후 메모리에서 바로 반영해 인덱스를 다시 만들고,
+ * 투썸 메뉴 동기화/수정/삭제는 커밋 이후 스케줄러 스레드에서 DB를 다시 읽어 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuSearchService {
+
+    private final MenuRepository menuRepository;
+    private final TwosomeMenuRepository twosomeMenuRepository;
+    private final TaskScheduler taskScheduler;
+
+    // 현재 검색 인덱스 (불변, 재생성 시 통째로 교체)
+    private final AtomicReference<MenuSearchIndex> index = new AtomicReference<>(MenuSearchIndex.EMPTY);
+
+    // 투썸 메뉴 (분류/정렬 순서), 락 안에서만 변경
+    private List<MenuSearchResultDto> twosomeMenus = List.of();
+
+    // 커스텀 메뉴 ID -> 메뉴 (ID 순), 락 안에서만 변경
+    private final Map<Long, CustomMenu> customMenus = new TreeMap<>();
+
+    // 투썸 메뉴 재적재 예약 여부 (한 트랜잭션에서 여러 번 요청해도 한 번만 다시 읽음)
+    private final AtomicBoolean reloadPending = new AtomicBoolean();
+
+    // 메뉴 변경/재생성 직렬화용 락 (검색은 락 없이 인덱스를 읽음)
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * 메뉴 검색 (이름 시작 일치 > 단어 시작 일치 > 중간 일치 순)
+     * @param query 검색어 (메뉴명 일부, 초성, 영문명)
+     * @param departmentId 부서 ID (이 부서의 커스텀 메뉴만 포함, null이면 투썸 메뉴만)
+     * @param limit 최대 건수
+     */
+    public List<MenuSearchResultDto> search(String query, Long departmentId, int limit) {
+        return index.get().search(query, departmentId, limit);
+    }
+
+    /**
+     * 기동 완료 시 인덱스 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * 커스텀 메뉴 저장 반영 (커밋 이후, 저장 시점의 이름/카테고리/부서로)
+     */
+    public void onMenuSaved(Menu menu) {
+        // 부서는 지연 로딩 프록시에서 ID만 꺼냄 (부서 조회 없음)
+        CustomMenu customMenu = CustomMenu.from(menu);
+        boolean deleted = "Y".equals(menu.getDelYn());
+        afterCommit(() -> updateCustomMenus(menus -> {
+            if (deleted) {
+                menus.remove(customMenu.result().getId());
+            } else {
+                menus.put(customMenu.result().getId(), customMenu);
+            }
+        }));
+    }
+
+    /**
+     * 커스텀 메뉴 삭제 반영 (커밋 이후)
+     */
+    public void onMenusDeleted(Collection<Long> ids) {
+        List<Long> deletedIds = List.copyOf(ids);
+        afterCommit(() -> updateCustomMenus(menus -> deletedIds.forEach(menus::remove)));
+    }
+
+    /**
+     * 투썸 메뉴 변경 (커밋 이후 스케줄러 스레드에서 다시 적재)
+     */
+    public void onTwosomeMenusChanged() {
+        afterCommit(() -> {
+            if (reloadPending.compareAndSet(false, true)) {
+                taskScheduler.schedule(this::rebuild, Instant.now());
+            }
+        });
+    }
+
+    /**
+     * 삭제되지 않은 메뉴를 모두 다시 읽어 인덱스 재생성 (실패하면 이전 인덱스 유지)
+     */
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            reloadPending.set(false);
+            twosomeMenus = twosomeMenuRepository.findByDelYnOrderByMidNmAscSortOrdAsc("N").stream()
+                    .map(MenuSearchService::toResult)
+                    .toList();
+            customMenus.clear();
+            for (Menu menu : menuRepository.findByDelYn("N")) {
+                customMenus.put(menu.getId(), CustomMenu.from(menu));
+            }
+            publish();
+            log.info("Menu search index rebuilt: {} twosome menus, {} custom menus",
+                    twosomeMenus.size(), customMenus.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild menu search index", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void updateCustomMenus(Consumer<Map<Long, CustomMenu>> change) {
+        writeLock.lock();
+        try {
+            change.accept(customMenus);
+            publish();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 투썸 메뉴, 커스텀 메뉴 순으로 인덱스를 새로 만들어 교체
+    private void publish() {
+        MenuSearchIndex.Builder builder = MenuSearchIndex.builder();
+        twosomeMenus.forEach(result -> builder.add(result, null));
+        customMenus.values().forEach(menu -> builder.add(menu.result(), menu.departmentId()));
+        index.set(builder.build());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static MenuSearchResultDto toResult(TwosomeMenu menu) {
+        return new MenuSearchResultDto("TWOSOME", menu.getId(), menu.getMenuNm(), menu.getEnMenuNm(),
+                menu.getMidNm(), menu.getMenuCd(), menu.getLocalImgPath());
+    }
+
+    // 커스텀 메뉴 (부서 필터용 부서 ID와 함께)
+    private record CustomMenu(MenuSearchResultDto result, Long departmentId) {
+        static CustomMenu from(Menu menu) {
+            return new CustomMenu(
+                    new MenuSearchResultDto("CUSTOM", menu.getId(), menu.getName(), null, menu.getCategory(), null, null),
+                    menu.getDepartment() != null ? menu.getDepartment().getId() : null);
+        }
+    }
+}
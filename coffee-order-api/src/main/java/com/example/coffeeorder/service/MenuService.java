@@ -8,7 +8,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,17 +19,21 @@ public class MenuService {
 
     private final MenuRepository menuRepository;
     private final DepartmentRepository departmentRepository;
+    private final TodayOrderBoard todayOrderBoard;
+    private final MenuSummaryBoard menuSummaryBoard;
+    private final TeamOrderHistory teamOrderHistory;
+    private final OrderCatalog orderCatalog;
+    private final MenuPopularityIndex menuPopularityIndex;
+    private final MenuSearchService menuSearchService;
 
-    // 삭제되지 않은 전체 메뉴 조회 (최근 3개월 주문 많은 순) - 하위 호환용
+    // 삭제되지 않은 전체 메뉴 조회 (인기 점수 높은 순) - 하위 호환용
     public List<Menu> findAllActiveOrderByPopularity() {
-        LocalDate threeMonthsAgo = LocalDate.now().minusMonths(3);
-        return menuRepository.findAllOrderByRecentOrderCount(threeMonthsAgo);
+        return menuPopularityIndex.rankAll(menuRepository.findByDelYnOrderByNameAsc("N"));
     }
 
-    // 부서별 메뉴 조회 (최근 3개월 주문 많은 순)
+    // 부서별 메뉴 조회 (인기 점수 높은 순, 주문은 읽지 않고 메뉴만 조회해 인메모리 순위로 정렬)
     public List<Menu> findByDepartmentIdOrderByPopularity(Long departmentId) {
-        LocalDate threeMonthsAgo = LocalDate.now().minusMonths(3);
-        return menuRepository.findByDepartmentOrderByRecentOrderCount(departmentId, threeMonthsAgo);
+        return menuPopularityIndex.rank(departmentId, findByDepartmentId(departmentId));
     }
 
     // 부서별 메뉴 조회
@@ -45,7 +49,14 @@ public class MenuService {
     // 저장 (생성 & 수정)
     @Transactional
     public Menu save(Menu menu) {
-        return menuRepository.save(menu);
+        // 이름이 바뀌면 오늘 주문 현황판/메뉴 집계/팀원별 주문 이력/주문 카탈로그에 캐시된 이름도 갱신되어야 함
+        todayOrderBoard.invalidateAll();
+        menuSummaryBoard.invalidateAll();
+        teamOrderHistory.invalidateAll();
+        orderCatalog.invalidateMenus();
+        Menu saved = menuRepository.save(menu);
+        menuSearchService.onMenuSaved(saved);
+        return saved;
     }
 
     // 부서와 함께 메뉴 생성
@@ -57,16 +68,21 @@ public class MenuService {
         Menu menu = new Menu();
         menu.setDepartment(department);
         menu.setName(name);
-        return menuRepository.save(menu);
+        Menu saved = menuRepository.save(menu);
+        menuSearchService.onMenuSaved(saved);
+        return saved;
     }
 
-    // 소프트 삭제
+    // 소프트 삭제 (UPDATE 한 문장, 삭제할 메뉴가 없으면 false)
     @Transactional
-    public void softDelete(Long id) {
-        Optional<Menu> menu = menuRepository.findById(id);
-        menu.ifPresent(m -> {
-            m.setDelYn("Y");
-            menuRepository.save(m);
-        });
+    public boolean softDelete(Long id) {
+        return softDeleteAll(List.of(id)) > 0;
+    }
+
+    // 일괄 소프트 삭제 (UPDATE 한 문장, 실제 삭제된 건수 반환)
+    @Transactional
+    public int softDeleteAll(Collection<Long> ids) {
+        menuSearchService.onMenusDeleted(ids);
+        return menuRepository.softDeleteByIdIn(ids);
     }
 }
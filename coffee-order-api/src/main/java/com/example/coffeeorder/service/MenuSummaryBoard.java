@@ -0,0 +1,276 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.analytics.LongObjectMap;
+import com.example.coffeeorder.dto.MenuCountSummaryDto;
+import com.example.coffeeorder.dto.OrderResponseDto;
+import com.example.coffeeorder.event.OrderChangedEvent;
+import com.example.coffeeorder.mapper.OrderMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 부서별 날짜 메뉴 집계 카운터 (인메모리)
+ * (부서, 날짜)마다 메뉴별/옵션별 잔 수를 들고 있다가 주문 변경 시 증감만 반영하고,
+ * 조회는 미리 만들어 둔 불변 스냅샷을 그대로 반환한다. 카운터가 없으면 DB에서 한 번 집계해 적재한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MenuSummaryBoard {
+
+    private final OrderMapper orderMapper;
+
+    // 보관할 최대 (부서, 날짜) 수 (넘으면 오래된 날짜부터 제거)
+    private static final int MAX_TALLIES = 256;
+
+    // (부서 ID, 날짜)를 합친 키 -> 집계 카운터
+    private final Map<Long, Tally> tallies = new ConcurrentHashMap<>();
+
+    // 적재/갱신 직렬화용 락 (조회는 락 없이 스냅샷을 읽음, TodayOrderBoard와 같은 이유로 ReentrantLock)
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * 부서별 날짜 메뉴 집계 조회
+     */
+    public MenuCountSummaryDto getSummary(Long departmentId, LocalDate date) {
+        Tally tally = tallies.get(key(departmentId, date));
+        if (tally != null) {
+            return tally.snapshot;
+        }
+        return load(departmentId, date).snapshot;
+    }
+
+    /**
+     * 주어진 주문 목록으로 메뉴 집계만 계산 (카운터를 보관하지 않음, 마감 스냅샷용)
+     * @param orders 정리된(normalize) 주문 목록
+     */
+    public static MenuCountSummaryDto summarize(Long departmentId, LocalDate date, List<OrderResponseDto> orders) {
+        Tally tally = new Tally(departmentId, date);
+        orders.forEach(tally::add);
+        tally.publish();
+        return tally.snapshot;
+    }
+
+    /**
+     * 주문 변경 반영 (커밋 이후)
+     * 적재된 카운터만 이전 주문 몫을 빼고 새 주문 몫을 더한다.
+     * 재조회는 커밋된 원래 트랜잭션의 커넥션을 그대로 사용한다. (TodayOrderBoard.onOrderChanged 참고)
+     */
+    @TransactionalEventListener
+    public void onOrderChanged(OrderChangedEvent event) {
+        if (event.getDepartmentId() == null || event.getOrderDate() == null) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            Tally tally = tallies.get(key(event.getDepartmentId(), event.getOrderDate()));
+            // 아직 적재되지 않은 (부서, 날짜)는 다음 조회 시 DB에서 집계됨
+            if (tally == null) {
+                return;
+            }
+
+            OrderShare previous = tally.orders.remove(event.getOrderId());
+            if (previous != null) {
+                tally.subtract(previous);
+            }
+
+            if (event.getType() != OrderChangedEvent.Type.DELETED) {
+                // 이벤트에 응답이 실려 있으면 다시 조회하지 않음
+                OrderResponseDto row = event.getOrder();
+                if (row == null) {
+                    row = orderMapper.findOrderResponseById(event.getOrderId());
+                    row = row != null ? OrderResponseDto.normalize(row) : null;
+                }
+                if (row != null && tally.date.equals(row.getOrderDate())) {
+                    tally.put(row);
+                }
+            }
+            tally.publish();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 메뉴 이름 변경 등으로 전체 무효화
+     * 트랜잭션 안에서 호출되면 커밋 이후에 비운다.
+     */
+    public void invalidateAll() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tallies.clear();
+                }
+            });
+        } else {
+            tallies.clear();
+        }
+    }
+
+    private Tally load(Long departmentId, LocalDate date) {
+        writeLock.lock();
+        try {
+            long key = key(departmentId, date);
+            Tally tally = tallies.get(key);
+            if (tally != null) {
+                return tally;
+            }
+
+            tally = new Tally(departmentId, date);
+            for (OrderResponseDto row : orderMapper.findOrderResponses(departmentId, date)) {
+                tally.put(OrderResponseDto.normalize(row));
+            }
+            tally.publish();
+
+            if (tallies.size() >= MAX_TALLIES) {
+                evictOldest();
+            }
+            tallies.put(key, tally);
+            return tally;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 가장 오래된 날짜의 카운터 제거
+    private void evictOldest() {
+        tallies.entrySet().stream()
+                .min(Comparator.comparing(entry -> entry.getValue().date))
+                .ifPresent(entry -> tallies.remove(entry.getKey()));
+    }
+
+    // 부서 ID(상위 32비트)와 날짜(epoch day, 하위 32비트)를 long 하나로 합침
+    private static long key(Long departmentId, LocalDate date) {
+        return (departmentId << 32) | (date.toEpochDay() & 0xFFFFFFFFL);
+    }
+
+    // 메뉴 키 (커스텀 메뉴는 양수 ID, 투썸 메뉴는 음수 ID, 메뉴 없음은 0)
+    private static long menuKey(OrderResponseDto order) {
+        if ("TWOSOME".equals(order.getMenuType()) && order.getTwosomeMenuId() != null) {
+            return -order.getTwosomeMenuId();
+        }
+        return order.getMenuId() != null ? order.getMenuId() : 0L;
+    }
+
+    private static String option(OrderResponseDto order) {
+        return order.getPersonalOption() != null ? order.getPersonalOption().trim() : "";
+    }
+
+    /**
+     * (부서, 날짜) 하나의 카운터 (writeLock 안에서만 변경)
+     */
+    private static final class Tally {
+
+        private final Long departmentId;
+        private final LocalDate date;
+        // 주문 ID -> 반영된 몫 (수정/삭제 시 이전 몫을 빼기 위함, 주문 응답 전체는 들고 있지 않음)
+        private final LongObjectMap<OrderShare> orders = new LongObjectMap<>();
+        // 메뉴 키 -> 메뉴별 카운터 (주문 건마다 키를 박싱하지 않도록 long 키 맵)
+        private final LongObjectMap<MenuTally> menus = new LongObjectMap<>();
+        private volatile MenuCountSummaryDto snapshot;
+
+        private Tally(Long departmentId, LocalDate date) {
+            this.departmentId = departmentId;
+            this.date = date;
+        }
+
+        // 주문 몫을 더하고 주문 ID로 기억
+        private void put(OrderResponseDto order) {
+            OrderShare share = add(order);
+            if (share != null) {
+                orders.put(order.getId(), share);
+            }
+        }
+
+        private OrderShare add(OrderResponseDto order) {
+            long menuKey = menuKey(order);
+            if (menuKey == 0L) {
+                return null;
+            }
+            MenuTally menu = menus.get(menuKey);
+            if (menu == null) {
+                menu = new MenuTally(order);
+                menus.put(menuKey, menu);
+            }
+            String option = option(order);
+            menu.count++;
+            menu.options.computeIfAbsent(option, k -> new OptionCounter()).count++;
+            return new OrderShare(menuKey, option);
+        }
+
+        private void subtract(OrderShare share) {
+            MenuTally menu = menus.get(share.menuKey());
+            if (menu == null) {
+                return;
+            }
+            menu.count--;
+            OptionCounter option = menu.options.get(share.option());
+            if (option != null && --option.count <= 0) {
+                menu.options.remove(share.option());
+            }
+            if (menu.count <= 0) {
+                menus.remove(share.menuKey());
+            }
+        }
+
+        // 카테고리, 메뉴 이름 순 불변 스냅샷으로 교체
+        private void publish() {
+            List<MenuCountSummaryDto.MenuCount> items = new ArrayList<>(menus.size());
+            menus.forEachValue(menu -> {
+                List<MenuCountSummaryDto.OptionCount> options = new ArrayList<>(menu.options.size());
+                menu.options.forEach((option, counter) -> options.add(new MenuCountSummaryDto.OptionCount(option, counter.count)));
+                options.sort(Comparator.comparing(MenuCountSummaryDto.OptionCount::getCount).reversed()
+                        .thenComparing(MenuCountSummaryDto.OptionCount::getOption));
+                items.add(new MenuCountSummaryDto.MenuCount(menu.menuType, menu.menuId, menu.menuName,
+                        menu.category, menu.count, List.copyOf(options)));
+            });
+            int total = 0;
+            for (MenuCountSummaryDto.MenuCount item : items) {
+                total += item.getCount();
+            }
+            items.sort(Comparator.comparing(MenuCountSummaryDto.MenuCount::getCategory, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(MenuCountSummaryDto.MenuCount::getMenuName, Comparator.nullsLast(Comparator.naturalOrder())));
+            snapshot = new MenuCountSummaryDto(departmentId, date, total, List.copyOf(items));
+        }
+    }
+
+    private static final class MenuTally {
+
+        private final String menuType;
+        private final Long menuId;
+        private final String menuName;
+        private final String category;
+        private int count;
+        // 옵션 -> 잔 수 (처음 들어온 순서 유지, 증감 시 박싱하지 않도록 가변 카운터)
+        private final Map<String, OptionCounter> options = new LinkedHashMap<>();
+
+        private MenuTally(OrderResponseDto order) {
+            boolean twosome = "TWOSOME".equals(order.getMenuType());
+            this.menuType = order.getMenuType();
+            this.menuId = twosome ? order.getTwosomeMenuId() : order.getMenuId();
+            this.menuName = twosome ? order.getTwosomeMenuName() : order.getMenuName();
+            this.category = twosome ? order.getTwosomeMenuCategory() : order.getMenuCategory();
+        }
+    }
+
+    private static final class OptionCounter {
+        private int count;
+    }
+
+    // 주문 한 건이 더한 몫 (메뉴 키, 옵션)
+    private record OrderShare(long menuKey, String option) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.analytics.OrderAggregate;
+import com.example.coffeeorder.analytics.OrderAnalyticsEngine;
+import com.example.coffeeorder.dto.OrderHeatmapDto;
+import com.example.coffeeorder.dto.TeamFavoritesDto;
+import com.example.coffeeorder.dto.WeekdayTrendDto;
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.entity.Menu;
+import com.example.coffeeorder.entity.Team;
+import com.example.coffeeorder.entity.TwosomeMenu;
+import com.example.coffeeorder.repository.DepartmentRepository;
+import com.example.coffeeorder.repository.MenuRepository;
+import com.example.coffeeorder.repository.TeamRepository;
+import com.example.coffeeorder.repository.TwosomeMenuRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 기간 주문 분석 (집계는 OrderAnalyticsEngine이 한 번의 병렬 스캔으로 수행, 여기서는 이름을 붙여 응답 구성)
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrderAnalyticsService {
+
+    private final OrderAnalyticsEngine orderAnalyticsEngine;
+    private final TeamRepository teamRepository;
+    private final MenuRepository menuRepository;
+    private final TwosomeMenuRepository twosomeMenuRepository;
+    private final DepartmentRepository departmentRepository;
+
+    // 팀원별 즐겨 찾는 메뉴 (팀원마다 주문 수 상위 limit개)
+    public List<TeamFavoritesDto> findTeamFavorites(Long departmentId, LocalDate from, LocalDate to, int limit) {
+        OrderAggregate aggregate = orderAnalyticsEngine.aggregate(departmentId, from, to);
+
+        // 팀원 ID -> [메뉴 키, 주문 수] 목록
+        Map<Long, List<long[]>> menuCountsByTeam = new TreeMap<>();
+        aggregate.getTeamMenuCounts().forEach((key, count) -> menuCountsByTeam
+                .computeIfAbsent(OrderAggregate.teamIdOf(key), k -> new ArrayList<>())
+                .add(new long[]{OrderAggregate.menuKeyOf(key), count}));
+
+        Set<Long> menuIds = new HashSet<>();
+        Set<Long> twosomeMenuIds = new HashSet<>();
+        for (List<long[]> menuCounts : menuCountsByTeam.values()) {
+            menuCounts.sort(Comparator.<long[]>comparingLong(c -> -c[1]).thenComparingLong(c -> c[0]));
+            menuCounts.stream()
+                    .filter(c -> c[0] != 0)
+                    .limit(limit)
+                    .forEach(c -> (c[0] > 0 ? menuIds : twosomeMenuIds).add(Math.abs(c[0])));
+        }
+
+        Map<Long, Team> teams = teamRepository.findAllById(menuCountsByTeam.keySet()).stream()
+                .collect(Collectors.toMap(Team::getId, Function.identity()));
+        Map<Long, Menu> menus = menuRepository.findAllById(menuIds).stream()
+                .collect(Collectors.toMap(Menu::getId, Function.identity()));
+        Map<Long, TwosomeMenu> twosomeMenus = twosomeMenuRepository.findAllById(twosomeMenuIds).stream()
+                .collect(Collectors.toMap(TwosomeMenu::getId, Function.identity()));
+
+        List<TeamFavoritesDto> result = new ArrayList<>();
+        menuCountsByTeam.forEach((teamId, menuCounts) -> {
+            int orderCount = menuCounts.stream().mapToInt(c -> (int) c[1]).sum();
+            List<TeamFavoritesDto.FavoriteMenu> favorites = menuCounts.stream()
+                    .filter(c -> c[0] != 0)
+                    .limit(limit)
+                    .map(c -> toFavoriteMenu(c[0], (int) c[1], menus, twosomeMenus))
+                    .toList();
+            Team team = teams.get(teamId);
+            result.add(new TeamFavoritesDto(teamId, team != null ? team.getName() : null, orderCount, favorites));
+        });
+        return result;
+    }
+
+    // 부서별 요일 주문 추이
+    public List<WeekdayTrendDto> findWeekdayTrends(Long departmentId, LocalDate from, LocalDate to) {
+        OrderAggregate aggregate = orderAnalyticsEngine.aggregate(departmentId, from, to);
+
+        Map<Long, int[]> countsByDepartment = new TreeMap<>();
+        aggregate.getDepartmentWeekdayCounts().forEach((key, count) ->
+                countsByDepartment.computeIfAbsent(key >> 3, k -> new int[7])[(int) (key & 7)] += count);
+
+        // 기간 내 요일별 일수 (평균 계산용)
+        int[] weekdayDays = new int[7];
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            weekdayDays[date.getDayOfWeek().getValue() - 1]++;
+        }
+
+        Map<Long, String> departmentNames = departmentRepository.findAllById(countsByDepartment.keySet()).stream()
+                .collect(Collectors.toMap(Department::getId, Department::getName));
+
+        List<WeekdayTrendDto> result = new ArrayList<>();
+        countsByDepartment.forEach((id, counts) -> {
+            double[] averages = new double[7];
+            for (int i = 0; i < 7; i++) {
+                averages[i] = weekdayDays[i] == 0 ? 0 : Math.round(counts[i] * 100.0 / weekdayDays[i]) / 100.0;
+            }
+            result.add(new WeekdayTrendDto(id, departmentNames.get(id), Arrays.stream(counts).sum(), counts, averages));
+        });
+        return result;
+    }
+
+    // 달력 히트맵 (날짜별 주문 수)
+    public OrderHeatmapDto getHeatmap(Long departmentId, LocalDate from, LocalDate to) {
+        OrderAggregate aggregate = orderAnalyticsEngine.aggregate(departmentId, from, to);
+
+        int[] dayCounts = aggregate.getDayCounts();
+        List<OrderHeatmapDto.DayCount> days = new ArrayList<>(dayCounts.length);
+        int maxCount = 0;
+        for (int i = 0; i < dayCounts.length; i++) {
+            days.add(new OrderHeatmapDto.DayCount(from.plusDays(i), dayCounts[i]));
+            maxCount = Math.max(maxCount, dayCounts[i]);
+        }
+        return new OrderHeatmapDto(departmentId, from, to, aggregate.getTotalCount(), maxCount, days);
+    }
+
+    private TeamFavoritesDto.FavoriteMenu toFavoriteMenu(long menuKey, int count,
+                                                         Map<Long, Menu> menus, Map<Long, TwosomeMenu> twosomeMenus) {
+        if (menuKey < 0) {
+            TwosomeMenu twosomeMenu = twosomeMenus.get(-menuKey);
+            return new TeamFavoritesDto.FavoriteMenu("TWOSOME", -menuKey,
+                    twosomeMenu != null ? twosomeMenu.getMenuNm() : null,
+                    twosomeMenu != null ? twosomeMenu.getMidNm() : null, count);
+        }
+        Menu menu = menus.get(menuKey);
+        return new TeamFavoritesDto.FavoriteMenu("CUSTOM", menuKey,
+                menu != null ? menu.getName() : null,
+                menu != null ? menu.getCategory() : null, count);
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.entity.Menu;
+import com.example.coffeeorder.entity.Team;
+import com.example.coffeeorder.entity.TwosomeMenu;
+import com.example.coffeeorder.repository.DepartmentRepository;
+import com.example.coffeeorder.repository.MenuRepository;
+import com.example.coffeeorder.repository.TeamRepository;
+import com.example.coffeeorder.repository.TwosomeMenuRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 주문 등록용 인메모리 참조 목록 (팀원/부서/커스텀 메뉴/투썸 메뉴)
+ * 주문 한 건마다 하던 팀원/부서/메뉴 단건 조회를 없애기 위해 존재 여부와 응답에 필요한 이름만 보관한다.
+ * 목록별로 처음 조회할 때 전체를 한 번에 적재하고, 그 뒤 새로 생긴 ID는 단건 조회로 채운다.
+ * 일괄 주문/그룹 커밋은 요청 목록이 참조하는 ID를 미리 한 번의 IN 조회로 채워 주문 건수만큼 조회하지 않는다.
+ * 이름이 바뀌면 (팀원/메뉴 수정, 투썸 메뉴 동기화) 해당 목록을 비워 다시 적재한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderCatalog {
+
+    private final TeamRepository teamRepository;
+    private final DepartmentRepository departmentRepository;
+    private final MenuRepository menuRepository;
+    private final TwosomeMenuRepository twosomeMenuRepository;
+
+    // ID -> 항목 (null이면 미적재, 불변 스냅샷으로 교체)
+    private final AtomicReference<Map<Long, TeamEntry>> teams = new AtomicReference<>();
+    private final AtomicReference<Map<Long, DepartmentEntry>> departments = new AtomicReference<>();
+    private final AtomicReference<Map<Long, MenuEntry>> menus = new AtomicReference<>();
+    private final AtomicReference<Map<Long, TwosomeMenuEntry>> twosomeMenus = new AtomicReference<>();
+
+    // 적재/추가 직렬화용 락 (같은 목록을 여러 요청이 동시에 적재하지 않도록, 조회는 락 없이 스냅샷을 읽음)
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    // 스냅샷 교체/비우기용 락 (커밋 이후 비우기가 적재 중 DB 조회를 기다리지 않도록 loadLock과 분리)
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // 비우기 세대 (적재 중에 목록이 비워지면 이전 데이터로 만든 스냅샷을 버림, SettingsService와 동일)
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 팀원 조회 (삭제 여부와 관계없이 기존 findById와 같은 기준)
+     */
+    public Optional<TeamEntry> findTeam(Long id) {
+        return find(teams, teamRepository, id, TeamEntry::from);
+    }
+
+    public boolean existsDepartment(Long id) {
+        return find(departments, departmentRepository, id, DepartmentEntry::from).isPresent();
+    }
+
+    public Optional<MenuEntry> findMenu(Long id) {
+        return find(menus, menuRepository, id, MenuEntry::from);
+    }
+
+    public Optional<TwosomeMenuEntry> findTwosomeMenu(Long id) {
+        return find(twosomeMenus, twosomeMenuRepository, id, TwosomeMenuEntry::from);
+    }
+
+    /**
+     * 요청 목록이 참조하는 항목 중 카탈로그에 없는 것만 한 번의 IN 조회로 채움 (ID 종류별 최대 한 문장)
+     * 없는 ID는 채우지 않으므로 이후 find에서 기존과 같이 없음으로 처리된다.
+     */
+    public void prefetch(Collection<Long> teamIds, Collection<Long> departmentIds,
+                         Collection<Long> menuIds, Collection<Long> twosomeMenuIds) {
+        prefetch(teams, teamRepository, teamIds, TeamEntry::from);
+        prefetch(departments, departmentRepository, departmentIds, DepartmentEntry::from);
+        prefetch(menus, menuRepository, menuIds, MenuEntry::from);
+        prefetch(twosomeMenus, twosomeMenuRepository, twosomeMenuIds, TwosomeMenuEntry::from);
+    }
+
+    // 팀원 이름 변경 (커밋 이후 비움)
+    public void invalidateTeams() {
+        clearAfterCommit(teams);
+    }
+
+    // 메뉴 이름/카테고리 변경 (커밋 이후 비움)
+    public void invalidateMenus() {
+        clearAfterCommit(menus);
+    }
+
+    // 투썸 메뉴 동기화 완료
+    public void invalidateTwosomeMenus() {
+        clearAfterCommit(twosomeMenus);
+    }
+
+    private <E, T extends CatalogEntry> Optional<T> find(AtomicReference<Map<Long, T>> catalog,
+                                                         JpaRepository<E, Long> repository,
+                                                         Long id, Function<E, T> mapper) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        Map<Long, T> entries = catalog.get();
+        if (entries != null && entries.containsKey(id)) {
+            return Optional.of(entries.get(id));
+        }
+
+        loadLock.lock();
+        try {
+            long loadedGeneration = generation.get();
+            entries = catalog.get();
+            if (entries == null) {
+                return Optional.ofNullable(loadAll(catalog, repository, mapper, loadedGeneration).get(id));
+            }
+            if (entries.containsKey(id)) {
+                return Optional.of(entries.get(id));
+            }
+
+            // 적재 이후 새로 생긴 항목
+            Optional<T> entry = repository.findById(id).map(mapper);
+            if (entry.isPresent()) {
+                Map<Long, T> added = new HashMap<>(entries);
+                added.put(id, entry.get());
+                publish(catalog, Map.copyOf(added), loadedGeneration);
+            }
+            return entry;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private <E, T extends CatalogEntry> void prefetch(AtomicReference<Map<Long, T>> catalog,
+                                                      JpaRepository<E, Long> repository,
+                                                      Collection<Long> ids, Function<E, T> mapper) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Map<Long, T> entries = catalog.get();
+        if (entries != null && missing(entries, ids).isEmpty()) {
+            return;
+        }
+
+        loadLock.lock();
+        try {
+            long loadedGeneration = generation.get();
+            entries = catalog.get();
+            if (entries == null) {
+                entries = loadAll(catalog, repository, mapper, loadedGeneration);
+            }
+            Set<Long> missing = missing(entries, ids);
+            if (missing.isEmpty()) {
+                return;
+            }
+
+            // 적재 이후 새로 생긴 항목
+            Map<Long, T> added = new HashMap<>(entries);
+            for (E entity : repository.findAllById(missing)) {
+                T entry = mapper.apply(entity);
+                added.put(entry.id(), entry);
+            }
+            publish(catalog, Map.copyOf(added), loadedGeneration);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    // 전체 적재 (loadLock 안에서 호출)
+    private <E, T extends CatalogEntry> Map<Long, T> loadAll(AtomicReference<Map<Long, T>> catalog,
+                                                             JpaRepository<E, Long> repository,
+                                                             Function<E, T> mapper, long loadedGeneration) {
+        Map<Long, T> loaded = new HashMap<>();
+        for (E entity : repository.findAll()) {
+            T entry = mapper.apply(entity);
+            loaded.put(entry.id(), entry);
+        }
+        Map<Long, T> entries = Map.copyOf(loaded);
+        publish(catalog, entries, loadedGeneration);
+        return entries;
+    }
+
+    // 적재를 시작한 뒤 비워진 적이 없을 때만 교체 (비워졌으면 이번 요청에만 쓰고 다음 조회에서 다시 적재)
+    private <T> void publish(AtomicReference<Map<Long, T>> catalog, Map<Long, T> entries, long loadedGeneration) {
+        writeLock.lock();
+        try {
+            if (generation.get() == loadedGeneration) {
+                catalog.set(entries);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static Set<Long> missing(Map<Long, ?> entries, Collection<Long> ids) {
+        Set<Long> missing = new HashSet<>();
+        for (Long id : ids) {
+            if (id != null && !entries.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        return missing;
+    }
+
+    private void clearAfterCommit(AtomicReference<?> catalog) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear(catalog);
+                }
+            });
+        } else {
+            clear(catalog);
+        }
+    }
+
+    private void clear(AtomicReference<?> catalog) {
+        writeLock.lock();
+        try {
+            generation.incrementAndGet();
+            catalog.set(null);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private sealed interface CatalogEntry permits TeamEntry, DepartmentEntry, MenuEntry, TwosomeMenuEntry {
+        Long id();
+    }
+
+    public record TeamEntry(Long id, String name, Long departmentId) implements CatalogEntry {
+        // 부서는 지연 로딩 프록시에서 ID만 꺼냄 (부서 조회 없음)
+        static TeamEntry from(Team team) {
+            return new TeamEntry(team.getId(), team.getName(),
+                    team.getDepartment() != null ? team.getDepartment().getId() : null);
+        }
+    }
+
+    // 부서는 존재 여부만 확인
+    private record DepartmentEntry(Long id) implements CatalogEntry {
+        static DepartmentEntry from(Department department) {
+            return new DepartmentEntry(department.getId());
+        }
+    }
+
+    public record MenuEntry(Long id, String name, String category) implements CatalogEntry {
+        static MenuEntry from(Menu menu) {
+            return new MenuEntry(menu.getId(), menu.getName(), menu.getCategory());
+        }
+    }
+
+    public record TwosomeMenuEntry(Long id, String name, String category, String code) implements CatalogEntry {
+        static TwosomeMenuEntry from(TwosomeMenu menu) {
+            return new TwosomeMenuEntry(menu.getId(), menu.getMenuNm(), menu.getMidNm(), menu.getMenuCd());
+        }
+    }
+}
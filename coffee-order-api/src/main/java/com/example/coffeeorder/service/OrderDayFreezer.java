@@ -0,0 +1,375 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.dto.MenuCountSummaryDto;
+import com.example.coffeeorder.dto.OrderResponseDto;
+import com.example.coffeeorder.entity.OrderDaySnapshot;
+import com.example.coffeeorder.entity.Settings;
+import com.example.coffeeorder.event.OrderChangedEvent;
+import com.example.coffeeorder.event.SettingsChangedEvent;
+import com.example.coffeeorder.mapper.OrderMapper;
+import com.example.coffeeorder.repository.OrderDaySnapshotRepository;
+import com.example.coffeeorder.repository.SettingsRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 부서별 주문 마감 처리 (마감 시각에 그날 주문을 스냅샷으로 고정)
+ * 설정의 마감 시각(한국 시간)마다 예약 작업을 걸고, 마감되면 주문 목록과 메뉴 집계를 JSON으로 미리 만들어 둔다.
+ * 이후 그 날짜 조회는 DB를 타지 않고 만들어 둔 JSON을 그대로 내려주며, 스냅샷은 재기동 후에도 쓰도록 DB에도 저장한다.
+ * 마감된 날의 주문 등록/수정/삭제는 OrderService에서 주문 자신의 (부서, 날짜)로 막고,
+ * 마감 직전에 시작해 마감 이후 커밋된 변경만 스냅샷을 다시 만들어 반영한다.
+ * 마감 시간을 늦추거나 24시간으로 바꾸면 그날 마감을 푼다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderDayFreezer {
+
+    private final SettingsRepository settingsRepository;
+    private final OrderMapper orderMapper;
+    private final OrderDaySnapshotRepository snapshotRepository;
+    private final ObjectMapper objectMapper;
+    private final TaskScheduler taskScheduler;
+
+    // 한국 시간 기준 ZoneId
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    // 메모리에 들고 있을 최대 스냅샷 수 (넘으면 오래된 날짜부터 제거, 다음 조회 때 DB에서 다시 읽음)
+    private static final int MAX_CACHED_DAYS = 256;
+
+    // 마감된 (부서, 날짜) 키 (저장된 스냅샷 전체, 기동 시 적재)
+    private final Set<Long> frozenKeys = ConcurrentHashMap.newKeySet();
+
+    // 키 -> 직렬화된 스냅샷
+    private final Map<Long, FrozenDay> frozenDays = new ConcurrentHashMap<>();
+
+    // 부서 ID -> 다음 마감 예약
+    private final Map<Long, ScheduledFuture<?>> deadlines = new ConcurrentHashMap<>();
+
+    // 부서 ID -> 예약 버전 (예약을 다시 잡으면 이미 실행 중인 이전 예약 작업은 아무것도 하지 않음)
+    private final Map<Long, Long> scheduleVersions = new ConcurrentHashMap<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    // 마감/해제/예약 직렬화용 락 (조회는 락 없이 읽음, 락 안에서 DB를 쓰므로 ReentrantLock)
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * 마감 여부 (주문 가능 여부 체크에서 사용, DB 조회 없음)
+     */
+    public boolean isFrozen(Long departmentId, LocalDate date) {
+        return frozenKeys.contains(key(departmentId, date));
+    }
+
+    /**
+     * 마감된 날짜의 스냅샷 (마감 전이면 empty)
+     */
+    public Optional<FrozenDay> find(Long departmentId, LocalDate date) {
+        long key = key(departmentId, date);
+        if (!frozenKeys.contains(key)) {
+            return Optional.empty();
+        }
+        FrozenDay day = frozenDays.get(key);
+        return day != null ? Optional.of(day) : loadPersisted(departmentId, date);
+    }
+
+    /**
+     * 마감된 날짜의 메뉴 집계 (마감 전이면 empty, 날짜별 메뉴 집계 응답으로 펼칠 때 사용)
+     */
+    public Optional<MenuCountSummaryDto> findSummary(Long departmentId, LocalDate date) {
+        return find(departmentId, date).map(day -> fromJson(day.summaryJson(), MenuCountSummaryDto.class));
+    }
+
+    /**
+     * (부서, 날짜) 마감: 주문 목록과 메뉴 집계를 직렬화해 보관하고 DB에 저장
+     */
+    public FrozenDay freeze(Long departmentId, LocalDate date) {
+        writeLock.lock();
+        try {
+            FrozenDay day = build(departmentId, date);
+            cache(day);
+            frozenKeys.add(key(departmentId, date));
+            persist(day);
+            log.info("Orders frozen for department {} on {} ({} orders)", departmentId, date, day.orderCount());
+            return day;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 기동 시 저장된 스냅샷 키를 읽고 부서별 마감 예약 (이미 지난 오늘 마감은 바로 처리)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (Object[] row : snapshotRepository.findAllKeys()) {
+            frozenKeys.add(key((Long) row[0], (LocalDate) row[1]));
+        }
+        int scheduled = rescheduleAll();
+        log.info("Order freeze scheduled for {} departments ({} snapshots stored)", scheduled, frozenKeys.size());
+    }
+
+    /**
+     * 설정 변경 반영 (커밋 이후 마감 예약을 다시 잡음)
+     */
+    @TransactionalEventListener
+    public void onSettingsChanged(SettingsChangedEvent event) {
+        if (event.getDepartmentId() == null) {
+            rescheduleAll();
+            return;
+        }
+        schedule(event.getDepartmentId(), settingsRepository.findFirstByDepartmentId(event.getDepartmentId()).orElse(null));
+    }
+
+    /**
+     * 마감된 날짜의 주문 변경 반영 (커밋 이후, 마감 확인과 마감 사이에 끼어든 변경만 해당)
+     * 스냅샷은 원래 트랜잭션의 커넥션으로 바로 다시 만들고, DB 저장은 예약 스레드에 넘긴다.
+     * (TodayOrderBoard.onOrderChanged와 같은 이유로 커밋 직후에 새 트랜잭션을 열지 않음)
+     */
+    @TransactionalEventListener
+    public void onOrderChanged(OrderChangedEvent event) {
+        if (event.getDepartmentId() == null || event.getOrderDate() == null
+                || !isFrozen(event.getDepartmentId(), event.getOrderDate())) {
+            return;
+        }
+
+        FrozenDay day;
+        writeLock.lock();
+        try {
+            day = build(event.getDepartmentId(), event.getOrderDate());
+            cache(day);
+        } finally {
+            writeLock.unlock();
+        }
+        taskScheduler.schedule(() -> persistLatest(day), Instant.now());
+    }
+
+    private int rescheduleAll() {
+        int count = 0;
+        for (Settings settings : settingsRepository.findAll()) {
+            // 부서 ID는 지연 로딩 프록시에서 꺼냄 (부서 조회 없음)
+            if (settings.getDepartment() != null) {
+                schedule(settings.getDepartment().getId(), settings);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 부서의 다음 마감 예약 (24시간 주문이면 예약하지 않고 오늘 마감도 해제)
+    private void schedule(Long departmentId, Settings settings) {
+        writeLock.lock();
+        try {
+            ScheduledFuture<?> previous = deadlines.remove(departmentId);
+            if (previous != null) {
+                previous.cancel(false);
+            }
+            long version = versionSequence.incrementAndGet();
+            scheduleVersions.put(departmentId, version);
+
+            LocalDate today = LocalDate.now(KOREA_ZONE);
+            LocalTime deadlineTime = settings != null ? settings.getOrderDeadlineTime() : null;
+            if (settings == null || Boolean.TRUE.equals(settings.getIs24Hours()) || deadlineTime == null) {
+                thaw(departmentId, today);
+                return;
+            }
+
+            ZonedDateTime now = ZonedDateTime.now(KOREA_ZONE);
+            ZonedDateTime deadline = today.atTime(deadlineTime).atZone(KOREA_ZONE);
+            if (now.isBefore(deadline)) {
+                // 마감 시간을 늦춘 경우 오늘 마감 해제
+                thaw(departmentId, today);
+            } else {
+                // 이미 지난 오늘 마감 (기동 전이었거나 마감 시간을 앞당긴 경우)
+                if (!isFrozen(departmentId, today)) {
+                    taskScheduler.schedule(() -> freezeScheduled(departmentId, today, version), now.toInstant());
+                }
+                deadline = today.plusDays(1).atTime(deadlineTime).atZone(KOREA_ZONE);
+            }
+
+            LocalDate day = deadline.toLocalDate();
+            deadlines.put(departmentId, taskScheduler.schedule(() -> onDeadline(departmentId, day, version), deadline.toInstant()));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 마감 시각 도달: 그날 마감 후 다음 날 마감 예약
+    private void onDeadline(Long departmentId, LocalDate day, long version) {
+        if (!freezeScheduled(departmentId, day, version)) {
+            return;
+        }
+        try {
+            schedule(departmentId, settingsRepository.findFirstByDepartmentId(departmentId).orElse(null));
+        } catch (RuntimeException e) {
+            log.error("Failed to reschedule order freeze for department {}", departmentId, e);
+        }
+    }
+
+    // 예약된 마감 실행 (그사이 예약이 다시 잡혔으면 false)
+    private boolean freezeScheduled(Long departmentId, LocalDate day, long version) {
+        writeLock.lock();
+        try {
+            if (!Long.valueOf(version).equals(scheduleVersions.get(departmentId))) {
+                return false;
+            }
+            freeze(departmentId, day);
+        } catch (RuntimeException e) {
+            log.error("Failed to freeze orders for department {} on {}", departmentId, day, e);
+        } finally {
+            writeLock.unlock();
+        }
+        return true;
+    }
+
+    // 마감 해제 (메모리는 바로 비우고 저장된 스냅샷 삭제는 예약 스레드에서)
+    private void thaw(Long departmentId, LocalDate date) {
+        long key = key(departmentId, date);
+        if (!frozenKeys.remove(key)) {
+            return;
+        }
+        frozenDays.remove(key);
+        log.info("Order freeze lifted for department {} on {}", departmentId, date);
+        taskScheduler.schedule(() -> deletePersisted(departmentId, date), Instant.now());
+    }
+
+    private void deletePersisted(Long departmentId, LocalDate date) {
+        writeLock.lock();
+        try {
+            // 그사이 다시 마감된 경우는 유지
+            if (!isFrozen(departmentId, date)) {
+                snapshotRepository.findByDepartmentIdAndOrderDate(departmentId, date)
+                        .ifPresent(snapshotRepository::delete);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 다시 만든 스냅샷 저장 (그사이 더 새 스냅샷이 만들어졌거나 마감이 풀렸으면 건너뜀)
+    private void persistLatest(FrozenDay day) {
+        writeLock.lock();
+        try {
+            long key = key(day.departmentId(), day.orderDate());
+            FrozenDay current = frozenDays.get(key);
+            if (frozenKeys.contains(key) && (current == null || current == day)) {
+                persist(day);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to store order snapshot for department {} on {}", day.departmentId(), day.orderDate(), e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void persist(FrozenDay day) {
+        OrderDaySnapshot snapshot = snapshotRepository.findByDepartmentIdAndOrderDate(day.departmentId(), day.orderDate())
+                .orElseGet(OrderDaySnapshot::new);
+        snapshot.setDepartmentId(day.departmentId());
+        snapshot.setOrderDate(day.orderDate());
+        snapshot.setOrderCount(day.orderCount());
+        snapshot.setOrdersJson(new String(day.ordersJson(), StandardCharsets.UTF_8));
+        snapshot.setSummaryJson(new String(day.summaryJson(), StandardCharsets.UTF_8));
+        snapshot.setFrozenTime(day.frozenTime());
+        snapshotRepository.save(snapshot);
+    }
+
+    private Optional<FrozenDay> loadPersisted(Long departmentId, LocalDate date) {
+        writeLock.lock();
+        try {
+            long key = key(departmentId, date);
+            FrozenDay cached = frozenDays.get(key);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+
+            Optional<OrderDaySnapshot> snapshot = snapshotRepository.findByDepartmentIdAndOrderDate(departmentId, date);
+            if (snapshot.isEmpty()) {
+                frozenKeys.remove(key);
+                return Optional.empty();
+            }
+            FrozenDay day = new FrozenDay(departmentId, date, snapshot.get().getOrderCount(),
+                    snapshot.get().getOrdersJson().getBytes(StandardCharsets.UTF_8),
+                    snapshot.get().getSummaryJson().getBytes(StandardCharsets.UTF_8),
+                    snapshot.get().getFrozenTime());
+            cache(day);
+            return Optional.of(day);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private FrozenDay build(Long departmentId, LocalDate date) {
+        List<OrderResponseDto> orders = orderMapper.findOrderResponses(departmentId, date).stream()
+                .map(OrderResponseDto::normalize)
+                .toList();
+        MenuCountSummaryDto summary = MenuSummaryBoard.summarize(departmentId, date, orders);
+        return new FrozenDay(departmentId, date, orders.size(), toJson(orders), toJson(summary),
+                LocalDateTime.now(KOREA_ZONE));
+    }
+
+    private void cache(FrozenDay day) {
+        long key = key(day.departmentId(), day.orderDate());
+        if (!frozenDays.containsKey(key) && frozenDays.size() >= MAX_CACHED_DAYS) {
+            // 가장 오래된 날짜 제거
+            frozenDays.entrySet().stream()
+                    .min(Comparator.comparing(entry -> entry.getValue().orderDate()))
+                    .ifPresent(entry -> frozenDays.remove(entry.getKey()));
+        }
+        frozenDays.put(key, day);
+    }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JSON 변환에 실패했습니다.", e);
+        }
+    }
+
+    private <T> T fromJson(byte[] json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (IOException e) {
+            throw new IllegalStateException("JSON 변환에 실패했습니다.", e);
+        }
+    }
+
+    // 부서 ID(상위 32비트)와 날짜(epoch day, 하위 32비트)를 long 하나로 합침 (MenuSummaryBoard와 같은 방식)
+    private static long key(Long departmentId, LocalDate date) {
+        return (departmentId << 32) | (date.toEpochDay() & 0xFFFFFFFFL);
+    }
+
+    /**
+     * 마감된 (부서, 날짜)의 직렬화된 응답
+     * @param ordersJson 주문 목록 (GET /api/orders 응답과 같은 JSON)
+     * @param summaryJson 메뉴 집계 (GET /api/orders/summary/barista 응답과 같은 JSON)
+     */
+    public record FrozenDay(Long departmentId, LocalDate orderDate, int orderCount,
+                            byte[] ordersJson, byte[] summaryJson, LocalDateTime frozenTime) {
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.dto.OrderResponseDto;
+import com.example.coffeeorder.mapper.OrderMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 주문 내역 내보내기 (CSV / NDJSON)
+ * MyBatis 커서로 한 행씩 읽어 바로 응답 스트림에 쓰므로, 기간이 길어도 메모리 사용량이 일정하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    public enum Format {
+        CSV("text/csv;charset=UTF-8", "csv"),
+        NDJSON("application/x-ndjson;charset=UTF-8", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        // 요청 파라미터(csv, ndjson)로 형식 조회 (없으면 null)
+        public static Format from(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            return null;
+        }
+    }
+
+    // 이 행 수마다 응답을 flush (첫 바이트는 헤더 직후 바로 전송)
+    private static final int FLUSH_ROWS = 500;
+
+    private static final String[] CSV_HEADER = {"주문ID", "주문일", "팀원", "메뉴구분", "메뉴", "옵션", "주문시각"};
+
+    private final OrderMapper orderMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 기간별 주문 내역을 지정한 형식으로 출력 스트림에 쓴다.
+     * 커서가 열려 있는 동안 트랜잭션(커넥션)을 유지한다.
+     */
+    @Transactional(readOnly = true)
+    public void export(Long departmentId, LocalDate from, LocalDate to, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+            writer.write('\uFEFF');
+            writeCsvLine(writer, CSV_HEADER);
+        }
+        writer.flush();
+
+        int rows = 0;
+        try (Cursor<OrderResponseDto> cursor = orderMapper.streamOrderResponses(departmentId, from, to)) {
+            for (OrderResponseDto row : cursor) {
+                if (format == Format.CSV) {
+                    writeCsvLine(writer, toCsvValues(row));
+                } else {
+                    writer.write(objectMapper.writeValueAsString(toJsonValues(row)));
+                    writer.write('\n');
+                }
+                if (++rows % FLUSH_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        log.info("Exported {} orders ({} ~ {}, department={}, format={})", rows, from, to, departmentId, format);
+    }
+
+    // 메뉴 타입에 따라 커스텀 메뉴/투썸 메뉴 이름 선택
+    private String menuName(OrderResponseDto row) {
+        return "TWOSOME".equals(menuType(row)) ? row.getTwosomeMenuName() : row.getMenuName();
+    }
+
+    // menuType이 null인 경우 CUSTOM으로 처리 (기존 데이터 호환)
+    private String menuType(OrderResponseDto row) {
+        return row.getMenuType() != null ? row.getMenuType() : "CUSTOM";
+    }
+
+    private String[] toCsvValues(OrderResponseDto row) {
+        return new String[]{
+                String.valueOf(row.getId()),
+                String.valueOf(row.getOrderDate()),
+                row.getTeamName(),
+                menuType(row),
+                menuName(row),
+                row.getPersonalOption(),
+                row.getCreatedTime() != null ? row.getCreatedTime().toString() : null
+        };
+    }
+
+    private Map<String, Object> toJsonValues(OrderResponseDto row) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("id", row.getId());
+        values.put("orderDate", row.getOrderDate());
+        values.put("teamName", row.getTeamName());
+        values.put("menuType", menuType(row));
+        values.put("menuName", menuName(row));
+        values.put("personalOption", row.getPersonalOption());
+        values.put("createdTime", row.getCreatedTime());
+        return values;
+    }
+
+    private void writeCsvLine(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    // 쉼표/따옴표/줄바꿈은 따옴표로 감싸고, 수식으로 해석될 수 있는 값은 앞에 '를 붙임
+    private String escapeCsv(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        if ("=+-@".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
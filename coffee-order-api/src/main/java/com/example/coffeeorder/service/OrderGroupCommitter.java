@@ -0,0 +1,184 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.dto.OrderBatchResultDto;
+import com.example.coffeeorder.dto.OrderCreateDto;
+import com.example.coffeeorder.dto.OrderResponseDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 주문 그룹 커밋 (마감 직전 주문 몰림 대응, app.order.group-commit.enabled=true 일 때만 동작)
+ * 요청 스레드는 주문을 제한된 큐에 넣고 결과를 기다리며, 쓰기 스레드 하나가 큐에 쌓인 주문을 모아
+ * 한 트랜잭션(다건 INSERT 한 문장)으로 저장한다. 주문마다 하던 커밋/디스크 동기화가 묶음당 한 번으로 줄어든다.
+ * 큐가 가득 차면 기존처럼 요청 스레드에서 바로 저장하므로 응답 형식과 오류 메시지는 그대로다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderGroupCommitter {
+
+    private final OrderService orderService;
+
+    @Value("${app.order.group-commit.enabled:false}")
+    private boolean enabled;
+
+    // 대기 큐 크기
+    @Value("${app.order.group-commit.queue-capacity:1000}")
+    private int queueCapacity;
+
+    // 한 트랜잭션에 묶을 최대 주문 수
+    @Value("${app.order.group-commit.max-batch-size:100}")
+    private int maxBatchSize;
+
+    // 첫 주문 이후 같은 묶음에 넣을 주문을 기다리는 최대 시간
+    @Value("${app.order.group-commit.linger-millis:2}")
+    private long lingerMillis;
+
+    // 요청 스레드가 결과를 기다리는 최대 시간
+    @Value("${app.order.group-commit.wait-seconds:30}")
+    private long waitSeconds;
+
+    private BlockingQueue<PendingOrder> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::drainLoop, "order-group-commit");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Order group commit enabled (queue: {}, max batch: {}, linger: {}ms)",
+                queueCapacity, maxBatchSize, lingerMillis);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        // 남은 주문은 쓰기 스레드가 마저 저장하고 종료
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(waitSeconds));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 주문 생성 (OrderService.placeOrder와 같은 결과/예외 메시지)
+     * @return 저장된 주문 응답
+     * @throws Exception 검증 실패, 중복 주문 등 (메시지는 사용자에게 그대로 노출)
+     */
+    public OrderResponseDto placeOrder(OrderCreateDto dto) throws Exception {
+        PendingOrder pending = new PendingOrder(dto);
+        if (!running || !queue.offer(pending)) {
+            // 큐가 가득 찼거나 종료 중이면 요청 스레드에서 바로 저장
+            return placeDirectly(dto);
+        }
+
+        OrderBatchResultDto result;
+        try {
+            result = pending.future.get(waitSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Exception("주문 처리 중 오류가 발생했습니다.");
+        } catch (ExecutionException e) {
+            log.error("Group commit failed", e.getCause());
+            throw new Exception("주문 처리 중 오류가 발생했습니다.");
+        } catch (TimeoutException e) {
+            throw new Exception("주문 처리가 지연되고 있습니다. 잠시 후 주문 내역을 확인해주세요.");
+        }
+
+        if (!result.isSuccess()) {
+            throw new Exception(result.getError());
+        }
+        return result.getOrder();
+    }
+
+    // 쓰기 스레드: 첫 주문을 기다렸다가, 이미 쌓인 주문 + linger 동안 들어온 주문을 한 묶음으로 저장
+    private void drainLoop() {
+        List<PendingOrder> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingOrder first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - batch.size());
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                while (batch.size() < maxBatchSize) {
+                    PendingOrder next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                // 인터럽트는 종료 요청으로 보고, 모아둔 주문까지만 저장
+                running = false;
+            }
+
+            if (!batch.isEmpty()) {
+                commit(batch);
+                batch.clear();
+            }
+        }
+        log.info("Order group commit writer stopped");
+    }
+
+    // 묶음 저장 후 요청별 결과 전달
+    private void commit(List<PendingOrder> batch) {
+        List<OrderCreateDto> dtos = batch.stream().map(p -> p.dto).toList();
+        try {
+            List<OrderBatchResultDto> results = orderService.createOrdersGrouped(dtos);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(results.get(i));
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 묶음 밖에서 먼저 등록된 주문과 충돌 → 묶음이 롤백되었으므로 주문별 트랜잭션으로 다시 저장
+            log.info("Group commit of {} orders conflicted, retrying individually", batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                PendingOrder pending = batch.get(i);
+                try {
+                    pending.future.complete(OrderBatchResultDto.created(i, placeDirectly(pending.dto)));
+                } catch (Exception ex) {
+                    pending.future.complete(OrderBatchResultDto.failed(i, ex.getMessage()));
+                }
+            }
+        } catch (RuntimeException e) {
+            batch.forEach(p -> p.future.completeExceptionally(e));
+        }
+    }
+
+    private OrderResponseDto placeDirectly(OrderCreateDto dto) throws Exception {
+        return orderService.placeOrder(dto);
+    }
+
+    // 큐에 넣은 주문과 결과를 받을 future
+    private static class PendingOrder {
+        private final OrderCreateDto dto;
+        private final CompletableFuture<OrderBatchResultDto> future = new CompletableFuture<>();
+
+        PendingOrder(OrderCreateDto dto) {
+            this.dto = dto;
+        }
+    }
+}
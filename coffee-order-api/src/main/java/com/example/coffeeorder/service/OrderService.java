@@ -1,13 +1,16 @@
 package com.example.coffeeorder.service;
 
+import com.example.coffeeorder.dto.MenuCountSummaryDto;
 import com.example.coffeeorder.dto.MenuSummaryDto;
+import com.example.coffeeorder.dto.OrderBatchResultDto;
 import com.example.coffeeorder.dto.OrderCreateDto;
+import com.example.coffeeorder.dto.OrderHistoryPageDto;
+import com.example.coffeeorder.dto.OrderPatchDto;
 import com.example.coffeeorder.dto.OrderResponseDto;
-import com.example.coffeeorder.entity.Department;
-import com.example.coffeeorder.entity.Menu;
+import com.example.coffeeorder.dto.OrderUpdatedRow;
 import com.example.coffeeorder.entity.Order;
 import com.example.coffeeorder.entity.Team;
-import com.example.coffeeorder.entity.TwosomeMenu;
+import com.example.coffeeorder.event.OrderChangedEvent;
 import com.example.coffeeorder.mapper.OrderMapper;
 import com.example.coffeeorder.repository.DepartmentRepository;
 import com.example.coffeeorder.repository.MenuRepository;
@@ -15,12 +18,19 @@ import com.example.coffeeorder.repository.OrderRepository;
 import com.example.coffeeorder.repository.TeamRepository;
 import com.example.coffeeorder.repository.TwosomeMenuRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,29 +44,69 @@ public class OrderService {
     private final TwosomeMenuRepository twosomeMenuRepository;
     private final DepartmentRepository departmentRepository;
     private final OrderMapper orderMapper;
+    private final TodayOrderBoard todayOrderBoard;
+    private final MenuSummaryBoard menuSummaryBoard;
+    private final TeamOrderHistory teamOrderHistory;
+    private final OrderCatalog orderCatalog;
+    private final OrderDayFreezer orderDayFreezer;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 한국 시간 기준 ZoneId
     private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
 
-    // 오늘 주문 전체 조회 (하위 호환용)
-    public List<Order> findTodayOrders() {
-        return orderRepository.findByOrderDateAndDelYn(LocalDate.now(KOREA_ZONE), "N");
-    }
+    // 이력 페이지 커서 형식: {주문 날짜}_{주문 ID}
+    private static final String HISTORY_CURSOR_SEPARATOR = "_";
+
+    // H2가 제약 이름 대신 알려주는 제약 인덱스 이름의 접미사 (예: UK_ORDERS_ACTIVE_TEAM_DATE_INDEX_8)
+    private static final Pattern H2_CONSTRAINT_INDEX_SUFFIX = Pattern.compile("_INDEX_[0-9A-F]+$", Pattern.CASE_INSENSITIVE);
 
-    // 부서별 오늘 주문 조회
-    public List<Order> findTodayOrdersByDepartment(Long departmentId) {
-        return orderRepository.findByDepartmentIdAndOrderDateAndDelYn(
-            departmentId, LocalDate.now(KOREA_ZONE), "N");
+    // 오늘 주문 조회 (부서별은 인메모리 현황판, departmentId가 null이면 전체 부서 DB 조회)
+    // 현황판 조회 시 커넥션을 잡지 않도록 트랜잭션을 새로 열지 않음
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<OrderResponseDto> findTodayOrderResponses(Long departmentId) {
+        return findOrderResponsesByDate(departmentId, LocalDate.now(KOREA_ZONE));
     }
 
-    // 특정 날짜 주문 조회 (하위 호환용)
-    public List<Order> findOrdersByDate(LocalDate date) {
-        return orderRepository.findByOrderDateAndDelYn(date, "N");
+    // 특정 날짜 주문 조회 (팀원/메뉴를 한 번의 조인으로 조회, departmentId가 null이면 전체 부서)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<OrderResponseDto> findOrderResponsesByDate(Long departmentId, LocalDate date) {
+        if (departmentId != null && date.equals(LocalDate.now(KOREA_ZONE))) {
+            return todayOrderBoard.getTodayOrders(departmentId);
+        }
+        return orderMapper.findOrderResponses(departmentId, date).stream()
+                .map(OrderResponseDto::normalize)
+                .toList();
     }
 
-    // 부서별 특정 날짜 주문 조회
-    public List<Order> findOrdersByDepartmentAndDate(Long departmentId, LocalDate date) {
-        return orderRepository.findByDepartmentIdAndOrderDateAndDelYn(departmentId, date, "N");
+    // 기간별 주문 이력 조회 (order_date desc, id desc 순 키셋 페이징, after는 이전 응답의 nextCursor)
+    public OrderHistoryPageDto findOrderHistory(Long departmentId, LocalDate from, LocalDate to,
+                                                String after, int size) throws Exception {
+        LocalDate afterDate = null;
+        Long afterId = null;
+        if (after != null && !after.isBlank()) {
+            try {
+                String[] parts = after.split(HISTORY_CURSOR_SEPARATOR, 2);
+                afterDate = LocalDate.parse(parts[0]);
+                afterId = Long.parseLong(parts[1]);
+            } catch (RuntimeException e) {
+                throw new Exception("잘못된 페이지 커서입니다.");
+            }
+        }
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        List<OrderResponseDto> rows = orderMapper.findOrderHistory(departmentId, from, to, afterDate, afterId, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<OrderResponseDto> orders = rows.stream()
+                .limit(size)
+                .map(OrderResponseDto::normalize)
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            OrderResponseDto last = orders.get(orders.size() - 1);
+            nextCursor = last.getOrderDate() + HISTORY_CURSOR_SEPARATOR + last.getId();
+        }
+        return new OrderHistoryPageDto(orders, nextCursor);
     }
 
     // ID로 조회
@@ -64,81 +114,234 @@ public class OrderService {
         return orderRepository.findById(id);
     }
 
-    // 주문 생성 (중복 체크)
-    @Transactional
+    // 주문 생성 (중복은 DB 유니크 제약으로 판단)
+    @Transactional(rollbackFor = Exception.class)
     public Order createOrder(Order order) throws Exception {
-        // 같은 날짜에 같은 팀원이 이미 주문했는지 체크
-        boolean exists = orderRepository.existsByTeamAndOrderDateAndDelYn(
-            order.getTeam(),
-            order.getOrderDate(),
-            "N"
-        );
+        Order savedOrder = insertOrder(order);
+        publishChanged(OrderChangedEvent.Type.CREATED, savedOrder);
+        return savedOrder;
+    }
 
-        if (exists) {
-            throw new Exception("이미 오늘 주문하셨습니다.");
-        }
+    // 주문 생성 (DTO 사용, 중복은 DB 유니크 제약으로 판단)
+    @Transactional(rollbackFor = Exception.class)
+    public Long createOrderFromDto(OrderCreateDto dto) throws Exception {
+        // 저장된 ID만 반환 (사용자 입력으로부터 완전히 분리)
+        return placeOrder(dto).getId();
+    }
 
-        return orderRepository.save(order);
+    // 주문 생성 후 응답 반환 (주문 화면 단건 주문 경로)
+    // 카탈로그로 검증해 INSERT 한 문장으로 저장하고, 응답도 다시 조회하지 않고 카탈로그 값으로 만들어 이벤트에 실음
+    // (현황판 등도 재조회하지 않음)
+    @Transactional(rollbackFor = Exception.class)
+    public OrderResponseDto placeOrder(OrderCreateDto dto) throws Exception {
+        PreparedOrder prepared = prepareOrder(dto, null, LocalDate.now(KOREA_ZONE));
+        Order savedOrder = insertOrder(prepared.order());
+        OrderResponseDto response = prepared.respond(savedOrder);
+        publishChanged(OrderChangedEvent.Type.CREATED, savedOrder, response);
+        return response;
     }
 
-    // 주문 생성 (DTO 사용)
+    // 일괄 주문 생성 (팀장이 부서 주문을 한 번에 등록)
+    // 검증은 카탈로그, 중복은 한 번의 조회로 확인하고, 통과한 주문만 다건 INSERT 한 문장으로 저장
+    // 실패한 항목은 사유와 함께 결과에 담고 나머지는 저장 (요청 순서대로 결과 반환)
+    @Transactional(rollbackFor = Exception.class)
+    public List<OrderBatchResultDto> createOrdersBatch(Long departmentId, List<OrderCreateDto> dtos) throws Exception {
+        if (!orderCatalog.existsDepartment(departmentId)) {
+            throw new Exception("부서를 찾을 수 없습니다.");
+        }
+        try {
+            return insertOrdersInBulk(dtos, departmentId, true);
+        } catch (DataIntegrityViolationException e) {
+            // 중복 체크 이후 다른 요청이 먼저 주문한 경우 (일괄 주문 전체 롤백)
+            throw new Exception("처리 중 다른 주문이 먼저 등록되었습니다. 다시 시도해주세요.");
+        }
+    }
+
+    // 그룹 커밋 (서로 다른 사용자의 개별 주문 요청을 한 트랜잭션으로 저장, OrderGroupCommitter 전용)
+    // 부서는 요청마다 지정하거나 팀원의 부서를 따름 (placeOrder와 같은 규칙, 응답도 같은 형식)
+    // 기존 주문 중복 조회 없이 INSERT 한 문장만 실행하고, 그룹 밖에서 먼저 등록된 주문과 충돌하면
+    // DataIntegrityViolationException으로 그룹 전체 롤백 (OrderGroupCommitter가 주문별로 다시 저장)
     @Transactional
-    public Long createOrderFromDto(OrderCreateDto dto) throws Exception {
-        // Team 조회
-        Team team = teamRepository.findById(dto.getTeamId())
-                .orElseThrow(() -> new Exception("팀원을 찾을 수 없습니다."));
+    public List<OrderBatchResultDto> createOrdersGrouped(List<OrderCreateDto> dtos) {
+        return insertOrdersInBulk(dtos, null, false);
+    }
 
-        // Order 날짜 설정 - 한국 시간 기준
-        LocalDate orderDate = dto.getOrderDate() != null ? dto.getOrderDate() : LocalDate.now(KOREA_ZONE);
+    // 주문 목록 검증 후 다건 INSERT (departmentId가 null이면 요청별 부서)
+    // checkExisting이면 이미 저장된 (팀원, 날짜) 주문을 한 번의 조회로 걸러 항목별 실패로 돌려줌
+    private List<OrderBatchResultDto> insertOrdersInBulk(List<OrderCreateDto> dtos, Long departmentId,
+                                                         boolean checkExisting) {
+        LocalDate today = LocalDate.now(KOREA_ZONE);
+
+        // 카탈로그에 없는 팀원/부서/메뉴만 종류별 IN 조회 한 번으로 채움 (모두 있으면 조회 없음)
+        Set<Long> teamIds = collectIds(dtos, OrderCreateDto::getTeamId);
+        orderCatalog.prefetch(teamIds,
+                departmentId != null ? Set.of() : collectIds(dtos, OrderCreateDto::getDepartmentId),
+                collectIds(dtos, OrderCreateDto::getMenuId),
+                collectIds(dtos, OrderCreateDto::getTwosomeMenuId));
+
+        // 이미 주문한 (팀원, 날짜) 목록 + 같은 요청 안의 중복
+        Set<String> orderedKeys = new HashSet<>();
+        if (checkExisting) {
+            Set<LocalDate> orderDates = dtos.stream()
+                    .map(dto -> dto.getOrderDate() != null ? dto.getOrderDate() : today)
+                    .collect(Collectors.toSet());
+            if (!teamIds.isEmpty()) {
+                for (Object[] row : orderRepository.findActiveTeamOrderDates(teamIds, orderDates)) {
+                    orderedKeys.add(row[0] + "/" + row[1]);
+                }
+            }
+        }
+
+        OrderBatchResultDto[] results = new OrderBatchResultDto[dtos.size()];
+        List<PreparedOrder> prepared = new ArrayList<>();
+        List<Integer> orderIndexes = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < dtos.size(); i++) {
+            PreparedOrder order;
+            try {
+                order = prepareOrder(dtos.get(i), departmentId, today);
+            } catch (Exception e) {
+                results[i] = OrderBatchResultDto.failed(i, e.getMessage());
+                continue;
+            }
+            if (!orderedKeys.add(order.teamId() + "/" + order.order().getOrderDate())) {
+                results[i] = OrderBatchResultDto.failed(i, "이미 오늘 주문하셨습니다.");
+                continue;
+            }
+            order.order().setCreatedTime(now);
+            order.order().setUpdatedTime(now);
+            prepared.add(order);
+            orderIndexes.add(i);
+        }
 
-        // 중복 체크
-        boolean exists = orderRepository.existsByTeamAndOrderDateAndDelYn(team, orderDate, "N");
-        if (exists) {
-            throw new Exception("이미 오늘 주문하셨습니다.");
+        if (!prepared.isEmpty()) {
+            orderMapper.insertOrders(prepared.stream().map(PreparedOrder::order).toList());
+            for (int i = 0; i < prepared.size(); i++) {
+                Order order = prepared.get(i).order();
+                OrderResponseDto response = prepared.get(i).respond(order);
+                results[orderIndexes.get(i)] = OrderBatchResultDto.created(orderIndexes.get(i), response);
+                publishChanged(OrderChangedEvent.Type.CREATED, order, response);
+            }
         }
+        return Arrays.asList(results);
+    }
+
+    private static Set<Long> collectIds(List<OrderCreateDto> dtos, Function<OrderCreateDto, Long> idGetter) {
+        return dtos.stream()
+                .map(idGetter)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    // 주문 요청 검증 후 저장할 주문과 응답 준비 (단건/일괄/그룹 커밋 공통)
+    // 팀원/부서/메뉴는 인메모리 카탈로그로 검증하고 연관관계는 참조(프록시)만 연결 (SELECT 없음)
+    // departmentId가 있으면 요청의 부서 대신 사용 (팀장 일괄 주문)
+    private PreparedOrder prepareOrder(OrderCreateDto dto, Long departmentId, LocalDate today) throws Exception {
+        OrderCatalog.TeamEntry team = orderCatalog.findTeam(dto.getTeamId())
+                .orElseThrow(() -> new Exception("팀원을 찾을 수 없습니다."));
+
+        // Order 날짜 설정 - 한국 시간 기준
+        LocalDate orderDate = dto.getOrderDate() != null ? dto.getOrderDate() : today;
 
         // Order 엔티티 생성
         Order order = new Order();
-        order.setTeam(team);
+        order.setTeam(teamRepository.getReferenceById(team.id()));
         order.setPersonalOption(dto.getPersonalOption());
         order.setOrderDate(orderDate);
 
         // 부서 설정 (팀의 부서를 따라가거나 직접 지정)
-        if (dto.getDepartmentId() != null) {
-            Department department = departmentRepository.findById(dto.getDepartmentId())
-                    .orElseThrow(() -> new Exception("부서를 찾을 수 없습니다."));
-            order.setDepartment(department);
-        } else if (team.getDepartment() != null) {
-            order.setDepartment(team.getDepartment());
+        Long orderDepartmentId = departmentId;
+        if (orderDepartmentId == null && dto.getDepartmentId() != null) {
+            if (!orderCatalog.existsDepartment(dto.getDepartmentId())) {
+                throw new Exception("부서를 찾을 수 없습니다.");
+            }
+            orderDepartmentId = dto.getDepartmentId();
+        } else if (orderDepartmentId == null) {
+            orderDepartmentId = team.departmentId();
         }
+        if (orderDepartmentId != null) {
+            order.setDepartment(departmentRepository.getReferenceById(orderDepartmentId));
+        }
+        checkNotFrozen(orderDepartmentId, orderDate);
 
         // 메뉴 타입에 따라 처리
         String menuType = dto.getMenuType() != null ? dto.getMenuType() : "CUSTOM";
         order.setMenuType(menuType);
 
+        OrderResponseDto response = new OrderResponseDto();
         if ("TWOSOME".equals(menuType)) {
             // 투썸 메뉴 모드
             if (dto.getTwosomeMenuId() == null) {
                 throw new Exception("투썸 메뉴를 선택해주세요.");
             }
-            TwosomeMenu twosomeMenu = twosomeMenuRepository.findById(dto.getTwosomeMenuId())
+            OrderCatalog.TwosomeMenuEntry twosomeMenu = orderCatalog.findTwosomeMenu(dto.getTwosomeMenuId())
                     .orElseThrow(() -> new Exception("투썸 메뉴를 찾을 수 없습니다."));
-            order.setTwosomeMenu(twosomeMenu);
+            order.setTwosomeMenu(twosomeMenuRepository.getReferenceById(twosomeMenu.id()));
             order.setMenu(null);
+            response.setTwosomeMenuId(twosomeMenu.id());
+            response.setTwosomeMenuName(twosomeMenu.name());
+            response.setTwosomeMenuCategory(twosomeMenu.category());
+            response.setTwosomeMenuCode(twosomeMenu.code());
         } else {
             // 커스텀 메뉴 모드
             if (dto.getMenuId() == null) {
                 throw new Exception("메뉴를 선택해주세요.");
             }
-            Menu menu = menuRepository.findById(dto.getMenuId())
+            OrderCatalog.MenuEntry menu = orderCatalog.findMenu(dto.getMenuId())
                     .orElseThrow(() -> new Exception("메뉴를 찾을 수 없습니다."));
-            order.setMenu(menu);
+            order.setMenu(menuRepository.getReferenceById(menu.id()));
             order.setTwosomeMenu(null);
+            response.setMenuId(menu.id());
+            response.setMenuName(menu.name());
+            response.setMenuCategory(menu.category());
         }
 
-        Order savedOrder = orderRepository.save(order);
-        // 저장된 ID만 반환 (사용자 입력으로부터 완전히 분리)
-        return savedOrder.getId();
+        response.setTeamId(team.id());
+        response.setTeamName(team.name());
+        response.setMenuType(menuType);
+        return new PreparedOrder(order, response, team.id());
+    }
+
+    // 저장 전 주문과 카탈로그 값으로 채운 응답
+    private record PreparedOrder(Order order, OrderResponseDto response, Long teamId) {
+
+        // 저장된 주문의 ID/시각을 채운 응답
+        OrderResponseDto respond(Order saved) {
+            response.setId(saved.getId());
+            response.setPersonalOption(saved.getPersonalOption());
+            response.setOrderDate(saved.getOrderDate());
+            response.setCreatedTime(saved.getCreatedTime());
+            response.setUpdatedTime(saved.getUpdatedTime());
+            return OrderResponseDto.normalize(response);
+        }
+    }
+
+    // 주문 INSERT (팀원당 하루 한 건 유니크 제약 위반 시 중복 주문 예외)
+    private Order insertOrder(Order order) throws Exception {
+        try {
+            return orderRepository.save(order);
+        } catch (DataIntegrityViolationException e) {
+            if (violatesActiveTeamDate(e)) {
+                throw new Exception("이미 오늘 주문하셨습니다.");
+            }
+            throw e;
+        }
+    }
+
+    // 팀원당 하루 한 건 유니크 제약 위반 여부
+    // Hibernate가 DB 오류에서 뽑은 제약 이름으로 비교하고, 이름을 얻지 못한 경우에만 DB 오류 메시지에서 찾음
+    private static boolean violatesActiveTeamDate(DataIntegrityViolationException e) {
+        if (e.getCause() instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+            return Order.UK_ACTIVE_TEAM_DATE.equalsIgnoreCase(constraintName(violation.getConstraintName()));
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(Order.UK_ACTIVE_TEAM_DATE);
+    }
+
+    // 스키마/따옴표와 H2 제약 인덱스 접미사를 뗀 제약 이름 (PUBLIC.UK_..._INDEX_8 -> UK_...)
+    private static String constraintName(String reported) {
+        String name = reported.substring(reported.lastIndexOf('.') + 1).replace("\"", "");
+        return H2_CONSTRAINT_INDEX_SUFFIX.matcher(name).replaceFirst("");
     }
 
     // ID로 OrderResponseDto 조회
@@ -148,12 +351,16 @@ public class OrderService {
         return OrderResponseDto.from(order);
     }
 
-    // 주문 수정
-    @Transactional
-    public Order updateOrder(Long id, Order updatedOrder) {
+    // 주문 수정 (마감된 날짜의 주문이면 예외)
+    @Transactional(rollbackFor = Exception.class)
+    public Order updateOrder(Long id, Order updatedOrder) throws Exception {
         Optional<Order> existingOrder = orderRepository.findById(id);
         if (existingOrder.isPresent()) {
             Order order = existingOrder.get();
+            checkNotFrozen(order.getDepartment() != null ? order.getDepartment().getId() : null, order.getOrderDate());
+            OrderResponseDto previous = menuOf(order.getMenuType(),
+                    order.getMenu() != null ? order.getMenu().getId() : null,
+                    order.getTwosomeMenu() != null ? order.getTwosomeMenu().getId() : null);
 
             // 메뉴 타입 업데이트
             if (updatedOrder.getMenuType() != null) {
@@ -170,44 +377,203 @@ public class OrderService {
             }
 
             order.setPersonalOption(updatedOrder.getPersonalOption());
-            return orderRepository.save(order);
+            Order savedOrder = orderRepository.save(order);
+            publishChanged(OrderChangedEvent.Type.UPDATED, savedOrder, null, previous);
+            return savedOrder;
         }
         return null;
     }
 
-    // 소프트 삭제
-    @Transactional
-    public void softDelete(Long id) {
-        Optional<Order> order = orderRepository.findById(id);
-        order.ifPresent(o -> {
-            o.setDelYn("Y");
-            orderRepository.save(o);
-        });
+    // 주문 부분 수정 (주문 변경 모달용, 메뉴/개인 옵션만)
+    // 메뉴는 인메모리 카탈로그로 검증하고 UPDATE 한 문장으로 변경, 응답은 변경된 행과 카탈로그 값으로 만듦
+    // 변경된 행의 부서/날짜가 마감된 날이면 예외로 롤백 (마감 확인을 위해 미리 조회하지 않음)
+    @Transactional(rollbackFor = Exception.class)
+    public Optional<OrderResponseDto> patchOrder(Long id, OrderPatchDto dto) throws Exception {
+        String menuType = dto.getMenuType();
+        if (menuType == null) {
+            // 메뉴 타입 없이 메뉴 ID만 보낸 경우
+            if (dto.getTwosomeMenuId() != null) {
+                menuType = "TWOSOME";
+            } else if (dto.getMenuId() != null) {
+                menuType = "CUSTOM";
+            }
+        }
+
+        if ("TWOSOME".equals(menuType)) {
+            if (dto.getTwosomeMenuId() == null) {
+                throw new Exception("투썸 메뉴를 선택해주세요.");
+            }
+            if (orderCatalog.findTwosomeMenu(dto.getTwosomeMenuId()).isEmpty()) {
+                throw new Exception("투썸 메뉴를 찾을 수 없습니다.");
+            }
+        } else if ("CUSTOM".equals(menuType)) {
+            if (dto.getMenuId() == null) {
+                throw new Exception("메뉴를 선택해주세요.");
+            }
+            if (orderCatalog.findMenu(dto.getMenuId()).isEmpty()) {
+                throw new Exception("메뉴를 찾을 수 없습니다.");
+            }
+        } else if (menuType != null) {
+            throw new Exception("메뉴 타입이 올바르지 않습니다.");
+        }
+
+        OrderUpdatedRow row = orderMapper.updateOrderPartially(id, menuType, dto.getMenuId(),
+                dto.getTwosomeMenuId(), dto.getPersonalOption());
+        if (row == null) {
+            return Optional.empty();
+        }
+        checkNotFrozen(row.getDepartmentId(), row.getOrderDate());
+
+        OrderResponseDto response = new OrderResponseDto();
+        response.setId(row.getId());
+        response.setTeamId(row.getTeamId());
+        response.setTeamName(orderCatalog.findTeam(row.getTeamId())
+                .map(OrderCatalog.TeamEntry::name)
+                .orElse(null));
+        response.setMenuType(row.getMenuType());
+        response.setPersonalOption(row.getPersonalOption());
+        response.setOrderDate(row.getOrderDate());
+        response.setCreatedTime(row.getCreatedTime());
+        response.setUpdatedTime(row.getUpdatedTime());
+        if ("TWOSOME".equals(row.getMenuType())) {
+            orderCatalog.findTwosomeMenu(row.getTwosomeMenuId()).ifPresent(menu -> {
+                response.setTwosomeMenuId(menu.id());
+                response.setTwosomeMenuName(menu.name());
+                response.setTwosomeMenuCategory(menu.category());
+                response.setTwosomeMenuCode(menu.code());
+            });
+        } else {
+            orderCatalog.findMenu(row.getMenuId()).ifPresent(menu -> {
+                response.setMenuId(menu.id());
+                response.setMenuName(menu.name());
+                response.setMenuCategory(menu.category());
+            });
+        }
+        OrderResponseDto normalized = OrderResponseDto.normalize(response);
+
+        OrderResponseDto previous = menuOf(row.getPreviousMenuType(), row.getPreviousMenuId(),
+                row.getPreviousTwosomeMenuId());
+        eventPublisher.publishEvent(new OrderChangedEvent(OrderChangedEvent.Type.UPDATED, row.getId(),
+                row.getDepartmentId(), row.getTeamId(), row.getOrderDate(), normalized, previous));
+        return Optional.of(normalized);
+    }
+
+    // 소프트 삭제 (UPDATE 한 문장, 삭제할 주문이 없으면 false)
+    @Transactional(rollbackFor = Exception.class)
+    public boolean softDelete(Long id) throws Exception {
+        return softDeleteAll(List.of(id)) > 0;
+    }
+
+    // 일괄 소프트 삭제 (UPDATE 한 문장, 실제 삭제된 건수 반환)
+    // 삭제된 행 중 하나라도 마감된 날의 주문이면 예외로 전체 롤백
+    // 삭제된 행마다 이벤트를 발행해 현황판/팀원 이력에 반영
+    @Transactional(rollbackFor = Exception.class)
+    public int softDeleteAll(Collection<Long> ids) throws Exception {
+        List<OrderUpdatedRow> rows = orderMapper.softDeleteOrders(ids);
+        for (OrderUpdatedRow row : rows) {
+            checkNotFrozen(row.getDepartmentId(), row.getOrderDate());
+        }
+        for (OrderUpdatedRow row : rows) {
+            // 삭제된 주문의 메뉴 (메뉴 인기 점수 차감용, 이름은 채우지 않음)
+            OrderResponseDto deleted = menuOf(row.getMenuType(), row.getMenuId(), row.getTwosomeMenuId());
+            deleted.setId(row.getId());
+            deleted.setTeamId(row.getTeamId());
+            deleted.setOrderDate(row.getOrderDate());
+            eventPublisher.publishEvent(new OrderChangedEvent(OrderChangedEvent.Type.DELETED, row.getId(),
+                    row.getDepartmentId(), row.getTeamId(), row.getOrderDate(), deleted));
+        }
+        return rows.size();
+    }
+
+    // 마감된 (부서, 날짜)의 주문 변경 차단 (주문 자신의 부서/날짜 기준, DB 조회 없음)
+    private void checkNotFrozen(Long departmentId, LocalDate orderDate) throws Exception {
+        if (departmentId != null && orderDate != null && orderDayFreezer.isFrozen(departmentId, orderDate)) {
+            throw new Exception("주문이 마감된 날짜입니다.");
+        }
+    }
+
+    // 주문 변경 이벤트 발행 (커밋 이후 현황판 등 인메모리 뷰에 반영)
+    private void publishChanged(OrderChangedEvent.Type type, Order order) {
+        publishChanged(type, order, null);
+    }
+
+    // 응답을 이미 만든 경우 이벤트에 실어 구독 측의 재조회를 생략
+    private void publishChanged(OrderChangedEvent.Type type, Order order, OrderResponseDto response) {
+        publishChanged(type, order, response, null);
+    }
+
+    // 수정이면 수정 전 메뉴도 함께 실음
+    private void publishChanged(OrderChangedEvent.Type type, Order order, OrderResponseDto response,
+                                OrderResponseDto previous) {
+        Long departmentId = order.getDepartment() != null ? order.getDepartment().getId() : null;
+        Long teamId = order.getTeam() != null ? order.getTeam().getId() : null;
+        eventPublisher.publishEvent(new OrderChangedEvent(type, order.getId(), departmentId, teamId,
+                order.getOrderDate(), response, previous));
+    }
+
+    // 메뉴 타입/ID만 채운 주문 (삭제된 주문, 수정 전 메뉴)
+    private static OrderResponseDto menuOf(String menuType, Long menuId, Long twosomeMenuId) {
+        OrderResponseDto menu = new OrderResponseDto();
+        menu.setMenuType(menuType);
+        menu.setMenuId(menuId);
+        menu.setTwosomeMenuId(twosomeMenuId);
+        return menu;
     }
 
     // 날짜별 메뉴 집계 (MyBatis 사용)
     public Map<String, Object> getMenuSummaryByDate(LocalDate date) {
-        List<MenuSummaryDto> results = orderMapper.findMenuSummaryByDate(date);
+        return getMenuSummaryByDate(null, date);
+    }
 
+    /**
+     * 날짜별 메뉴 집계 (메뉴 + 옵션별 건수)
+     * 부서를 주면 인메모리 카운터(MenuSummaryBoard)를 그대로 펼쳐 쿼리 없이 응답하고,
+     * 마감된 날짜면 카운터 대신 마감 스냅샷의 집계를 펼친다.
+     * 부서 없는 전체 집계는 부서가 지정되지 않은(department_id NULL) 예전 주문까지 포함해야 해서
+     * 부서별 카운터로 합칠 수 없으므로 GROUP BY 쿼리를 유지한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<String, Object> getMenuSummaryByDate(Long departmentId, LocalDate date) {
         Map<String, Object> summary = new LinkedHashMap<>();
 
-        for (MenuSummaryDto dto : results) {
-            String key = dto.getMenuName();
-            if (dto.getPersonalOption() != null && !dto.getPersonalOption().isEmpty()) {
-                key += " (옵션: " + dto.getPersonalOption() + ")";
+        if (departmentId != null) {
+            MenuCountSummaryDto counts = orderDayFreezer.findSummary(departmentId, date)
+                    .orElseGet(() -> menuSummaryBoard.getSummary(departmentId, date));
+            for (MenuCountSummaryDto.MenuCount menu : counts.getMenus()) {
+                for (MenuCountSummaryDto.OptionCount option : menu.getOptions()) {
+                    putMenuSummary(summary, menu.getMenuName(), menu.getCategory(), option.getOption(), option.getCount());
+                }
             }
-
-            summary.put(key, Map.of(
-                "menuName", dto.getMenuName(),
-                "category", dto.getCategory(),
-                "personalOption", dto.getPersonalOption() != null ? dto.getPersonalOption() : "",
-                "count", dto.getCount()
-            ));
+            return summary;
         }
 
+        for (MenuSummaryDto dto : orderMapper.findMenuSummaryByDate(date)) {
+            putMenuSummary(summary, dto.getMenuName(), dto.getCategory(), dto.getPersonalOption(), dto.getCount());
+        }
         return summary;
     }
 
+    private static void putMenuSummary(Map<String, Object> summary, String menuName, String category,
+                                       String personalOption, long count) {
+        String key = menuName;
+        if (personalOption != null && !personalOption.isEmpty()) {
+            key += " (옵션: " + personalOption + ")";
+        }
+
+        summary.put(key, Map.of(
+            "menuName", menuName,
+            "category", category != null ? category : "",
+            "personalOption", personalOption != null ? personalOption : "",
+            "count", count
+        ));
+    }
+
+    // 부서별 날짜 메뉴 집계 (커스텀 + 투썸, 인메모리 카운터)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public MenuCountSummaryDto getMenuCountSummary(Long departmentId, LocalDate date) {
+        return menuSummaryBoard.getSummary(departmentId, date);
+    }
+
     // 특정 팀원의 오늘 주문 조회
     public Optional<Order> findTodayOrderByTeam(Long teamId) {
         Optional<Team> team = teamRepository.findById(teamId);
@@ -221,15 +587,15 @@ public class OrderService {
         return Optional.empty();
     }
 
-    // 특정 팀원의 최근 주문 조회
-    public Optional<Order> findLatestOrderByTeam(Long teamId) {
-        Optional<Team> team = teamRepository.findById(teamId);
-        if (team.isPresent()) {
-            return orderRepository.findTopByTeamAndDelYnOrderByOrderDateDescCreatedTimeDesc(
-                team.get(),
-                "N"
-            );
-        }
-        return Optional.empty();
+    // 특정 팀원의 최근 주문 조회 (팀원별 인메모리 이력)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<OrderResponseDto> findLatestOrderResponseByTeam(Long teamId) {
+        return teamOrderHistory.getLatest(teamId);
+    }
+
+    // 특정 팀원의 즐겨 찾는 주문 조회 (최근 이력 기준 주문 횟수 순)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<OrderResponseDto> findFavoriteOrdersByTeam(Long teamId, int limit) {
+        return teamOrderHistory.getFavorites(teamId, limit);
     }
 }
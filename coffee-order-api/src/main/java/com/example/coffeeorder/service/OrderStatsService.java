@@ -0,0 +1,35 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.dto.OrderStatsDto;
+import com.example.coffeeorder.mapper.OrderStatsMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+// 주문 통계 조회 (롤업 테이블만 읽으므로 비용은 주문 수가 아니라 날짜/월 수에 비례, 당일 주문은 다음 롤업 이후 반영)
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrderStatsService {
+
+    private final OrderStatsMapper orderStatsMapper;
+
+    // 일별 메뉴 통계
+    public List<OrderStatsDto> findDailyStats(Long departmentId, LocalDate from, LocalDate to) {
+        return orderStatsMapper.findDailyStats(departmentId, from, to);
+    }
+
+    // 월별 메뉴 통계
+    public List<OrderStatsDto> findMonthlyStats(Long departmentId, YearMonth from, YearMonth to) {
+        return orderStatsMapper.findMonthlyStats(departmentId, from.atDay(1), to.atDay(1));
+    }
+
+    // 기간(월 단위) 메뉴별 합계
+    public List<OrderStatsDto> findMenuTotals(Long departmentId, YearMonth from, YearMonth to) {
+        return orderStatsMapper.findMenuTotals(departmentId, from.atDay(1), to.atDay(1));
+    }
+}
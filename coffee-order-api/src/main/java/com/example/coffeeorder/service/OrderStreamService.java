@@ -0,0 +1,258 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.dto.OrderResponseDto;
+import com.example.coffeeorder.event.OrderChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 부서별 주문 현황 실시간 스트림 (SSE)
+ * 주문 생성/수정/삭제 변경분과 주문 마감/재개를 구독 중인 클라이언트에 푸시한다.
+ * 전송은 구독자별 제한 큐를 거쳐 별도 스레드에서 수행하며, 큐가 넘치거나 한 번의 전송이 제한 시간을 넘기는
+ * 느린 클라이언트는 연결을 끊는다. (EventSource가 자동 재연결 후 전체 목록을 다시 받아 동기화함)
+ */
+@Slf4j
+@Service
+public class OrderStreamService {
+
+    private final TodayOrderBoard todayOrderBoard;
+    private final SettingsService settingsService;
+
+    // 연결 유지 시간 (만료 시 클라이언트가 자동 재연결)
+    private static final long EMITTER_TIMEOUT_MS = Duration.ofMinutes(30).toMillis();
+    // 클라이언트 재연결 대기 시간
+    private static final long RECONNECT_TIME_MS = 3000;
+    // 구독자별 미전송 이벤트 최대 개수
+    private static final int QUEUE_CAPACITY = 64;
+
+    // 이벤트 한 건 전송 제한 시간 (넘기면 멈춘 클라이언트로 보고 연결을 끊음)
+    @Value("${app.order.stream.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    // 부서 ID -> 구독자 목록
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    // 부서 ID -> 마지막으로 알린 주문 가능 여부
+    private final Map<Long, Boolean> lastAvailability = new ConcurrentHashMap<>();
+
+    // 전송 스레드 (구독자마다 전송은 한 번에 하나라 동시에 필요한 스레드는 전송 중인 구독자 수까지)
+    // 연결 수만큼 스레드가 늘지 않도록 설정값으로 고정하고, 멈춘 전송은 closeStalledSubscribers가 먼저 끊어
+    // 멈춘 클라이언트가 풀 크기보다 적으면 다른 구독자 전송은 밀리지 않음
+    private final ExecutorService sender;
+
+    public OrderStreamService(TodayOrderBoard todayOrderBoard,
+                              SettingsService settingsService,
+                              @Value("${app.order.stream.sender-threads:16}") int senderThreads) {
+        this.todayOrderBoard = todayOrderBoard;
+        this.settingsService = settingsService;
+        this.sender = Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("order-stream-"));
+    }
+
+    /**
+     * 부서 주문 스트림 구독
+     */
+    public SseEmitter subscribe(Long departmentId) {
+        return register(departmentId, new SseEmitter(EMITTER_TIMEOUT_MS));
+    }
+
+    // 구독자 등록 (테스트에서 전송을 흉내 내는 emitter를 넘길 수 있도록 분리)
+    SseEmitter register(Long departmentId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(departmentId, emitter);
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        subscribers.computeIfAbsent(departmentId, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        // 응답 헤더를 즉시 내려보내 연결을 확정하고 재연결 간격을 알림
+        enqueue(subscriber, SseEmitter.event().comment("connected").reconnectTime(RECONNECT_TIME_MS));
+        return emitter;
+    }
+
+    /**
+     * 주문 변경분 푸시 (커밋 이후, 현황판 갱신 다음에 실행)
+     */
+    @TransactionalEventListener
+    public void onOrderChanged(OrderChangedEvent event) {
+        Long departmentId = event.getDepartmentId();
+        if (departmentId == null || !subscribers.containsKey(departmentId)) {
+            return;
+        }
+
+        if (event.getType() == OrderChangedEvent.Type.DELETED) {
+            broadcast(departmentId, "order-deleted", Map.of("id", event.getOrderId()));
+            return;
+        }
+
+        Optional<OrderResponseDto> order = todayOrderBoard.getTodayOrders(departmentId).stream()
+                .filter(o -> o.getId().equals(event.getOrderId()))
+                .findFirst();
+
+        if (order.isPresent()) {
+            String name = event.getType() == OrderChangedEvent.Type.CREATED ? "order-created" : "order-updated";
+            broadcast(departmentId, name, order.get());
+        } else if (event.getType() == OrderChangedEvent.Type.UPDATED) {
+            // 오늘 현황판에서 빠진 주문 (날짜 변경 등)
+            broadcast(departmentId, "order-deleted", Map.of("id", event.getOrderId()));
+        }
+    }
+
+    /**
+     * 주문 마감/재개 감지 (구독자가 있는 부서만 1초마다 확인)
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void checkOrderAvailability() {
+        for (Long departmentId : subscribers.keySet()) {
+            boolean available;
+            try {
+                available = settingsService.isOrderAvailableByDepartment(departmentId);
+            } catch (Exception e) {
+                log.warn("Failed to check order availability for department {}: {}", departmentId, e.getMessage());
+                continue;
+            }
+
+            Boolean previous = lastAvailability.put(departmentId, available);
+            if (previous != null && previous != available) {
+                broadcast(departmentId, available ? "ordering-opened" : "ordering-closed",
+                        Map.of("available", available));
+            }
+        }
+    }
+
+    /**
+     * 연결 유지용 하트비트 (끊어진 연결 정리 겸용)
+     */
+    @Scheduled(fixedRate = 15000)
+    public void heartbeat() {
+        for (Set<Subscriber> group : subscribers.values()) {
+            for (Subscriber subscriber : group) {
+                enqueue(subscriber, SseEmitter.event().comment("ping"));
+            }
+        }
+    }
+
+    /**
+     * 전송이 멈춘 구독자 정리 (반쯤 끊긴 연결은 TCP 쓰기 타임아웃까지 전송 스레드를 잡고 있으므로 먼저 끊음)
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void closeStalledSubscribers() {
+        long now = System.nanoTime();
+        long timeoutNanos = Duration.ofMillis(sendTimeoutMs).toNanos();
+        for (Set<Subscriber> group : subscribers.values()) {
+            for (Subscriber subscriber : group) {
+                long started = subscriber.sendStartedNanos;
+                if (started != 0 && now - started > timeoutNanos) {
+                    log.debug("SSE send stalled over {}ms, closing subscriber for department {}",
+                            sendTimeoutMs, subscriber.departmentId);
+                    close(subscriber);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    private void broadcast(Long departmentId, String name, Object data) {
+        Set<Subscriber> group = subscribers.get(departmentId);
+        if (group == null) {
+            return;
+        }
+        for (Subscriber subscriber : group) {
+            enqueue(subscriber, SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, SseEventBuilder event) {
+        if (subscriber.closed) {
+            return;
+        }
+        if (!subscriber.queue.offer(event)) {
+            // 전송이 밀린 느린 클라이언트는 끊고 재연결 시 전체 동기화하도록 함
+            log.debug("SSE queue overflow, closing subscriber for department {}", subscriber.departmentId);
+            close(subscriber);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            SseEventBuilder event;
+            while (!subscriber.closed && (event = subscriber.queue.poll()) != null) {
+                subscriber.sendStartedNanos = System.nanoTime();
+                subscriber.emitter.send(event);
+                subscriber.sendStartedNanos = 0;
+            }
+        } catch (Exception e) {
+            remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.sendStartedNanos = 0;
+            subscriber.draining.set(false);
+        }
+
+        // 전송 중 새로 들어온 이벤트가 있으면 다시 예약
+        if (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    // 구독 해제 후 연결 종료 (전송 중인 emitter는 종료가 전송 완료를 기다리므로 호출한 스레드를 잡지 않도록 전송 스레드에서)
+    private void close(Subscriber subscriber) {
+        remove(subscriber);
+        sender.execute(subscriber.emitter::complete);
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscriber.queue.clear();
+        subscribers.computeIfPresent(subscriber.departmentId, (id, group) -> {
+            group.remove(subscriber);
+            if (group.isEmpty()) {
+                lastAvailability.remove(id);
+                return null;
+            }
+            return group;
+        });
+    }
+
+    private static final class Subscriber {
+        private final Long departmentId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEventBuilder> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        // 진행 중인 전송 시작 시각 (System.nanoTime, 전송 중이 아니면 0)
+        private volatile long sendStartedNanos;
+
+        private Subscriber(Long departmentId, SseEmitter emitter) {
+            this.departmentId = departmentId;
+            this.emitter = emitter;
+        }
+    }
+}
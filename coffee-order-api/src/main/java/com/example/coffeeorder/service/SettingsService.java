@@ -2,15 +2,26 @@ package com.example.coffeeorder.service;
 
 import com.example.coffeeorder.entity.Department;
 import com.example.coffeeorder.entity.Settings;
+import com.example.coffeeorder.event.SettingsChangedEvent;
 import com.example.coffeeorder.repository.DepartmentRepository;
 import com.example.coffeeorder.repository.SettingsRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
-import java.util.Optional;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 @RequiredArgsConstructor
@@ -19,22 +30,29 @@ public class SettingsService {
 
     private final SettingsRepository settingsRepository;
     private final DepartmentRepository departmentRepository;
+    private final OrderDayFreezer orderDayFreezer;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 한국 시간 기준 ZoneId
     private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
 
+    // 부서 미지정(하위 호환) 설정의 캐시 키
+    private static final Long DEFAULT_KEY = 0L;
+
+    // 부서 ID -> 설정 스냅샷 (불변 맵을 통째로 교체, 주문/폴링 시 조회는 락 없이 읽음)
+    private final AtomicReference<Map<Long, SettingsSnapshot>> snapshots = new AtomicReference<>(Map.of());
+
+    // 스냅샷 추가/무효화 직렬화용 락
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // 무효화 세대 (적재 중에 설정이 바뀌면 이전 값으로 적재한 스냅샷을 버림)
+    private final AtomicLong generation = new AtomicLong();
+
     // 설정 조회 (단일 레코드) - 하위 호환용
+    // 설정이 없으면 저장하지 않은 기본값을 반환 (저장은 수정 시)
     public Settings getSettings() {
-        Settings settings = settingsRepository.findAll().stream()
-            .findFirst()
-            .orElseGet(() -> {
-                // 설정이 없으면 기본값으로 생성
-                Settings defaultSettings = new Settings();
-                defaultSettings.setOrderDeadlineTime(LocalTime.of(9, 0));
-                defaultSettings.setIs24Hours(true); // 기본: 24시간 주문 가능
-                defaultSettings.setMenuMode("TWOSOME"); // 기본: 투썸 메뉴
-                return settingsRepository.save(defaultSettings);
-            });
+        Settings settings = settingsRepository.findFirstByOrderByIdAsc()
+            .orElseGet(() -> defaultSettings(null));
 
         // 기존 데이터에 menuMode가 없는 경우 기본값 설정
         if (settings.getMenuMode() == null) {
@@ -44,7 +62,7 @@ public class SettingsService {
     }
 
     // 부서별 설정 조회
-    @Transactional
+    // 기본 설정은 부서 생성 시 만들어지므로, 그 이전에 생긴 부서만 저장하지 않은 기본값을 반환
     public Settings getSettingsByDepartment(Long departmentId) {
         return settingsRepository.findFirstByDepartmentId(departmentId)
             .map(settings -> {
@@ -55,19 +73,20 @@ public class SettingsService {
                 return settings;
             })
             .orElseGet(() -> {
-                // 부서별 설정이 없으면 기본값으로 생성
                 Department department = departmentRepository.findById(departmentId)
                     .orElseThrow(() -> new RuntimeException("부서를 찾을 수 없습니다."));
-
-                Settings defaultSettings = new Settings();
-                defaultSettings.setDepartment(department);
-                defaultSettings.setOrderDeadlineTime(LocalTime.of(9, 0));
-                defaultSettings.setIs24Hours(true); // 기본: 24시간 주문 가능
-                defaultSettings.setMenuMode("TWOSOME"); // 기본: 투썸 메뉴
-                return settingsRepository.save(defaultSettings);
+                return defaultSettings(department);
             });
     }
 
+    // 부서 기본 설정 생성 (부서 생성 시, 이미 있으면 무시)
+    @Transactional
+    public void provisionDefaults(Department department) {
+        if (!settingsRepository.existsByDepartmentId(department.getId())) {
+            settingsRepository.save(defaultSettings(department));
+        }
+    }
+
     // 설정 업데이트 - 하위 호환용
     @Transactional
     public Settings updateSettings(Settings settings) {
@@ -75,6 +94,9 @@ public class SettingsService {
         existingSettings.setOrderDeadlineTime(settings.getOrderDeadlineTime());
         existingSettings.setIs24Hours(settings.getIs24Hours());
         existingSettings.setMenuMode(settings.getMenuMode() != null ? settings.getMenuMode() : "TWOSOME");
+        // 하위 호환 설정이 어느 부서 설정인지 알 수 없으므로 전체 무효화
+        invalidateAfterCommit(null);
+        eventPublisher.publishEvent(new SettingsChangedEvent(null));
         return settingsRepository.save(existingSettings);
     }
 
@@ -85,35 +107,119 @@ public class SettingsService {
         existingSettings.setOrderDeadlineTime(settings.getOrderDeadlineTime());
         existingSettings.setIs24Hours(settings.getIs24Hours());
         existingSettings.setMenuMode(settings.getMenuMode() != null ? settings.getMenuMode() : "TWOSOME");
+        invalidateAfterCommit(departmentId);
+        eventPublisher.publishEvent(new SettingsChangedEvent(departmentId));
         return settingsRepository.save(existingSettings);
     }
 
     // 현재 주문 가능 여부 체크 - 하위 호환용
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public boolean isOrderAvailable() {
-        Settings settings = getSettings();
-        return checkOrderAvailable(settings);
+        ZonedDateTime now = ZonedDateTime.now(KOREA_ZONE);
+        return snapshot(DEFAULT_KEY, null, now.toLocalDate()).isOpen(now);
     }
 
-    // 부서별 주문 가능 여부 체크
+    // 부서별 주문 가능 여부 체크 (스냅샷이 있으면 DB 조회 없이 시각 비교만)
+    // 마감 처리된 날은 스냅샷과 어긋나지 않도록 주문 불가
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public boolean isOrderAvailableByDepartment(Long departmentId) {
-        Settings settings = getSettingsByDepartment(departmentId);
-        return checkOrderAvailable(settings);
+        ZonedDateTime now = ZonedDateTime.now(KOREA_ZONE);
+        if (orderDayFreezer.isFrozen(departmentId, now.toLocalDate())) {
+            return false;
+        }
+        return snapshot(departmentId, departmentId, now.toLocalDate()).isOpen(now);
     }
 
-    // 주문 가능 여부 체크 공통 로직
-    private boolean checkOrderAvailable(Settings settings) {
-        // 24시간 주문 가능이면 항상 true
-        if (settings.getIs24Hours()) {
-            return true;
+    // 오늘 기준 스냅샷 (없으면 적재, 날짜가 바뀌었으면 마감 시각만 다시 계산)
+    private SettingsSnapshot snapshot(Long key, Long departmentId, LocalDate today) {
+        SettingsSnapshot snapshot = snapshots.get().get(key);
+        if (snapshot != null && snapshot.day().equals(today)) {
+            return snapshot;
         }
 
-        // 마감 시간이 설정되어 있으면 현재 시간과 비교 (한국 시간 기준)
-        if (settings.getOrderDeadlineTime() != null) {
-            LocalTime now = LocalTime.now(KOREA_ZONE);
-            return now.isBefore(settings.getOrderDeadlineTime());
+        long loadedGeneration = generation.get();
+        SettingsSnapshot loaded = snapshot != null
+            ? snapshot.forDay(today)
+            : SettingsSnapshot.of(departmentId != null ? getSettingsByDepartment(departmentId) : getSettings(), today);
+
+        writeLock.lock();
+        try {
+            if (generation.get() == loadedGeneration) {
+                Map<Long, SettingsSnapshot> updated = new HashMap<>(snapshots.get());
+                updated.put(key, loaded);
+                snapshots.set(Map.copyOf(updated));
+            }
+        } finally {
+            writeLock.unlock();
         }
+        return loaded;
+    }
 
-        // 설정이 없으면 항상 가능
-        return true;
+    // 설정 변경 시 스냅샷 무효화 (커밋 이후, departmentId가 null이면 전체)
+    private void invalidateAfterCommit(Long departmentId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(departmentId);
+                }
+            });
+        } else {
+            invalidate(departmentId);
+        }
+    }
+
+    private void invalidate(Long departmentId) {
+        writeLock.lock();
+        try {
+            generation.incrementAndGet();
+            if (departmentId == null) {
+                snapshots.set(Map.of());
+                return;
+            }
+            // 하위 호환 설정은 첫 번째 부서 설정일 수 있으므로 함께 비움
+            Map<Long, SettingsSnapshot> updated = new HashMap<>(snapshots.get());
+            updated.remove(departmentId);
+            updated.remove(DEFAULT_KEY);
+            snapshots.set(Map.copyOf(updated));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 기본 설정 (24시간 주문 가능, 마감 09:00, 투썸 메뉴)
+    private static Settings defaultSettings(Department department) {
+        Settings settings = new Settings();
+        settings.setDepartment(department);
+        settings.setOrderDeadlineTime(LocalTime.of(9, 0));
+        settings.setIs24Hours(true); // 기본: 24시간 주문 가능
+        settings.setMenuMode("TWOSOME"); // 기본: 투썸 메뉴
+        return settings;
+    }
+
+    // 주문 가능 여부 판단용 설정 스냅샷 (불변, day의 마감 시각을 미리 계산해 둠)
+    private record SettingsSnapshot(boolean is24Hours, LocalTime deadlineTime, LocalDate day, ZonedDateTime deadline) {
+
+        static SettingsSnapshot of(Settings settings, LocalDate day) {
+            return of(Boolean.TRUE.equals(settings.getIs24Hours()), settings.getOrderDeadlineTime(), day);
+        }
+
+        static SettingsSnapshot of(boolean is24Hours, LocalTime deadlineTime, LocalDate day) {
+            ZonedDateTime deadline = deadlineTime != null ? day.atTime(deadlineTime).atZone(KOREA_ZONE) : null;
+            return new SettingsSnapshot(is24Hours, deadlineTime, day, deadline);
+        }
+
+        // 같은 설정으로 다른 날짜의 스냅샷
+        SettingsSnapshot forDay(LocalDate otherDay) {
+            return of(is24Hours, deadlineTime, otherDay);
+        }
+
+        // 24시간 주문 가능이거나 마감 시간이 없으면 항상 가능, 아니면 마감 시각 전까지 (한국 시간 기준)
+        boolean isOpen(ZonedDateTime now) {
+            if (is24Hours || deadline == null) {
+                return true;
+            }
+            return now.isBefore(deadline);
+        }
     }
 }
@@ -0,0 +1,197 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.dto.OrderResponseDto;
+import com.example.coffeeorder.event.OrderChangedEvent;
+import com.example.coffeeorder.mapper.OrderMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 팀원별 최근 주문 이력 (인메모리)
+ * 다시 주문하기(최근 주문)와 즐겨 찾는 주문 조회가 마감 직전에도 DB를 타지 않도록 팀원마다 최근 N건을 유지한다.
+ * 처음 조회할 때 DB에서 적재하고, 이후 주문 변경은 커밋 이후 OrderChangedEvent로 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TeamOrderHistory {
+
+    // 최신순 (주문 날짜, 생성 시각, ID 역순)
+    private static final Comparator<OrderResponseDto> NEWEST_FIRST = Comparator
+            .comparing(OrderResponseDto::getOrderDate, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(OrderResponseDto::getCreatedTime, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(OrderResponseDto::getId, Comparator.reverseOrder());
+
+    private final OrderMapper orderMapper;
+
+    // 팀원별로 보관할 최근 주문 수 (즐겨 찾는 주문도 이 범위에서 집계)
+    @Value("${app.order.team-history.size:30}")
+    private int historySize;
+
+    // 최대 보관 팀원 수 (넘으면 임의의 팀원을 비우고, 다음 조회 때 다시 적재)
+    @Value("${app.order.team-history.max-teams:10000}")
+    private int maxTeams;
+
+    // 팀원 ID -> 최근 주문 (최신순, 불변 스냅샷으로 교체)
+    private final Map<Long, List<OrderResponseDto>> histories = new ConcurrentHashMap<>();
+
+    // 적재/갱신 직렬화용 락 (조회는 락 없이 스냅샷을 읽음)
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * 팀원의 가장 최근 주문
+     */
+    public Optional<OrderResponseDto> getLatest(Long teamId) {
+        List<OrderResponseDto> orders = getHistory(teamId);
+        return orders.isEmpty() ? Optional.empty() : Optional.of(orders.get(0));
+    }
+
+    /**
+     * 즐겨 찾는 주문 (같은 메뉴 + 개인 옵션 조합을 주문 횟수 순으로, 같으면 최근 주문 순)
+     * 조합마다 가장 최근 주문을 돌려주므로 그대로 다시 주문하기에 쓸 수 있다.
+     * @param limit 최대 건수
+     */
+    public List<OrderResponseDto> getFavorites(Long teamId, int limit) {
+        // 최신순으로 처음 나온 주문이 조합의 대표 (LinkedHashMap이라 동률이면 최근 조합이 앞)
+        Map<FavoriteKey, Favorite> favorites = new LinkedHashMap<>();
+        for (OrderResponseDto order : getHistory(teamId)) {
+            favorites.computeIfAbsent(FavoriteKey.of(order), k -> new Favorite(order)).count++;
+        }
+        return favorites.values().stream()
+                .sorted(Comparator.comparingInt((Favorite f) -> f.count).reversed())
+                .limit(limit)
+                .map(f -> f.latest)
+                .toList();
+    }
+
+    /**
+     * 주문 변경 반영 (커밋 이후)
+     * 생성/수정은 해당 주문 한 건만 반영하고, 삭제는 빈자리를 채울 이전 주문을 알 수 없으므로 팀원 이력을 비운다.
+     * 오늘 주문 현황판과 같이 원래 트랜잭션의 커넥션으로 조회한다.
+     * 이벤트에 실린 응답은 오늘 주문 현황판과 같이 보관된 행보다 나중에 변경된 경우에만 복사해 반영한다.
+     */
+    @TransactionalEventListener
+    public void onOrderChanged(OrderChangedEvent event) {
+        if (event.getTeamId() == null) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            List<OrderResponseDto> history = histories.get(event.getTeamId());
+            // 아직 적재되지 않은 팀원은 다음 조회 시 DB에서 최신 상태로 적재됨
+            if (history == null) {
+                return;
+            }
+            if (event.getType() == OrderChangedEvent.Type.DELETED) {
+                histories.remove(event.getTeamId());
+                return;
+            }
+
+            OrderResponseDto row = event.getOrder();
+            if (row != null) {
+                OrderResponseDto current = history.stream()
+                        .filter(order -> order.getId().equals(event.getOrderId()))
+                        .findFirst()
+                        .orElse(null);
+                if (current != null && row.getUpdatedTime() != null && current.getUpdatedTime() != null
+                        && !row.getUpdatedTime().isAfter(current.getUpdatedTime())) {
+                    return;
+                }
+                row = row.copy();
+            } else {
+                row = orderMapper.findOrderResponseById(event.getOrderId());
+                row = row != null ? OrderResponseDto.normalize(row) : null;
+            }
+
+            List<OrderResponseDto> orders = new ArrayList<>(history);
+            boolean existed = orders.removeIf(order -> order.getId().equals(event.getOrderId()));
+            // 범위 밖의 오래된 주문이 수정된 경우는 이력에 영향 없음
+            if (row != null && (existed || event.getType() == OrderChangedEvent.Type.CREATED)) {
+                orders.add(row);
+                orders.sort(NEWEST_FIRST);
+            }
+            histories.put(event.getTeamId(), List.copyOf(orders.subList(0, Math.min(orders.size(), historySize))));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 팀원/메뉴 이름 변경 등으로 전체 무효화
+     * 트랜잭션 안에서 호출되면 커밋 이후에 비운다.
+     */
+    public void invalidateAll() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    histories.clear();
+                }
+            });
+        } else {
+            histories.clear();
+        }
+    }
+
+    private List<OrderResponseDto> getHistory(Long teamId) {
+        List<OrderResponseDto> history = histories.get(teamId);
+        return history != null ? history : load(teamId);
+    }
+
+    private List<OrderResponseDto> load(Long teamId) {
+        writeLock.lock();
+        try {
+            List<OrderResponseDto> history = histories.get(teamId);
+            if (history != null) {
+                return history;
+            }
+
+            if (!histories.isEmpty() && histories.size() >= maxTeams) {
+                Iterator<Long> iterator = histories.keySet().iterator();
+                iterator.next();
+                iterator.remove();
+            }
+            List<OrderResponseDto> loaded = orderMapper.findRecentOrderResponsesByTeam(teamId, historySize).stream()
+                    .map(OrderResponseDto::normalize)
+                    .toList();
+            histories.put(teamId, loaded);
+            return loaded;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 즐겨 찾는 주문 구분 기준 (메뉴 타입 + 메뉴 + 개인 옵션)
+    private record FavoriteKey(String menuType, Long menuId, String personalOption) {
+        static FavoriteKey of(OrderResponseDto order) {
+            boolean twosome = "TWOSOME".equals(order.getMenuType());
+            return new FavoriteKey(order.getMenuType(),
+                    twosome ? order.getTwosomeMenuId() : order.getMenuId(),
+                    Objects.requireNonNullElse(order.getPersonalOption(), "").trim());
+        }
+    }
+
+    private static class Favorite {
+        private final OrderResponseDto latest;
+        private int count;
+
+        Favorite(OrderResponseDto latest) {
+            this.latest = latest;
+        }
+    }
+}
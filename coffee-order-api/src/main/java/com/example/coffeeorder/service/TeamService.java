@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +19,9 @@ public class TeamService {
 
     private final TeamRepository teamRepository;
     private final DepartmentRepository departmentRepository;
+    private final TodayOrderBoard todayOrderBoard;
+    private final TeamOrderHistory teamOrderHistory;
+    private final OrderCatalog orderCatalog;
 
     // 삭제되지 않은 전체 팀원 조회 (하위 호환용)
     public List<Team> findAllActive() {
@@ -37,6 +41,10 @@ public class TeamService {
     // 저장 (생성 & 수정)
     @Transactional
     public Team save(Team team) {
+        // 이름이 바뀌면 오늘 주문 현황판/팀원별 주문 이력/주문 카탈로그에 캐시된 이름도 갱신되어야 함
+        todayOrderBoard.invalidateAll();
+        teamOrderHistory.invalidateAll();
+        orderCatalog.invalidateTeams();
         return teamRepository.save(team);
     }
 
@@ -52,13 +60,15 @@ public class TeamService {
         return teamRepository.save(team);
     }
 
-    // 소프트 삭제
+    // 소프트 삭제 (UPDATE 한 문장, 삭제할 팀원이 없으면 false)
     @Transactional
-    public void softDelete(Long id) {
-        Optional<Team> team = teamRepository.findById(id);
-        team.ifPresent(t -> {
-            t.setDelYn("Y");
-            teamRepository.save(t);
-        });
+    public boolean softDelete(Long id) {
+        return softDeleteAll(List.of(id)) > 0;
+    }
+
+    // 일괄 소프트 삭제 (UPDATE 한 문장, 실제 삭제된 건수 반환)
+    @Transactional
+    public int softDeleteAll(Collection<Long> ids) {
+        return teamRepository.softDeleteByIdIn(ids);
     }
 }
@@ -0,0 +1,192 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.dto.OrderResponseDto;
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.event.OrderChangedEvent;
+import com.example.coffeeorder.mapper.OrderMapper;
+import com.example.coffeeorder.repository.DepartmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 부서별 오늘 주문 현황판 (인메모리)
+ * 주문 화면이 5초마다 폴링하는 오늘 주문 목록을 메모리에 유지하여 조회 시 DB를 타지 않는다.
+ * 주문 변경은 커밋 이후 OrderChangedEvent로 반영하고, 기동 시와 자정(한국 시간)에 DB에서 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodayOrderBoard {
+
+    private final OrderMapper orderMapper;
+    private final DepartmentRepository departmentRepository;
+
+    // 한국 시간 기준 ZoneId
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    // 부서 ID -> 현황판 (목록은 불변 스냅샷으로 교체)
+    private final Map<Long, Board> boards = new ConcurrentHashMap<>();
+
+    // 적재/갱신 직렬화용 락 (조회는 락 없이 스냅샷을 읽음)
+    // 락 안에서 DB를 조회하므로 synchronized 대신 ReentrantLock (가상 스레드가 캐리어 스레드를 붙잡지 않도록)
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * 부서별 오늘 주문 목록 조회
+     * 현황판이 없거나 날짜가 바뀌었으면 DB에서 다시 적재한다.
+     */
+    public List<OrderResponseDto> getTodayOrders(Long departmentId) {
+        LocalDate today = LocalDate.now(KOREA_ZONE);
+        Board board = boards.get(departmentId);
+        if (board != null && board.date().equals(today)) {
+            return board.orders();
+        }
+        return load(departmentId, today).orders();
+    }
+
+    /**
+     * 주문 변경 반영 (커밋 이후)
+     * 삭제는 목록에서 제거하고, 생성/수정은 해당 주문 한 건만 다시 조회해 교체한다.
+     * 이벤트에 실린 응답은 커밋 전에 만든 것이라 같은 주문의 리스너가 커밋과 다른 순서로 실행될 수 있으므로,
+     * 보관된 행보다 나중에 변경된 경우에만 교체하고 HTTP 응답과 공유하지 않도록 복사해 보관한다.
+     * 다른 리스너(실시간 스트림 등)가 갱신된 현황판을 읽을 수 있도록 가장 먼저 실행한다.
+     * 커밋 직후에도 원래 트랜잭션의 커넥션이 묶여 있으므로 새 트랜잭션을 열지 않고 그 커넥션으로 조회한다.
+     * (REQUIRES_NEW로 요청마다 커넥션을 두 개 잡으면 주문이 몰릴 때 커넥션 풀이 교착된다)
+     */
+    @TransactionalEventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onOrderChanged(OrderChangedEvent event) {
+        if (event.getDepartmentId() == null) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            Board board = boards.get(event.getDepartmentId());
+            // 아직 적재되지 않은 부서는 다음 조회 시 DB에서 최신 상태로 적재됨
+            if (board == null) {
+                return;
+            }
+
+            OrderResponseDto row = null;
+            if (event.getType() != OrderChangedEvent.Type.DELETED) {
+                // 이벤트에 응답이 실려 있으면 다시 조회하지 않음
+                row = event.getOrder();
+                if (row != null) {
+                    if (isStale(row, find(board.orders(), event.getOrderId()))) {
+                        return;
+                    }
+                    row = row.copy();
+                } else {
+                    row = orderMapper.findOrderResponseById(event.getOrderId());
+                    row = row != null ? OrderResponseDto.normalize(row) : null;
+                }
+            }
+
+            List<OrderResponseDto> orders = new ArrayList<>(board.orders());
+            orders.removeIf(order -> order.getId().equals(event.getOrderId()));
+            if (row != null && board.date().equals(row.getOrderDate())) {
+                orders.add(row);
+                orders.sort(Comparator.comparing(OrderResponseDto::getId));
+            }
+
+            boards.put(event.getDepartmentId(), new Board(board.date(), List.copyOf(orders)));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 팀원/메뉴 이름 변경 등으로 현황판 전체 무효화
+     * 트랜잭션 안에서 호출되면 커밋 이후에 비운다.
+     */
+    public void invalidateAll() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    boards.clear();
+                }
+            });
+        } else {
+            boards.clear();
+        }
+    }
+
+    /**
+     * 기동 시 전체 부서 현황판 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuildAll();
+    }
+
+    /**
+     * 매일 자정(한국 시간)에 새 날짜 기준으로 전체 부서 현황판 재적재
+     */
+    @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
+    public void rebuildAll() {
+        LocalDate today = LocalDate.now(KOREA_ZONE);
+        boards.clear();
+        List<Department> departments = departmentRepository.findByDelYnOrderByIdAsc("N");
+        for (Department department : departments) {
+            load(department.getId(), today);
+        }
+        log.info("Today order board rebuilt for {} departments ({})", departments.size(), today);
+    }
+
+    private Board load(Long departmentId, LocalDate date) {
+        writeLock.lock();
+        try {
+            Board board = boards.get(departmentId);
+            if (board != null && board.date().equals(date)) {
+                return board;
+            }
+
+            List<OrderResponseDto> orders = orderMapper.findOrderResponses(departmentId, date).stream()
+                    .map(OrderResponseDto::normalize)
+                    .toList();
+            Board loaded = new Board(date, orders);
+            boards.put(departmentId, loaded);
+            return loaded;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static OrderResponseDto find(List<OrderResponseDto> orders, Long orderId) {
+        for (OrderResponseDto order : orders) {
+            if (order.getId().equals(orderId)) {
+                return order;
+            }
+        }
+        return null;
+    }
+
+    // 이벤트에 실린 행이 보관된 행보다 먼저 변경된 것인지 (변경 시각을 모르면 교체)
+    private static boolean isStale(OrderResponseDto row, OrderResponseDto current) {
+        return current != null && row.getUpdatedTime() != null && current.getUpdatedTime() != null
+                && !row.getUpdatedTime().isAfter(current.getUpdatedTime());
+    }
+
+    private record Board(LocalDate date, List<OrderResponseDto> orders) {
+    }
+}
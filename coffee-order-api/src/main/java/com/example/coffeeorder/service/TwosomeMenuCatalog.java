@@ -0,0 +1,194 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.entity.TwosomeMenu;
+import com.example.coffeeorder.repository.TwosomeMenuRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 중분류별 투썸 메뉴 전체 목록 응답 (미리 직렬화한 스냅샷)
+ * 메뉴 목록은 밤마다 동기화할 때만 바뀌므로, 화면을 열 때마다 전체 메뉴를 읽어 다시 직렬화하지 않고
+ * 동기화/메뉴 변경 이후 한 번만 JSON과 gzip 바이트로 만들어 두고 내용 해시를 ETag로 쓴다.
+ * 변경은 커밋 이후 스냅샷을 비우고 스케줄러 스레드에서 다시 만든다. (그 사이 요청은 직접 만듦)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TwosomeMenuCatalog {
+
+    // 중분류가 없는 메뉴의 그룹명
+    private static final String NO_CATEGORY = "기타";
+
+    private final TwosomeMenuRepository twosomeMenuRepository;
+    private final ObjectMapper objectMapper;
+    private final TaskScheduler taskScheduler;
+
+    // 현재 스냅샷 (null이면 미생성, 불변 스냅샷으로 교체)
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    // 생성 직렬화용 락 (동시에 비어 있는 스냅샷을 여러 요청이 만들지 않도록, 조회는 락 없이 스냅샷을 읽음)
+    private final ReentrantLock buildLock = new ReentrantLock();
+
+    // 스냅샷 교체/무효화용 락 (생성 중 DB 조회를 기다리지 않도록 buildLock과 분리)
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // 무효화 세대 (생성 중에 메뉴가 바뀌면 이전 목록으로 만든 스냅샷을 버림, SettingsService와 동일)
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 현재 스냅샷 (없으면 만들어서 반환)
+     */
+    public Snapshot get() {
+        Snapshot current = snapshot.get();
+        return current != null ? current : build();
+    }
+
+    /**
+     * 기동 완료 시 스냅샷 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            build();
+        } catch (RuntimeException e) {
+            log.error("Failed to build twosome menu catalog snapshot", e);
+        }
+    }
+
+    /**
+     * 투썸 메뉴 변경 (동기화/수정/삭제, 커밋 이후 스냅샷을 비우고 다시 만듦)
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    rebuildLater();
+                }
+            });
+        } else {
+            rebuildLater();
+        }
+    }
+
+    private void rebuildLater() {
+        writeLock.lock();
+        try {
+            generation.incrementAndGet();
+            snapshot.set(null);
+        } finally {
+            writeLock.unlock();
+        }
+        taskScheduler.schedule(() -> {
+            if (snapshot.get() == null) {
+                warmUp();
+            }
+        }, Instant.now());
+    }
+
+    private Snapshot build() {
+        buildLock.lock();
+        try {
+            Snapshot current = snapshot.get();
+            if (current != null) {
+                return current;
+            }
+
+            long loadedGeneration = generation.get();
+            List<TwosomeMenu> menus = twosomeMenuRepository.findByDelYnOrderByMidNmAscSortOrdAsc("N");
+            // 중분류(midNm)별로 그룹화 (LinkedHashMap이라 중분류/정렬 순서 유지, 중분류가 없으면 기타)
+            Map<String, List<TwosomeMenu>> groupedMenus = menus.stream()
+                    .collect(Collectors.groupingBy(menu -> Objects.requireNonNullElse(menu.getMidNm(), NO_CATEGORY),
+                            LinkedHashMap::new, Collectors.toList()));
+
+            byte[] json = objectMapper.writeValueAsBytes(groupedMenus);
+            Snapshot built = new Snapshot(json, gzip(json), etag(json));
+
+            // 생성 중에 무효화됐으면 이번 요청에만 쓰고 보관하지 않음 (다시 만들기는 rebuildLater가 예약)
+            writeLock.lock();
+            try {
+                if (generation.get() != loadedGeneration) {
+                    return built;
+                }
+                snapshot.set(built);
+            } finally {
+                writeLock.unlock();
+            }
+            log.info("Twosome menu catalog snapshot built: {} menus, {} bytes ({} gzipped), ETag {}",
+                    menus.size(), json.length, built.gzip().length, built.etag());
+            return built;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize twosome menu catalog", e);
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // 강한 ETag (JSON 내용의 SHA-256 앞 16바이트)
+    private static String etag(byte[] json) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 직렬화된 메뉴 목록 (배열은 만든 뒤 변경하지 않음)
+     * @param json 원본 JSON (UTF-8)
+     * @param gzip gzip 압축한 JSON
+     * @param etag 따옴표를 포함한 강한 ETag
+     */
+    public record Snapshot(byte[] json, byte[] gzip, String etag) {
+
+        /**
+         * If-None-Match 헤더와 일치하는지 (쉼표로 나열된 값, "*", 약한 비교 W/ 포함)
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            return Arrays.stream(ifNoneMatch.split(","))
+                    .map(String::trim)
+                    .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                    .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.analytics.LongCountMap;
+import com.example.coffeeorder.dto.OrderResponseDto;
+import com.example.coffeeorder.dto.OrderStatsDto;
+import com.example.coffeeorder.entity.TwosomeMenu;
+import com.example.coffeeorder.event.OrderChangedEvent;
+import com.example.coffeeorder.mapper.OrderMapper;
+import com.example.coffeeorder.mapper.OrderStatsMapper;
+import com.example.coffeeorder.repository.TwosomeMenuRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 부서별 자주 주문하는 투썸 메뉴 순위 (인메모리)
+ * 투썸 메뉴 목록은 수백 개라 휴대폰에서 찾기 어려우므로, 부서마다 최근 주문 수가 많은 메뉴 ID를 미리 정렬해 둔다.
+ * 부서별 건수는 투썸 메뉴 ID를 키로 하는 LongCountMap에 담고, 주문 생성/수정/삭제는 커밋 이후 OrderChangedEvent로 반영한다.
+ * 주문 수정으로 메뉴가 바뀌면 이벤트에 실린 수정 전 메뉴에서 빼고 새 메뉴에 더한다.
+ * 기동 시와 매일 새벽에 최근 주문에서 다시 세어 집계 기간을 옮긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TwosomeMenuPopularity {
+
+    // 한국 시간 기준 ZoneId
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    // 부서 없는 주문의 부서 키 (order_daily_stats와 같은 규칙)
+    private static final Long NO_DEPARTMENT = 0L;
+
+    // 부서별로 미리 정렬해 둘 메뉴 수 (삭제된 메뉴를 건너뛰어도 최대 조회 개수를 채우도록 여유 있게)
+    private static final int RANKING_SIZE = 100;
+
+    private static final long[] EMPTY = new long[0];
+
+    private final OrderStatsMapper orderStatsMapper;
+    private final OrderMapper orderMapper;
+    private final TwosomeMenuRepository twosomeMenuRepository;
+
+    // 집계 기간 (일)
+    @Value("${app.twosome.popular.window-days:90}")
+    private int windowDays;
+
+    // 부서 ID -> (투썸 메뉴 ID -> 주문 수), 락 안에서만 변경
+    private Map<Long, LongCountMap> counts = new HashMap<>();
+
+    // 부서 ID -> 주문 수 많은 순 투썸 메뉴 ID (불변 배열로 교체, 조회는 락 없이 읽음)
+    private final Map<Long, long[]> rankings = new ConcurrentHashMap<>();
+
+    // 집계 시작 날짜 (적재 전이면 null, 이전 주문의 생성/삭제는 반영하지 않음)
+    private volatile LocalDate windowStart;
+
+    // 투썸 메뉴 ID -> 메뉴 (삭제되지 않은 메뉴, null이면 미적재)
+    private final AtomicReference<Map<Long, TwosomeMenu>> menus = new AtomicReference<>();
+
+    // 건수 변경/재집계 직렬화용 락 (순위 조회는 락 없이 읽음)
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * 부서에서 자주 주문하는 투썸 메뉴 (주문 수 많은 순, 삭제된 메뉴 제외)
+     * 미리 정렬해 둔 ID를 limit개까지 메뉴로 바꾸기만 하므로 주문이나 메뉴를 조회하지 않는다. (메뉴 목록 최초 적재 제외)
+     * @param limit 최대 개수
+     */
+    public List<TwosomeMenu> findPopular(Long departmentId, int limit) {
+        long[] ranking = rankings.getOrDefault(departmentId, EMPTY);
+        if (ranking.length == 0) {
+            return List.of();
+        }
+
+        Map<Long, TwosomeMenu> catalog = menus();
+        List<TwosomeMenu> popular = new ArrayList<>(limit);
+        for (long menuId : ranking) {
+            TwosomeMenu menu = catalog.get(menuId);
+            if (menu != null) {
+                popular.add(menu);
+                if (popular.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return popular;
+    }
+
+    /**
+     * 투썸 메뉴 변경 (동기화/수정/삭제, 커밋 이후 메뉴 목록을 비워 다시 적재)
+     */
+    public void invalidateMenus() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    menus.set(null);
+                }
+            });
+        } else {
+            menus.set(null);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * 매일 새벽 2시 45분 최근 주문에서 다시 집계 (집계 기간을 하루 옮김)
+     */
+    @Scheduled(cron = "0 45 2 * * *", zone = "Asia/Seoul")
+    public void rebuild() {
+        LocalDate from = LocalDate.now(KOREA_ZONE).minusDays(windowDays);
+        // 집계 중에 커밋된 주문이 빠지거나 두 번 세어지지 않도록 교체까지 락을 잡음 (새벽 한 번)
+        writeLock.lock();
+        try {
+            Map<Long, LongCountMap> rebuilt = new HashMap<>();
+            for (OrderStatsDto row : orderStatsMapper.findMenuDailyCounts("TWOSOME", from)) {
+                rebuilt.computeIfAbsent(row.getDepartmentId(), k -> new LongCountMap())
+                        .add(row.getMenuId(), row.getOrderCount().intValue());
+            }
+            counts = rebuilt;
+            windowStart = from;
+            rankings.clear();
+            rebuilt.forEach((departmentId, departmentCounts) -> rankings.put(departmentId, rank(departmentCounts)));
+            log.info("Twosome menu popularity rebuilt for {} departments since {}", rebuilt.size(), from);
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild twosome menu popularity", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 주문 생성/수정/삭제 반영 (커밋 이후, 단건 주문은 이벤트에 실린 응답을 써서 추가 조회 없음)
+     * 삭제 이벤트에는 삭제된 행의 메뉴가, 수정 이벤트에는 수정 전 메뉴가 실려 있다.
+     * 생성/수정 이벤트에 응답이 없으면 원래 트랜잭션의 커넥션으로 다시 조회한다.
+     */
+    @TransactionalEventListener
+    public void onOrderChanged(OrderChangedEvent event) {
+        LocalDate start = windowStart;
+        if (start == null || event.getOrderDate() == null || event.getOrderDate().isBefore(start)) {
+            return;
+        }
+
+        // 빼야 할 메뉴 (삭제된 주문 또는 수정 전 메뉴)
+        Long removedMenuId = switch (event.getType()) {
+            case CREATED -> null;
+            case UPDATED -> twosomeMenuId(event.getPrevious());
+            case DELETED -> twosomeMenuId(event.getOrder());
+        };
+        // 더해야 할 메뉴 (생성/수정 후 메뉴)
+        Long addedMenuId = null;
+        if (event.getType() != OrderChangedEvent.Type.DELETED) {
+            if (event.getType() == OrderChangedEvent.Type.UPDATED && event.getPrevious() == null) {
+                // 수정 전 메뉴를 모르면 더하지도 않음 (한쪽만 반영하면 건수가 어긋남)
+                return;
+            }
+            OrderResponseDto order = event.getOrder();
+            if (order == null) {
+                order = orderMapper.findOrderResponseById(event.getOrderId());
+            }
+            addedMenuId = twosomeMenuId(order);
+        }
+        if (Objects.equals(removedMenuId, addedMenuId)) {
+            return;
+        }
+
+        Long departmentId = event.getDepartmentId() != null ? event.getDepartmentId() : NO_DEPARTMENT;
+        writeLock.lock();
+        try {
+            LongCountMap departmentCounts = counts.computeIfAbsent(departmentId, k -> new LongCountMap());
+            if (removedMenuId != null) {
+                departmentCounts.add(removedMenuId, -1);
+            }
+            if (addedMenuId != null) {
+                departmentCounts.add(addedMenuId, 1);
+            }
+            rankings.put(departmentId, rank(departmentCounts));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 투썸 메뉴 주문이면 투썸 메뉴 ID (커스텀 메뉴나 메뉴 없음이면 null)
+    private static Long twosomeMenuId(OrderResponseDto order) {
+        if (order == null || !"TWOSOME".equals(order.getMenuType())) {
+            return null;
+        }
+        return order.getTwosomeMenuId();
+    }
+
+    // 주문 수 많은 순 (같으면 ID 순) 상위 RANKING_SIZE개, 부서에서 주문된 메뉴 수만큼만 정렬
+    private static long[] rank(LongCountMap departmentCounts) {
+        List<long[]> entries = new ArrayList<>(departmentCounts.size());
+        departmentCounts.forEach((menuId, count) -> {
+            if (count > 0) {
+                entries.add(new long[]{menuId, count});
+            }
+        });
+        return entries.stream()
+                .sorted(Comparator.<long[]>comparingLong(entry -> -entry[1]).thenComparingLong(entry -> entry[0]))
+                .limit(RANKING_SIZE)
+                .mapToLong(entry -> entry[0])
+                .toArray();
+    }
+
+    private Map<Long, TwosomeMenu> menus() {
+        Map<Long, TwosomeMenu> catalog = menus.get();
+        if (catalog != null) {
+            return catalog;
+        }
+        writeLock.lock();
+        try {
+            catalog = menus.get();
+            if (catalog == null) {
+                catalog = twosomeMenuRepository.findByDelYnOrderByMidNmAscSortOrdAsc("N").stream()
+                        .collect(Collectors.toUnmodifiableMap(TwosomeMenu::getId, Function.identity()));
+                menus.set(catalog);
+            }
+            return catalog;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
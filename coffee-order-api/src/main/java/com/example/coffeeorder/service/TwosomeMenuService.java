@@ -15,6 +15,9 @@ import java.util.Optional;
 public class TwosomeMenuService {
 
     private final TwosomeMenuRepository twosomeMenuRepository;
+    private final TwosomeMenuPopularity twosomeMenuPopularity;
+    private final MenuSearchService menuSearchService;
+    private final TwosomeMenuCatalog twosomeMenuCatalog;
 
     // 삭제되지 않은 전체 메뉴 조회
     public List<TwosomeMenu> findAllActive() {
@@ -44,12 +47,18 @@ public class TwosomeMenuService {
     // 저장 (생성 & 수정)
     @Transactional
     public TwosomeMenu save(TwosomeMenu menu) {
+        twosomeMenuPopularity.invalidateMenus();
+        menuSearchService.onTwosomeMenusChanged();
+        twosomeMenuCatalog.invalidate();
         return twosomeMenuRepository.save(menu);
     }
 
     // 일괄 저장
     @Transactional
     public List<TwosomeMenu> saveAll(List<TwosomeMenu> menus) {
+        twosomeMenuPopularity.invalidateMenus();
+        menuSearchService.onTwosomeMenusChanged();
+        twosomeMenuCatalog.invalidate();
         return twosomeMenuRepository.saveAll(menus);
     }
 
@@ -58,13 +67,12 @@ public class TwosomeMenuService {
         return twosomeMenuRepository.existsByMenuCd(menuCd);
     }
 
-    // 소프트 삭제
+    // 소프트 삭제 (UPDATE 한 문장, 삭제할 메뉴가 없으면 false)
     @Transactional
-    public void softDelete(Long id) {
-        Optional<TwosomeMenu> menu = twosomeMenuRepository.findById(id);
-        menu.ifPresent(m -> {
-            m.setDelYn("Y");
-            twosomeMenuRepository.save(m);
-        });
+    public boolean softDelete(Long id) {
+        twosomeMenuPopularity.invalidateMenus();
+        menuSearchService.onTwosomeMenusChanged();
+        twosomeMenuCatalog.invalidate();
+        return twosomeMenuRepository.softDeleteByIdIn(List.of(id)) > 0;
     }
 }
\ No newline at end of file
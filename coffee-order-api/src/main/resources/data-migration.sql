@@ -18,3 +18,6 @@ UPDATE orders SET department_id = (SELECT id FROM department WHERE name = '상
 
 -- 5. 기존 설정(Settings) 데이터를 "상품서비스개발팀"에 연결
 UPDATE settings SET department_id = (SELECT id FROM department WHERE name = '상품서비스개발팀') WHERE department_id IS NULL;
+
+-- 주문 테이블 스키마 변경(팀원당 하루 한 건 유니크 제약, 교체된 인덱스 삭제, updated_time 채우기)은
+-- 앱 시작 시 OrderSchemaMigration, OrderHistoryIndexMigration이 자동으로 적용 (수동 실행 불필요)
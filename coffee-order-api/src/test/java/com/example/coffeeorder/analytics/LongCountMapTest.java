@@ -0,0 +1,46 @@
+package com.example.coffeeorder.analytics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongCountMapTest {
+
+    @Test
+    @DisplayName("재해시와 병합 후에도 HashMap과 같은 건수를 돌려준다")
+    void countsLikeHashMap() {
+        Random random = new Random(42);
+        LongCountMap left = new LongCountMap();
+        LongCountMap right = new LongCountMap(4);
+        Map<Long, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            // 음수(투썸 메뉴 키)와 팀원/메뉴 조합 키를 섞어서
+            long key = OrderAggregate.teamMenuKey(random.nextInt(300), random.nextInt(200) - 100);
+            (i % 2 == 0 ? left : right).increment(key);
+            expected.merge(key, 1, Integer::sum);
+        }
+        left.merge(right);
+
+        assertThat(left.size()).isEqualTo(expected.size());
+        expected.forEach((key, count) -> assertThat(left.get(key)).isEqualTo(count));
+        assertThat(left.get(OrderAggregate.teamMenuKey(999, 1))).isZero();
+
+        Map<Long, Integer> iterated = new HashMap<>();
+        left.forEach(iterated::put);
+        assertThat(iterated).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("팀원/메뉴 키는 음수 메뉴 키까지 그대로 복원된다")
+    void teamMenuKeyRoundTrip() {
+        long key = OrderAggregate.teamMenuKey(123L, -456L);
+        assertThat(OrderAggregate.teamIdOf(key)).isEqualTo(123L);
+        assertThat(OrderAggregate.menuKeyOf(key)).isEqualTo(-456L);
+    }
+}
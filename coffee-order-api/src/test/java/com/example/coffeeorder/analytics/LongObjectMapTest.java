@@ -0,0 +1,43 @@
+package com.example.coffeeorder.analytics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongObjectMapTest {
+
+    @Test
+    @DisplayName("저장/삭제가 섞여도 재해시 이후까지 HashMap과 같은 값을 돌려준다")
+    void behavesLikeHashMap() {
+        Random random = new Random(42);
+        LongObjectMap<String> map = new LongObjectMap<>(4);
+        Map<Long, String> expected = new HashMap<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            // 좁은 키 범위에서 음수(투썸 메뉴 키)까지 섞어 충돌과 삭제 당김이 자주 일어나게
+            long key = random.nextInt(2_000) - 1_000;
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                String value = "v" + i;
+                assertThat(map.put(key, value)).isEqualTo(expected.put(key, value));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = -1_000; key < 1_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+        }
+
+        List<String> iterated = new ArrayList<>();
+        map.forEachValue(iterated::add);
+        assertThat(iterated).containsExactlyInAnyOrderElementsOf(expected.values());
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.coffeeorder.batch;
+
+import com.example.coffeeorder.dto.OrderStatsDto;
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.entity.Menu;
+import com.example.coffeeorder.entity.Team;
+import com.example.coffeeorder.entity.TwosomeMenu;
+import com.example.coffeeorder.repository.StatsRollupStateRepository;
+import com.example.coffeeorder.service.OrderStatsService;
+import com.example.coffeeorder.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class OrderStatsRollupServiceTest extends IntegrationTestSupport {
+
+    // 다른 테스트의 주문 날짜와 겹치지 않는 과거 날짜
+    private static final LocalDate DAY_A = LocalDate.of(2001, 7, 2);
+    private static final LocalDate DAY_B = LocalDate.of(2001, 7, 3);
+    private static final LocalDate DAY_C = LocalDate.of(2001, 8, 1);
+
+    @Autowired
+    private OrderStatsRollupService orderStatsRollupService;
+
+    @Autowired
+    private OrderStatsService orderStatsService;
+
+    @Autowired
+    private StatsRollupStateRepository statsRollupStateRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Department department;
+    private Menu menu;
+    private TwosomeMenu twosomeMenu;
+    private List<Team> teams;
+
+    @BeforeEach
+    void setUp() {
+        // 매 테스트 전체 재집계부터 시작
+        statsRollupStateRepository.deleteAll();
+
+        department = saveDepartment("통계테스트부서");
+        teams = saveTeams(department, 3);
+        menu = saveMenu(department, "아메리카노");
+        twosomeMenu = saveTwosomeMenu("아이스티", "티");
+
+        // 한 시간 전에 마지막으로 변경된 주문 (A: 커스텀 2 + 투썸 1, B: 커스텀 1, C: 커스텀 1)
+        LocalDateTime anHourAgo = LocalDateTime.now().minusHours(1);
+        insertOrder(teams.get(0), DAY_A, false, anHourAgo);
+        insertOrder(teams.get(1), DAY_A, false, anHourAgo);
+        insertOrder(teams.get(2), DAY_A, true, anHourAgo);
+        insertOrder(teams.get(0), DAY_B, false, anHourAgo);
+        insertOrder(teams.get(0), DAY_C, false, anHourAgo);
+    }
+
+    @Test
+    @DisplayName("첫 실행은 전체 날짜를 일별/월별로 집계하고 메뉴명과 투썸 메뉴 코드를 함께 조회한다")
+    void fullRollup() {
+        orderStatsRollupService.rollup();
+
+        List<OrderStatsDto> daily = orderStatsService.findDailyStats(department.getId(), DAY_A, DAY_C);
+        assertThat(daily)
+                .extracting(OrderStatsDto::getPeriod, OrderStatsDto::getMenuType, OrderStatsDto::getMenuName,
+                        OrderStatsDto::getMenuCode, OrderStatsDto::getOrderCount)
+                .containsExactly(
+                        tuple(DAY_A, "CUSTOM", "아메리카노", null, 2L),
+                        tuple(DAY_A, "TWOSOME", "아이스티", twosomeMenu.getMenuCd(), 1L),
+                        tuple(DAY_B, "CUSTOM", "아메리카노", null, 1L),
+                        tuple(DAY_C, "CUSTOM", "아메리카노", null, 1L));
+
+        List<OrderStatsDto> monthly = orderStatsService.findMonthlyStats(
+                department.getId(), YearMonth.of(2001, 7), YearMonth.of(2001, 8));
+        assertThat(monthly)
+                .extracting(OrderStatsDto::getPeriod, OrderStatsDto::getMenuType, OrderStatsDto::getOrderCount)
+                .containsExactly(
+                        tuple(LocalDate.of(2001, 7, 1), "CUSTOM", 3L),
+                        tuple(LocalDate.of(2001, 7, 1), "TWOSOME", 1L),
+                        tuple(LocalDate.of(2001, 8, 1), "CUSTOM", 1L));
+
+        List<OrderStatsDto> totals = orderStatsService.findMenuTotals(
+                department.getId(), YearMonth.of(2001, 7), YearMonth.of(2001, 9));
+        assertThat(totals)
+                .extracting(OrderStatsDto::getMenuId, OrderStatsDto::getMenuName, OrderStatsDto::getOrderCount)
+                .containsExactly(
+                        tuple(menu.getId(), "아메리카노", 4L),
+                        tuple(twosomeMenu.getId(), "아이스티", 1L));
+    }
+
+    @Test
+    @DisplayName("다음 실행은 마지막 실행 이후 변경된 날짜와 그 월만 다시 집계한다")
+    void incrementalRollup() {
+        orderStatsRollupService.rollup();
+
+        // 변경되지 않은 B 날짜의 일별 통계를 임의로 바꿔두면, 재집계되지 않았는지 확인할 수 있다
+        jdbcTemplate.update("UPDATE order_daily_stats SET order_count = 10 WHERE department_id = ? AND stat_date = ?",
+                department.getId(), DAY_B);
+        // A 날짜의 투썸 주문 취소
+        jdbcTemplate.update("UPDATE orders SET del_yn = 'Y', updated_time = ? WHERE team_id = ? AND order_date = ?",
+                LocalDateTime.now(), teams.get(2).getId(), DAY_A);
+
+        OrderStatsRollupService.RollupResult result = orderStatsRollupService.rollup();
+
+        assertThat(result.getDayCount()).isPositive();
+        assertThat(orderStatsService.findDailyStats(department.getId(), DAY_A, DAY_C))
+                .extracting(OrderStatsDto::getPeriod, OrderStatsDto::getMenuType, OrderStatsDto::getOrderCount)
+                .containsExactly(
+                        tuple(DAY_A, "CUSTOM", 2L),
+                        tuple(DAY_B, "CUSTOM", 10L),
+                        tuple(DAY_C, "CUSTOM", 1L));
+        // 7월은 일별 통계에서 다시 합산, 8월은 그대로
+        assertThat(orderStatsService.findMonthlyStats(
+                department.getId(), YearMonth.of(2001, 7), YearMonth.of(2001, 8)))
+                .extracting(OrderStatsDto::getPeriod, OrderStatsDto::getMenuType, OrderStatsDto::getOrderCount)
+                .containsExactly(
+                        tuple(LocalDate.of(2001, 7, 1), "CUSTOM", 12L),
+                        tuple(LocalDate.of(2001, 8, 1), "CUSTOM", 1L));
+    }
+
+    private void insertOrder(Team team, LocalDate orderDate, boolean twosome, LocalDateTime updatedTime) {
+        jdbcTemplate.update("INSERT INTO orders (department_id, team_id, menu_id, twosome_menu_id, menu_type, "
+                        + "order_date, del_yn, created_time, updated_time) VALUES (?, ?, ?, ?, ?, ?, 'N', ?, ?)",
+                department.getId(), team.getId(),
+                twosome ? null : menu.getId(), twosome ? twosomeMenu.getId() : null,
+                twosome ? "TWOSOME" : "CUSTOM", orderDate, updatedTime, updatedTime);
+    }
+}
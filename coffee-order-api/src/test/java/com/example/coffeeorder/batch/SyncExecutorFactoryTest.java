@@ -0,0 +1,80 @@
+package com.example.coffeeorder.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동기화 병렬 호출 실행기의 동시 실행 수 측정
+ * HTTP 호출 대신 100ms 대기하는 작업 40개를 돌려 최대 동시 실행 수와 전체 소요 시간을 비교한다.
+ */
+class SyncExecutorFactoryTest {
+
+    private static final int TASKS = 40;
+    private static final long BLOCKING_MILLIS = 100;
+
+    @Test
+    @DisplayName("플랫폼 스레드 모드는 동시 호출이 풀 크기(10)로 제한된다")
+    void platformThreadsCapConcurrency() {
+        SyncExecutorFactory factory = new SyncExecutorFactory(new MockEnvironment(), 50);
+
+        Measurement measurement = run(factory);
+
+        assertThat(factory.isVirtual()).isFalse();
+        assertThat(measurement.maxInFlight).isEqualTo(SyncExecutorFactory.PLATFORM_POOL_SIZE);
+        // 40개 / 10개씩 = 4번 대기
+        assertThat(measurement.elapsedMillis).isGreaterThanOrEqualTo(4 * BLOCKING_MILLIS);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    @DisplayName("가상 스레드 모드는 대기 중인 호출이 OS 스레드를 점유하지 않아 설정한 동시 호출 수까지 늘어난다")
+    void virtualThreadsRaiseConcurrency() {
+        MockEnvironment environment = new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true");
+        SyncExecutorFactory factory = new SyncExecutorFactory(environment, 50);
+
+        Measurement measurement = run(factory);
+
+        assertThat(factory.isVirtual()).isTrue();
+        assertThat(measurement.maxInFlight).isEqualTo(TASKS);
+        assertThat(measurement.elapsedMillis).isLessThan(4 * BLOCKING_MILLIS);
+    }
+
+    private Measurement run(SyncExecutorFactory factory) {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ExecutorService executor = factory.create("sync-test");
+        long startTime = System.currentTimeMillis();
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < TASKS; i++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(BLOCKING_MILLIS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    inFlight.decrementAndGet();
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+        return new Measurement(maxInFlight.get(), System.currentTimeMillis() - startTime);
+    }
+
+    private record Measurement(int maxInFlight, long elapsedMillis) {
+    }
+}
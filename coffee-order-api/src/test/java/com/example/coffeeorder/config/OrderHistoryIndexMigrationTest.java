@@ -0,0 +1,40 @@
+package com.example.coffeeorder.config;
+
+import com.example.coffeeorder.support.IntegrationTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderHistoryIndexMigrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderHistoryIndexMigration orderHistoryIndexMigration;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("기존 DB에 남은 교체 전 주문 인덱스를 지우고 이력 인덱스는 그대로 둔다")
+    void dropsReplacedIndexes() {
+        // 이전 버전 스키마의 인덱스 재현
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_orders_dept_date ON orders (department_id, order_date)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_orders_date ON orders (order_date)");
+
+        orderHistoryIndexMigration.run();
+        orderHistoryIndexMigration.run();
+
+        assertThat(indexCount("idx_orders_dept_date")).isZero();
+        assertThat(indexCount("idx_orders_date")).isZero();
+        assertThat(indexCount("idx_orders_dept_recent")).isPositive();
+        assertThat(indexCount("idx_orders_recent")).isPositive();
+    }
+
+    private int indexCount(String name) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE UPPER(INDEX_NAME) = UPPER(?)",
+                Integer.class, name);
+    }
+}
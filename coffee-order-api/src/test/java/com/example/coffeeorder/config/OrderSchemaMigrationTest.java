@@ -0,0 +1,74 @@
+package com.example.coffeeorder.config;
+
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.entity.Menu;
+import com.example.coffeeorder.entity.Order;
+import com.example.coffeeorder.entity.Team;
+import com.example.coffeeorder.support.IntegrationTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderSchemaMigrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderSchemaMigration orderSchemaMigration;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("제약이 빠진 기존 DB에 중복 주문이 있으면 지우지 않고 충돌 목록과 함께 중단하고, 정리 후에는 제약을 다시 추가한다")
+    void failsOnDuplicatesAndRestoresConstraintAfterCleanup() {
+        Department department = saveDepartment("마이그레이션테스트부서");
+        Team team = saveTeam(department, "팀원A");
+        Menu menu = saveMenu(department, "아메리카노");
+        LocalDate orderDate = LocalDate.of(2020, 1, 2);
+
+        // ddl-auto가 제약 추가에 실패한 상태 재현
+        jdbcTemplate.execute("ALTER TABLE orders DROP CONSTRAINT " + Order.UK_ACTIVE_TEAM_DATE);
+        for (int i = 0; i < 2; i++) {
+            jdbcTemplate.update("INSERT INTO orders (department_id, team_id, menu_id, menu_type, order_date, del_yn, created_time) "
+                            + "VALUES (?, ?, ?, 'CUSTOM', ?, 'N', ?)",
+                    department.getId(), team.getId(), menu.getId(), orderDate, LocalDateTime.now());
+        }
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM orders WHERE team_id = ? ORDER BY id", Long.class, team.getId());
+
+        assertThatThrownBy(() -> orderSchemaMigration.run())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(Order.UK_ACTIVE_TEAM_DATE)
+                .hasMessageContaining("팀원 " + team.getId() + ", " + orderDate + ": 주문 " + ids.get(0) + ", " + ids.get(1));
+        assertThat(activeIds(team)).containsExactlyElementsOf(ids);
+        assertThat(constraintCount()).isZero();
+
+        // 운영자가 남길 주문만 두고 정리한 뒤 다시 시작
+        jdbcTemplate.update("UPDATE orders SET del_yn = 'Y' WHERE id = ?", ids.get(0));
+        orderSchemaMigration.run();
+
+        Long updatedTimeMissing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM orders WHERE team_id = ? AND updated_time IS NULL", Long.class, team.getId());
+        assertThat(activeIds(team)).containsExactly(ids.get(1));
+        assertThat(constraintCount()).isEqualTo(1);
+        assertThat(updatedTimeMissing).isZero();
+    }
+
+    private List<Long> activeIds(Team team) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM orders WHERE team_id = ? AND del_yn = 'N' ORDER BY id", Long.class, team.getId());
+    }
+
+    private Integer constraintCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS WHERE UPPER(CONSTRAINT_NAME) = UPPER(?)",
+                Integer.class, Order.UK_ACTIVE_TEAM_DATE);
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.coffeeorder.controller;
+
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.entity.Menu;
+import com.example.coffeeorder.entity.Team;
+import com.example.coffeeorder.service.OrderService;
+import com.example.coffeeorder.support.IntegrationTestSupport;
+import com.example.coffeeorder.support.StatementCounter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class OrderControllerBatchTest extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Department department;
+    private Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        department = saveDepartment("일괄주문테스트부서");
+        menu = saveMenu(department, "카페라떼");
+    }
+
+    @Test
+    @DisplayName("항목별 결과를 요청 순서대로 반환하고 실패한 항목만 제외하고 저장한다")
+    void returnsPerItemResults() throws Exception {
+        List<Team> teams = createTeams(3);
+        String body = batchBody(List.of(
+                item(teams.get(0).getId(), menu.getId()),
+                item(teams.get(1).getId(), 999_999L),
+                item(teams.get(0).getId(), menu.getId()),
+                item(teams.get(2).getId(), menu.getId())));
+
+        mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdCount").value(2))
+                .andExpect(jsonPath("$.failedCount").value(2))
+                .andExpect(jsonPath("$.results[0].success").value(true))
+                .andExpect(jsonPath("$.results[0].order.menuName").value("카페라떼"))
+                .andExpect(jsonPath("$.results[1].error").value("메뉴를 찾을 수 없습니다."))
+                .andExpect(jsonPath("$.results[2].error").value("이미 오늘 주문하셨습니다."))
+                .andExpect(jsonPath("$.results[3].success").value(true));
+
+        assertThat(orderService.findTodayOrderResponses(department.getId()))
+                .extracting(order -> order.getTeamId())
+                .containsExactly(teams.get(0).getId(), teams.get(2).getId());
+    }
+
+    @Test
+    @DisplayName("주문 건수와 관계없이 실행되는 SQL 수가 같다")
+    void usesConstantStatementCount() throws Exception {
+        // 부서 설정 생성과 현황판 적재를 먼저 끝내 두고, 커밋 이후 현황판 반영까지 포함해서 센다
+        countStatements(createTeams(1));
+        orderService.findTodayOrderResponses(department.getId());
+
+        int few = countStatements(createTeams(3));
+        int many = countStatements(createTeams(30));
+
+        assertThat(many).isEqualTo(few);
+        assertThat(orderService.findTodayOrderResponses(department.getId())).hasSize(34);
+    }
+
+    @Test
+    @DisplayName("일괄 주문 항목 응답은 단건 주문 응답과 같은 JSON이다")
+    void batchItemMatchesSingleOrderResponse() throws Exception {
+        Team team = saveTeam(department, "응답비교팀원");
+        String order = String.format("{\"departmentId\":%d,\"teamId\":%d,\"menuId\":%d,\"personalOption\":\"샷 추가 <연하게>\"",
+                department.getId(), team.getId(), menu.getId());
+
+        String single = mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(order + ",\"orderDate\":\"2005-01-03\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String batch = mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batchBody(List.of(order + ",\"orderDate\":\"2005-01-04\"}"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // 주문마다 달라지는 값(ID, 날짜, 생성 시각)을 빼면 같아야 함
+        assertThat(withoutOrderIdentity(objectMapper.readTree(batch).path("results").path(0).path("order")))
+                .isEqualTo(withoutOrderIdentity(objectMapper.readTree(single)));
+    }
+
+    private JsonNode withoutOrderIdentity(JsonNode order) {
+        ObjectNode copy = order.deepCopy();
+        copy.remove(List.of("id", "orderDate", "createdTime"));
+        return copy;
+    }
+
+    private int countStatements(List<Team> teams) throws Exception {
+        String body = batchBody(teams.stream()
+                .map(team -> item(team.getId(), menu.getId()))
+                .toList());
+
+        StatementCounter.reset();
+        mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdCount").value(teams.size()));
+        return StatementCounter.count();
+    }
+
+    private List<Team> createTeams(int count) {
+        return saveTeams(department, count);
+    }
+
+    private String item(Long teamId, Long menuId) {
+        return String.format("{\"teamId\":%d,\"menuId\":%d}", teamId, menuId);
+    }
+
+    private String batchBody(List<String> items) {
+        return String.format("{\"departmentId\":%d,\"orders\":[%s]}",
+                department.getId(), items.stream().collect(Collectors.joining(",")));
+    }
+}
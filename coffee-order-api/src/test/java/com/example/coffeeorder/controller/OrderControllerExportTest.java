@@ -0,0 +1,127 @@
+package com.example.coffeeorder.controller;
+
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.entity.Menu;
+import com.example.coffeeorder.entity.Order;
+import com.example.coffeeorder.entity.Team;
+import com.example.coffeeorder.entity.TwosomeMenu;
+import com.example.coffeeorder.repository.OrderRepository;
+import com.example.coffeeorder.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class OrderControllerExportTest extends IntegrationTestSupport {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 2, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 2, 29);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Department department;
+
+    @BeforeEach
+    void setUp() {
+        department = saveDepartment("내보내기테스트부서");
+        Menu menu = saveMenu(department, "아이스 아메리카노");
+        TwosomeMenu twosomeMenu = saveTwosomeMenu("스트로베리 라떼", null);
+
+        Order custom = order(saveTeam(department, "김팀원"), FROM);
+        custom.setMenu(menu);
+        custom.setPersonalOption("샷 추가, \"연하게\"");
+        orderRepository.save(custom);
+
+        Order twosome = order(saveTeam(department, "이팀원"), TO);
+        twosome.setMenuType("TWOSOME");
+        twosome.setTwosomeMenu(twosomeMenu);
+        twosome.setPersonalOption("=1+1");
+        orderRepository.save(twosome);
+
+        // 기간 밖 주문은 제외
+        Order outside = order(saveTeam(department, "박팀원"), TO.plusDays(1));
+        outside.setMenu(menu);
+        orderRepository.save(outside);
+    }
+
+    @Test
+    @DisplayName("CSV는 메뉴 타입별 이름을 풀어서 기간 내 주문만 날짜순으로 내보낸다")
+    void exportsCsv() throws Exception {
+        String csv = export("csv");
+
+        String[] lines = csv.split("\r\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("\uFEFF주문ID,주문일,팀원,메뉴구분,메뉴,옵션,주문시각");
+        assertThat(lines[1]).contains(",2024-02-01,김팀원,CUSTOM,아이스 아메리카노,\"샷 추가, \"\"연하게\"\"\",");
+        assertThat(lines[2]).contains(",2024-02-29,이팀원,TWOSOME,스트로베리 라떼,'=1+1,");
+    }
+
+    @Test
+    @DisplayName("NDJSON은 한 줄에 주문 하나씩 내보낸다")
+    void exportsNdjson() throws Exception {
+        String ndjson = export("ndjson");
+
+        String[] lines = ndjson.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"teamName\":\"김팀원\"", "\"menuName\":\"아이스 아메리카노\"");
+        assertThat(lines[1]).contains("\"menuType\":\"TWOSOME\"", "\"menuName\":\"스트로베리 라떼\"");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식은 400으로 거절한다")
+    void rejectsUnknownFormat() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/orders/export")
+                        .param("from", FROM.toString())
+                        .param("to", TO.toString())
+                        .param("format", "xlsx"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("지원하지 않는 형식입니다. (csv, ndjson)"));
+    }
+
+    private String export(String format) throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/orders/export")
+                        .param("from", FROM.toString())
+                        .param("to", TO.toString())
+                        .param("departmentId", department.getId().toString())
+                        .param("format", format))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"orders_2024-02-01_2024-02-29." + format + "\""))
+                .andReturn();
+        return result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private Order order(Team team, LocalDate orderDate) {
+        Order order = new Order();
+        order.setDepartment(department);
+        order.setTeam(team);
+        order.setOrderDate(orderDate);
+        return order;
+    }
+}
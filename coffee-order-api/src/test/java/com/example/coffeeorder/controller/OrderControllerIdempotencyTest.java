@@ -0,0 +1,115 @@
+package com.example.coffeeorder.controller;
+
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.entity.Settings;
+import com.example.coffeeorder.service.SettingsService;
+import com.example.coffeeorder.support.IntegrationTestSupport;
+import com.example.coffeeorder.support.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class OrderControllerIdempotencyTest extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SettingsService settingsService;
+
+    private Department department;
+    private String body;
+
+    @BeforeEach
+    void setUp() {
+        department = saveDepartment("재시도테스트부서");
+        body = orderJson(department, saveTeam(department, "재시도팀원"), saveMenu(department, "콜드브루"));
+    }
+
+    @Test
+    @DisplayName("같은 키로 재시도하면 DB 조회 없이 처음 응답을 재사용한다")
+    void replaysStoredResponse() throws Exception {
+        String key = UUID.randomUUID().toString();
+
+        MvcResult first = mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        StatementCounter.reset();
+        MvcResult retry = mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andReturn();
+
+        assertThat(StatementCounter.count()).isZero();
+        assertThat(retry.getResponse().getContentAsString())
+                .isEqualTo(first.getResponse().getContentAsString());
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청이 오면 422를 반환한다")
+    void rejectsDifferentRequestWithSameKey() throws Exception {
+        String key = UUID.randomUUID().toString();
+
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.replace("}", ",\"personalOption\":\"샷 추가\"}")))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    @DisplayName("실패 응답은 저장하지 않아 조건이 바뀐 뒤 같은 키로 다시 시도할 수 있다")
+    void releasesKeyOnFailure() throws Exception {
+        String key = UUID.randomUUID().toString();
+
+        // 자정 마감이면 오늘은 이미 마감
+        updateSettings(false);
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isForbidden());
+
+        updateSettings(true);
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+    }
+
+    private void updateSettings(boolean is24Hours) {
+        Settings settings = new Settings();
+        settings.setIs24Hours(is24Hours);
+        settings.setOrderDeadlineTime(LocalTime.MIDNIGHT);
+        settingsService.updateSettingsByDepartment(department.getId(), settings);
+    }
+}
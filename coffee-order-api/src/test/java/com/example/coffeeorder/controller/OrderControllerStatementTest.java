@@ -0,0 +1,201 @@
+package com.example.coffeeorder.controller;
+
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.entity.Menu;
+import com.example.coffeeorder.entity.Team;
+import com.example.coffeeorder.support.IntegrationTestSupport;
+import com.example.coffeeorder.support.StatementCounter;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class OrderControllerStatementTest extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Department department;
+    private Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        department = saveDepartment("문장수테스트부서");
+        menu = saveMenu(department, "카페 모카");
+    }
+
+    @Test
+    @DisplayName("설정과 카탈로그가 적재된 뒤 주문 한 건은 SQL 2문장 이하로 처리한다")
+    void placesOrderWithinTwoStatements() throws Exception {
+        // 설정/카탈로그 적재용 첫 주문
+        placeOrder(saveTeam("첫주문팀원"));
+        Team team = saveTeam("측정팀원");
+
+        StatementCounter.reset();
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(team)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.teamName").value("측정팀원"))
+                .andExpect(jsonPath("$.menuName").value("카페 모카"));
+
+        // 새 팀원은 카탈로그에 없으므로 단건 조회 1 + INSERT 1
+        assertThat(StatementCounter.count()).isLessThanOrEqualTo(2);
+
+        // 같은 팀원의 다른 날짜 주문 (팀원당 하루 한 건)
+        StatementCounter.reset();
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(team).replace("}", ",\"orderDate\":\"2005-01-03\"}")))
+                .andExpect(status().isCreated());
+
+        // 카탈로그에 있는 팀원이면 INSERT 한 문장
+        assertThat(StatementCounter.statements())
+                .singleElement()
+                .asString()
+                .startsWithIgnoringCase("insert into orders");
+    }
+
+    @Test
+    @DisplayName("주문 부분 수정은 UPDATE 한 문장으로 처리하고 변경된 응답을 돌려준다")
+    void patchesOrderWithSingleStatement() throws Exception {
+        Team team = saveTeam("수정팀원");
+        Menu latte = saveMenu(department, "바닐라 라떼");
+
+        Long orderId = placeOrder(team);
+        // 새로 추가한 메뉴를 카탈로그에 적재
+        placeOrder(saveTeam("적재팀원"), latte);
+
+        StatementCounter.reset();
+        mockMvc.perform(patch("/api/orders/{id}", orderId)
+                        .param("departmentId", department.getId().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"menuType\":\"CUSTOM\",\"menuId\":%d,\"personalOption\":\"ICE\"}",
+                                latte.getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(orderId))
+                .andExpect(jsonPath("$.teamName").value("수정팀원"))
+                .andExpect(jsonPath("$.menuName").value("바닐라 라떼"))
+                .andExpect(jsonPath("$.menuCategory").value("커피"))
+                .andExpect(jsonPath("$.personalOption").value("ICE"));
+
+        assertThat(StatementCounter.statements())
+                .singleElement()
+                .asString()
+                .contains("OLD TABLE");
+
+        // 옵션만 비우면 메뉴는 유지
+        mockMvc.perform(patch("/api/orders/{id}", orderId)
+                        .param("departmentId", department.getId().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"personalOption\":\"\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.menuName").value("바닐라 라떼"))
+                .andExpect(jsonPath("$.personalOption").isEmpty());
+
+        mockMvc.perform(patch("/api/orders/{id}", orderId)
+                        .param("departmentId", department.getId().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"menuType\":\"CUSTOM\",\"menuId\":-1}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("메뉴를 찾을 수 없습니다."));
+
+        mockMvc.perform(delete("/api/orders/{id}", orderId))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(patch("/api/orders/{id}", orderId)
+                        .param("departmentId", department.getId().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"personalOption\":\"HOT\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("주문/팀원/메뉴 일괄 삭제는 각각 UPDATE 한 문장으로 처리한다")
+    void softDeletesInBulkWithSingleStatement() throws Exception {
+        Team first = saveTeam("삭제팀원1");
+        Team second = saveTeam("삭제팀원2");
+        Long firstOrder = placeOrder(first);
+        Long secondOrder = placeOrder(second);
+        mockMvc.perform(get("/api/orders/today").param("departmentId", department.getId().toString()))
+                .andExpect(jsonPath("$.length()").value(2));
+
+        StatementCounter.reset();
+        mockMvc.perform(delete("/api/orders")
+                        .param("ids", firstOrder + "," + secondOrder + ",-1")
+                        .param("departmentId", department.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(2));
+        assertThat(StatementCounter.count()).isEqualTo(1);
+
+        // 현황판은 커밋 이후 이벤트로 반영, 이미 삭제된 주문은 404
+        mockMvc.perform(get("/api/orders/today").param("departmentId", department.getId().toString()))
+                .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(delete("/api/orders/{id}", firstOrder))
+                .andExpect(status().isNotFound());
+
+        StatementCounter.reset();
+        mockMvc.perform(delete("/api/teams").param("ids", first.getId() + "," + second.getId()))
+                .andExpect(jsonPath("$.deletedCount").value(2));
+        mockMvc.perform(delete("/api/menus").param("ids", menu.getId().toString()))
+                .andExpect(jsonPath("$.deletedCount").value(1));
+        assertThat(StatementCounter.count()).isEqualTo(2);
+
+        assertThat(teamRepository.findByDepartmentIdAndDelYnOrderByIdAsc(department.getId(), "N")).isEmpty();
+        assertThat(menuRepository.findById(menu.getId())).get()
+                .extracting(Menu::getDelYn).isEqualTo("Y");
+    }
+
+    @Test
+    @DisplayName("일괄 삭제는 ID가 없거나 200개를 넘으면 쿼리 없이 400")
+    void rejectsOversizedBulkDelete() throws Exception {
+        String tooMany = LongStream.rangeClosed(1, 201)
+                .mapToObj(Long::toString)
+                .collect(Collectors.joining(","));
+
+        StatementCounter.reset();
+        mockMvc.perform(delete("/api/orders").param("ids", tooMany))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(delete("/api/teams").param("ids", tooMany))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(delete("/api/menus").param("ids", ""))
+                .andExpect(status().isBadRequest());
+        assertThat(StatementCounter.count()).isZero();
+    }
+
+    private Team saveTeam(String name) {
+        return saveTeam(department, name);
+    }
+
+    private Long placeOrder(Team team) throws Exception {
+        return placeOrder(team, menu);
+    }
+
+    private Long placeOrder(Team team, Menu orderMenu) throws Exception {
+        String response = mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(orderJson(department, team, orderMenu)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.parse(response).read("$.id", Long.class);
+    }
+
+    private String body(Team team) {
+        return orderJson(department, team, menu);
+    }
+}
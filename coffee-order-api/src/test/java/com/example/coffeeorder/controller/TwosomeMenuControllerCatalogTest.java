@@ -0,0 +1,83 @@
+package com.example.coffeeorder.controller;
+
+import com.example.coffeeorder.entity.TwosomeMenu;
+import com.example.coffeeorder.service.TwosomeMenuService;
+import com.example.coffeeorder.support.IntegrationTestSupport;
+import com.example.coffeeorder.support.StatementCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class TwosomeMenuControllerCatalogTest extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TwosomeMenuService twosomeMenuService;
+
+    @Test
+    @DisplayName("전체 메뉴는 정렬 순서를 유지한 스냅샷으로 응답하고, ETag가 같으면 DB 조회 없이 304를 준다")
+    void servesCatalogSnapshotWithEtag() throws Exception {
+        String category = "스냅샷테스트분류";
+        saveMenu("SNAP-2", "스냅샷 라떼", category, 2);
+        saveMenu("SNAP-1", "스냅샷 아메리카노", category, 1);
+
+        MvcResult first = mockMvc.perform(get("/api/twosome-menus"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['" + category + "'][0].menuNm").value("스냅샷 아메리카노"))
+                .andExpect(jsonPath("$['" + category + "'][1].menuNm").value("스냅샷 라떼"))
+                .andReturn();
+        assertThat(first.getResponse().getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"").doesNotStartWith("W/");
+
+        StatementCounter.reset();
+        mockMvc.perform(get("/api/twosome-menus").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        MvcResult gzipped = mockMvc.perform(get("/api/twosome-menus").header(HttpHeaders.ACCEPT_ENCODING, "gzip, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+        assertThat(StatementCounter.count()).isZero();
+        assertThat(gunzip(gzipped.getResponse().getContentAsByteArray()))
+                .isEqualTo(first.getResponse().getContentAsString(StandardCharsets.UTF_8));
+
+        // 메뉴가 바뀌면 커밋 이후 새 스냅샷과 새 ETag
+        saveMenu("SNAP-3", "스냅샷 모카", category, 3);
+        mockMvc.perform(get("/api/twosome-menus").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['" + category + "'].length()").value(3));
+    }
+
+    private void saveMenu(String menuCd, String name, String category, int sortOrd) {
+        TwosomeMenu menu = new TwosomeMenu();
+        menu.setMenuCd(menuCd);
+        menu.setMenuNm(name);
+        menu.setMidNm(category);
+        menu.setSortOrd(sortOrd);
+        twosomeMenuService.save(menu);
+    }
+
+    private static String gunzip(byte[] body) throws Exception {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
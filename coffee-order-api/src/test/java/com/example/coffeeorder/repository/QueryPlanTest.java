@@ -0,0 +1,234 @@
+package com.example.coffeeorder.repository;
+
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.entity.Menu;
+import com.example.coffeeorder.entity.Team;
+import com.example.coffeeorder.mapper.OrderMapper;
+import com.example.coffeeorder.mapper.OrderStatsMapper;
+import com.example.coffeeorder.support.IntegrationTestSupport;
+import com.example.coffeeorder.support.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자주 실행되는 조회 쿼리의 H2 실행 계획 검증
+ * 리포지토리/매퍼가 실제로 만든 SQL을 EXPLAIN 해서 전체 테이블 스캔으로 떨어지면 실패한다.
+ * 빈 테이블은 인덱스 선택 기준이 없으므로, 주문 이력을 적재하고 ANALYZE로 통계를 갱신한 뒤 확인한다.
+ */
+class QueryPlanTest extends IntegrationTestSupport {
+
+    private static final LocalDate DATE = LocalDate.of(2023, 3, 4);
+    private static final int TEAMS = 20;
+    private static final int MENUS = 10;
+    private static final int DAYS = 60;
+    private static final String[] MID_NAMES = {"커피", "라떼", "티", "에이드", "스무디", "디저트"};
+
+    private static boolean seeded;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TwosomeMenuOptionRepository twosomeMenuOptionRepository;
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private OrderStatsMapper orderStatsMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Department department;
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        department = departmentRepository.findByNameAndDelYn("실행계획테스트부서", "N").orElse(null);
+        if (!seeded || department == null) {
+            seed();
+            seeded = true;
+        }
+        team = teamRepository.findByDepartmentIdAndDelYnOrderByIdAsc(department.getId(), "N").get(0);
+    }
+
+    // 부서 하나에 팀원 20명 x 60일치 주문과 투썸 메뉴/옵션을 적재하고 통계 갱신
+    private void seed() {
+        department = saveDepartment("실행계획테스트부서");
+        saveTeams(department, TEAMS);
+        for (int i = 0; i < MENUS; i++) {
+            saveMenu(department, "메뉴" + i);
+        }
+
+        List<Long> teamIds = teamRepository.findByDepartmentIdAndDelYnOrderByIdAsc(department.getId(), "N")
+                .stream().map(Team::getId).toList();
+        List<Long> menuIds = menuRepository.findByDepartmentIdAndDelYnOrderByNameAsc(department.getId(), "N")
+                .stream().map(Menu::getId).toList();
+        List<Object[]> orders = new ArrayList<>();
+        for (int day = 0; day < DAYS; day++) {
+            for (int i = 0; i < teamIds.size(); i++) {
+                orders.add(new Object[]{department.getId(), teamIds.get(i), menuIds.get((day + i) % menuIds.size()),
+                        DATE.minusDays(day), day % 10 == 0 ? "Y" : "N"});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO orders (department_id, team_id, menu_id, menu_type, order_date, del_yn, created_time) "
+                + "VALUES (?, ?, ?, 'CUSTOM', ?, ?, CURRENT_TIMESTAMP)", orders);
+
+        List<Object[]> menus = new ArrayList<>();
+        List<Object[]> options = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            String menuCd = "QP" + i;
+            menus.add(new Object[]{menuCd, "투썸메뉴" + i, i < 30 ? "음료" : "푸드", MID_NAMES[i % MID_NAMES.length], i});
+            for (String ondo : new String[]{"010H", "010I"}) {
+                for (String size : new String[]{"R", "L", "M"}) {
+                    options.add(new Object[]{menuCd, ondo, size});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO twosome_menu (menu_cd, menu_nm, grt_nm, mid_nm, sort_ord, del_yn, created_date) "
+                + "VALUES (?, ?, ?, ?, ?, 'N', CURRENT_TIMESTAMP)", menus);
+        jdbcTemplate.batchUpdate("INSERT INTO twosome_menu_option (menu_cd, ondo_opt_cd, size_opt_cd, del_yn, created_date) "
+                + "VALUES (?, ?, ?, 'N', CURRENT_TIMESTAMP)", options);
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    @DisplayName("부서별 날짜 주문 조회는 부서/날짜 인덱스를 탄다")
+    void ordersByDepartmentAndDate() {
+        StatementCounter.reset();
+        orderRepository.findByDepartmentIdAndOrderDateAndDelYn(department.getId(), DATE, "N");
+        assertIndexScan(lastStatement(), "IDX_ORDERS_DEPT_RECENT", department.getId(), DATE, "N");
+
+        StatementCounter.reset();
+        orderRepository.countByDepartmentIdAndOrderDateAndDelYn(department.getId(), DATE, "N");
+        assertIndexScan(lastStatement(), "IDX_ORDERS_DEPT_RECENT", department.getId(), DATE, "N");
+
+        StatementCounter.reset();
+        orderMapper.findOrderResponses(department.getId(), DATE);
+        assertIndexScan(lastStatement(), "IDX_ORDERS_DEPT_RECENT", DATE, department.getId());
+    }
+
+    @Test
+    @DisplayName("전체 부서 날짜 주문 조회와 메뉴 집계는 날짜 인덱스를 탄다")
+    void ordersByDate() {
+        StatementCounter.reset();
+        orderRepository.findByOrderDateAndDelYn(DATE, "N");
+        assertIndexScan(lastStatement(), "IDX_ORDERS_RECENT", DATE, "N");
+
+        StatementCounter.reset();
+        orderMapper.findMenuSummaryByDate(DATE);
+        assertIndexScan(lastStatement(), "IDX_ORDERS_RECENT", DATE);
+    }
+
+    @Test
+    @DisplayName("주문 이력 페이지는 정렬 없이 인덱스 순서대로 커서 위치부터 읽는다")
+    void orderHistoryPages() {
+        StatementCounter.reset();
+        orderMapper.findOrderHistory(department.getId(), DATE.minusDays(DAYS), DATE, DATE.minusDays(30), 500L, 51);
+        String sql = lastStatement();
+        assertIndexScan(sql, "IDX_ORDERS_DEPT_RECENT", department.getId(), DATE.minusDays(DAYS), DATE,
+                DATE.minusDays(30), DATE.minusDays(30), 500L, 51);
+        assertThat(explain(sql, department.getId(), DATE.minusDays(DAYS), DATE,
+                DATE.minusDays(30), DATE.minusDays(30), 500L, 51))
+                .contains("index sorted");
+
+        StatementCounter.reset();
+        orderMapper.findOrderHistory(null, null, null, DATE.minusDays(30), 500L, 51);
+        sql = lastStatement();
+        assertIndexScan(sql, "IDX_ORDERS_RECENT", DATE.minusDays(30), DATE.minusDays(30), 500L, 51);
+        assertThat(explain(sql, DATE.minusDays(30), DATE.minusDays(30), 500L, 51))
+                .contains("index sorted");
+    }
+
+    @Test
+    @DisplayName("팀원별 오늘/최근 주문 조회는 팀원 인덱스를 탄다")
+    void ordersByTeam() {
+        StatementCounter.reset();
+        orderRepository.findByTeamAndOrderDateAndDelYn(team, DATE, "N");
+        assertIndexScan(lastStatement(), "IDX_ORDERS_TEAM_RECENT", team.getId(), DATE, "N");
+
+        StatementCounter.reset();
+        orderRepository.findTopByTeamAndDelYnOrderByOrderDateDescCreatedTimeDesc(team, "N");
+        assertIndexScan(lastStatement(), "IDX_ORDERS_TEAM_RECENT", team.getId(), "N", 1);
+
+        StatementCounter.reset();
+        orderMapper.findRecentOrderResponsesByTeam(team.getId(), 30);
+        assertIndexScan(lastStatement(), "IDX_ORDERS_TEAM_RECENT", team.getId(), 30);
+    }
+
+    @Test
+    @DisplayName("부서별 팀원/메뉴 목록은 부서 인덱스를 탄다")
+    void teamsAndMenusByDepartment() {
+        StatementCounter.reset();
+        teamRepository.findByDepartmentIdAndDelYnOrderByIdAsc(department.getId(), "N");
+        assertIndexScan(lastStatement(), "IDX_TEAM_DEPT", department.getId(), "N");
+
+        StatementCounter.reset();
+        menuRepository.findByDepartmentIdAndDelYnOrderByNameAsc(department.getId(), "N");
+        assertIndexScan(lastStatement(), "IDX_MENU_DEPT_NAME", department.getId(), "N");
+
+    }
+
+    @Test
+    @DisplayName("투썸 메뉴 분류 조회와 옵션 조회는 인덱스를 탄다")
+    void twosomeMenusAndOptions() {
+        StatementCounter.reset();
+        twosomeMenuRepository.findByMidNmAndDelYnOrderBySortOrdAsc("커피", "N");
+        assertIndexScan(lastStatement(), "IDX_TWOSOME_MENU_MID", "커피", "N");
+
+        StatementCounter.reset();
+        twosomeMenuRepository.findByGrtNmAndDelYnOrderByMidNmAscSortOrdAsc("음료", "N");
+        assertIndexScan(lastStatement(), "IDX_TWOSOME_MENU_GRT", "음료", "N");
+
+        StatementCounter.reset();
+        twosomeMenuOptionRepository.findByMenuCdAndOndoOptCdAndDelYn("10100001", "010H", "N");
+        assertIndexScan(lastStatement(), "IDX_MENU_OPTION_ONDO", "10100001", "010H", "N");
+    }
+
+    @Test
+    @DisplayName("통계 롤업의 변경 날짜 탐색은 변경 시각 인덱스를 탄다")
+    void changedOrderDates() {
+        LocalDateTime since = LocalDateTime.now().minusMinutes(5);
+        StatementCounter.reset();
+        orderStatsMapper.findChangedOrderDates(since);
+        assertIndexScan(lastStatement(), "IDX_ORDERS_UPDATED", since);
+    }
+
+    @Test
+    @DisplayName("메뉴 인기 점수 최초 적재는 최근 주문 인덱스를 탄다")
+    void menuDailyCounts() {
+        StatementCounter.reset();
+        orderStatsMapper.findMenuDailyCounts("CUSTOM", DATE);
+        assertIndexScan(lastStatement(), "IDX_ORDERS_RECENT", "CUSTOM", DATE, "CUSTOM");
+    }
+
+    private String lastStatement() {
+        List<String> statements = StatementCounter.statements();
+        assertThat(statements).isNotEmpty();
+        return statements.get(statements.size() - 1);
+    }
+
+    private String explain(String sql, Object... args) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+    }
+
+    private void assertIndexScan(String sql, String indexName, Object... args) {
+        String plan = explain(sql, args);
+        assertThat(plan)
+                .as("실행 계획: %s", plan)
+                .doesNotContainIgnoringCase("tableScan")
+                .containsIgnoringCase(indexName);
+    }
+}
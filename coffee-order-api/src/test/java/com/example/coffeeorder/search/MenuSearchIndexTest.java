@@ -0,0 +1,78 @@
+package com.example.coffeeorder.search;
+
+import com.example.coffeeorder.dto.MenuSearchResultDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MenuSearchIndexTest {
+
+    private static final Long DEPARTMENT = 1L;
+    private static final Long OTHER_DEPARTMENT = 2L;
+
+    private final MenuSearchIndex index = MenuSearchIndex.builder()
+            .add(twosome(1L, "아메리카노", "Americano"), null)
+            .add(twosome(2L, "카페 라떼", "Caffe Latte"), null)
+            .add(twosome(3L, "바닐라 라떼", "Vanilla Latte"), null)
+            .add(twosome(4L, "라떼 마끼아또", "Latte Macchiato"), null)
+            .add(twosome(5L, "아이스 아메리카노", "Iced Americano"), null)
+            .add(custom(11L, "우리팀 라떼"), DEPARTMENT)
+            .add(custom(12L, "옆팀 라떼"), OTHER_DEPARTMENT)
+            .build();
+
+    @Test
+    @DisplayName("초성만 입력하면 초성으로 찾고, 이름 시작 일치가 먼저 온다")
+    void searchesByInitials() {
+        assertThat(names(index.search("ㅇㅁㄹㅋㄴ", DEPARTMENT, 10)))
+                .containsExactly("아메리카노", "아이스 아메리카노");
+    }
+
+    @Test
+    @DisplayName("입력 중인 마지막 글자도 자모 단위로 맞춘다")
+    void matchesSyllableBeingTyped() {
+        assertThat(names(index.search("카펠", DEPARTMENT, 10))).containsExactly("카페 라떼");
+        assertThat(names(index.search("아멜", DEPARTMENT, 10))).containsExactly("아메리카노", "아이스 아메리카노");
+    }
+
+    @Test
+    @DisplayName("이름 시작 > 단어 시작 > 중간 일치 순, 같으면 짧은 이름 순")
+    void ranksPrefixBeforeWordBeforeSubstring() {
+        assertThat(names(index.search("라떼", DEPARTMENT, 10)))
+                .containsExactly("라떼 마끼아또", "카페 라떼", "바닐라 라떼", "우리팀 라떼");
+        assertThat(names(index.search("메리", DEPARTMENT, 10)))
+                .containsExactly("아메리카노", "아이스 아메리카노");
+    }
+
+    @Test
+    @DisplayName("영문명도 대소문자 구분 없이 찾는다")
+    void searchesEnglishNames() {
+        assertThat(names(index.search("LATTE", null, 10)))
+                .containsExactly("라떼 마끼아또", "카페 라떼", "바닐라 라떼");
+    }
+
+    @Test
+    @DisplayName("커스텀 메뉴는 요청한 부서 메뉴만, 투썸 메뉴는 항상 포함하고 limit까지만 돌려준다")
+    void filtersCustomMenusByDepartment() {
+        assertThat(index.search("팀", OTHER_DEPARTMENT, 10))
+                .extracting(MenuSearchResultDto::getId)
+                .containsExactly(12L);
+        assertThat(index.search("라떼", DEPARTMENT, 2)).hasSize(2);
+        assertThat(index.search("  ", DEPARTMENT, 10)).isEmpty();
+        assertThat(index.search("녹차", DEPARTMENT, 10)).isEmpty();
+    }
+
+    private static List<String> names(List<MenuSearchResultDto> results) {
+        return results.stream().map(MenuSearchResultDto::getName).toList();
+    }
+
+    private static MenuSearchResultDto twosome(Long id, String name, String enName) {
+        return new MenuSearchResultDto("TWOSOME", id, name, enName, "커피", "M" + id, null);
+    }
+
+    private static MenuSearchResultDto custom(Long id, String name) {
+        return new MenuSearchResultDto("CUSTOM", id, name, null, "커피", null, null);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.dto.OrderCreateDto;
+import com.example.coffeeorder.dto.OrderPatchDto;
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.entity.Menu;
+import com.example.coffeeorder.entity.MenuPopularity;
+import com.example.coffeeorder.entity.Team;
+import com.example.coffeeorder.repository.MenuPopularityRepository;
+import com.example.coffeeorder.support.IntegrationTestSupport;
+import com.example.coffeeorder.support.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MenuPopularityIndexTest extends IntegrationTestSupport {
+
+    private static final LocalDate TODAY = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MenuPopularityIndex menuPopularityIndex;
+
+    @Autowired
+    private MenuPopularityRepository menuPopularityRepository;
+
+    private Department department;
+    private Team team;
+    private Menu americano;
+    private Menu latte;
+    private Menu mocha;
+
+    @BeforeEach
+    void setUp() {
+        department = saveDepartment("메뉴인기테스트부서");
+        team = saveTeam(department, "팀원A");
+        americano = saveMenu(department, "아메리카노");
+        latte = saveMenu(department, "카페 라떼");
+        mocha = saveMenu(department, "카페 모카");
+    }
+
+    @Test
+    @DisplayName("메뉴 인기순 목록은 주문을 읽지 않고 인메모리 점수로 정렬한다")
+    void ranksMenusWithoutReadingOrders() throws Exception {
+        Long first = createOrder(latte, TODAY);
+        Long second = createOrder(latte, TODAY.minusDays(1));
+        createOrder(mocha, TODAY.minusDays(2));
+
+        StatementCounter.reset();
+        List<Menu> menus = menuService.findByDepartmentIdOrderByPopularity(department.getId());
+
+        assertThat(menus).extracting(Menu::getName).containsExactly("카페 라떼", "카페 모카", "아메리카노");
+        assertThat(StatementCounter.count()).isEqualTo(1);
+        assertThat(StatementCounter.statements().get(0)).doesNotContainIgnoringCase("orders");
+
+        // 삭제하면 점수가 빠지고, 점수 없는 메뉴는 이름순으로 뒤에 붙음
+        orderService.softDelete(first);
+        orderService.softDelete(second);
+        assertThat(menuService.findByDepartmentIdOrderByPopularity(department.getId()))
+                .extracting(Menu::getName).containsExactly("카페 모카", "아메리카노", "카페 라떼");
+    }
+
+    @Test
+    @DisplayName("변경된 점수는 menu_popularity에 저장된다")
+    void storesChangedScores() throws Exception {
+        createOrder(americano, TODAY);
+
+        menuPopularityIndex.flush();
+
+        assertThat(menuPopularityRepository.findByMenuIdIn(List.of(americano.getId())))
+                .singleElement()
+                .satisfies(popularity -> {
+                    assertThat(popularity.getDepartmentId()).isEqualTo(department.getId());
+                    assertThat(popularity.getScore()).isEqualTo(1.0);
+                })
+                .extracting(MenuPopularity::getScoreDate).isNotNull();
+    }
+
+    @Test
+    @DisplayName("주문 메뉴를 바꾸면 이전 메뉴 점수를 빼고 새 메뉴에 더하며, 이후 삭제는 새 메뉴에서 뺀다")
+    void movesScoreWhenPatchChangesMenu() throws Exception {
+        Long orderId = createOrder(latte, TODAY);
+
+        orderService.patchOrder(orderId, new OrderPatchDto("CUSTOM", mocha.getId(), null, null));
+        menuPopularityIndex.flush();
+        assertThat(storedScore(latte)).isZero();
+        assertThat(storedScore(mocha)).isEqualTo(1.0);
+
+        // 옵션만 바꾸면 점수는 그대로
+        orderService.patchOrder(orderId, new OrderPatchDto(null, null, null, "샷 추가"));
+        orderService.softDelete(orderId);
+        menuPopularityIndex.flush();
+        assertThat(storedScore(latte)).isZero();
+        assertThat(storedScore(mocha)).isZero();
+        assertThat(menuService.findByDepartmentIdOrderByPopularity(department.getId()))
+                .extracting(Menu::getName).containsExactly("아메리카노", "카페 라떼", "카페 모카");
+    }
+
+    private double storedScore(Menu menu) {
+        return menuPopularityRepository.findByMenuIdIn(List.of(menu.getId())).stream()
+                .mapToDouble(MenuPopularity::getScore)
+                .sum();
+    }
+
+    private Long createOrder(Menu menu, LocalDate orderDate) throws Exception {
+        OrderCreateDto dto = orderDto(department, team, menu);
+        dto.setOrderDate(orderDate);
+        return orderService.createOrderFromDto(dto);
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.dto.MenuCountSummaryDto;
+import com.example.coffeeorder.dto.OrderCreateDto;
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.entity.Menu;
+import com.example.coffeeorder.entity.Order;
+import com.example.coffeeorder.entity.Team;
+import com.example.coffeeorder.entity.TwosomeMenu;
+import com.example.coffeeorder.support.IntegrationTestSupport;
+import com.example.coffeeorder.support.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class MenuSummaryBoardTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderService orderService;
+
+    private final LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+    private Department department;
+    private Menu menu;
+    private TwosomeMenu twosomeMenu;
+
+    @BeforeEach
+    void setUp() {
+        department = saveDepartment("집계테스트부서");
+        menu = saveMenu(department, "아메리카노");
+        twosomeMenu = saveTwosomeMenu("아이스티", "티");
+    }
+
+    @Test
+    @DisplayName("커스텀/투썸 주문을 메뉴별, 옵션별로 집계하고 두 번째 조회는 DB를 타지 않는다")
+    void countsBothMenuTypes() throws Exception {
+        createOrder("팀원A", "CUSTOM", "ICE/레귤러");
+        createOrder("팀원B", "CUSTOM", "ICE/레귤러");
+        createOrder("팀원C", "CUSTOM", null);
+        createOrder("팀원D", "TWOSOME", "ICE/라지");
+
+        MenuCountSummaryDto summary = orderService.getMenuCountSummary(department.getId(), today);
+        StatementCounter.reset();
+        orderService.getMenuCountSummary(department.getId(), today);
+
+        assertThat(StatementCounter.count()).isZero();
+        assertThat(summary.getTotalCount()).isEqualTo(4);
+        assertThat(summary.getMenus()).extracting(MenuCountSummaryDto.MenuCount::getMenuName)
+                .containsExactly("아메리카노", "아이스티");
+        MenuCountSummaryDto.MenuCount custom = summary.getMenus().get(0);
+        assertThat(custom.getCount()).isEqualTo(3);
+        assertThat(custom.getOptions()).containsExactly(
+                new MenuCountSummaryDto.OptionCount("ICE/레귤러", 2),
+                new MenuCountSummaryDto.OptionCount("", 1));
+        MenuCountSummaryDto.MenuCount twosome = summary.getMenus().get(1);
+        assertThat(twosome.getMenuType()).isEqualTo("TWOSOME");
+        assertThat(twosome.getCategory()).isEqualTo("티");
+        assertThat(twosome.getOptions()).containsExactly(new MenuCountSummaryDto.OptionCount("ICE/라지", 1));
+    }
+
+    @Test
+    @DisplayName("적재된 카운터는 주문 생성/수정/삭제를 증감으로 반영한다")
+    void appliesWritesIncrementally() throws Exception {
+        Long first = createOrder("팀원A", "CUSTOM", null);
+        assertThat(orderService.getMenuCountSummary(department.getId(), today).getTotalCount()).isEqualTo(1);
+
+        Long second = createOrder("팀원B", "CUSTOM", "HOT");
+
+        Order change = new Order();
+        change.setMenuType("TWOSOME");
+        change.setTwosomeMenu(twosomeMenu);
+        change.setPersonalOption("ICE");
+        orderService.updateOrder(first, change);
+
+        MenuCountSummaryDto summary = orderService.getMenuCountSummary(department.getId(), today);
+        assertThat(summary.getTotalCount()).isEqualTo(2);
+        assertThat(summary.getMenus()).extracting(MenuCountSummaryDto.MenuCount::getMenuName, MenuCountSummaryDto.MenuCount::getCount)
+                .containsExactly(
+                        tuple("아메리카노", 1),
+                        tuple("아이스티", 1));
+
+        orderService.softDelete(second);
+        summary = orderService.getMenuCountSummary(department.getId(), today);
+        assertThat(summary.getTotalCount()).isEqualTo(1);
+        assertThat(summary.getMenus()).extracting(MenuCountSummaryDto.MenuCount::getMenuName)
+                .containsExactly("아이스티");
+    }
+
+    @Test
+    @DisplayName("날짜별 메뉴 집계에 투썸 주문도 포함된다")
+    @SuppressWarnings("unchecked")
+    void menuSummaryIncludesTwosomeOrders() throws Exception {
+        createOrder("팀원A", "TWOSOME", "ICE/라지");
+
+        Map<String, Object> summary = orderService.getMenuSummaryByDate(today);
+
+        assertThat(summary).containsKey("아이스티 (옵션: ICE/라지)");
+        assertThat((Map<String, Object>) summary.get("아이스티 (옵션: ICE/라지)")).containsEntry("category", "티");
+    }
+
+    @Test
+    @DisplayName("부서를 주면 날짜별 메뉴 집계를 카운터에서 펼치고 DB를 타지 않는다")
+    @SuppressWarnings("unchecked")
+    void departmentMenuSummaryUsesBoard() throws Exception {
+        createOrder("팀원A", "CUSTOM", "ICE/레귤러");
+        createOrder("팀원B", "CUSTOM", "ICE/레귤러");
+        createOrder("팀원C", "TWOSOME", null);
+        orderService.getMenuCountSummary(department.getId(), today);
+
+        StatementCounter.reset();
+        Map<String, Object> summary = orderService.getMenuSummaryByDate(department.getId(), today);
+
+        assertThat(StatementCounter.count()).isZero();
+        assertThat(summary).containsOnlyKeys("아메리카노 (옵션: ICE/레귤러)", "아이스티");
+        assertThat((Map<String, Object>) summary.get("아메리카노 (옵션: ICE/레귤러)")).containsEntry("count", 2L);
+        assertThat((Map<String, Object>) summary.get("아이스티"))
+                .containsEntry("category", "티")
+                .containsEntry("personalOption", "");
+    }
+
+    private Long createOrder(String teamName, String menuType, String option) throws Exception {
+        Team team = saveTeam(department, teamName);
+        OrderCreateDto dto = "TWOSOME".equals(menuType)
+                ? orderDto(department, team, twosomeMenu)
+                : orderDto(department, team, menu);
+        dto.setPersonalOption(option);
+        return orderService.createOrderFromDto(dto);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.dto.OrderHeatmapDto;
+import com.example.coffeeorder.dto.TeamFavoritesDto;
+import com.example.coffeeorder.dto.WeekdayTrendDto;
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.entity.Menu;
+import com.example.coffeeorder.entity.Team;
+import com.example.coffeeorder.entity.TwosomeMenu;
+import com.example.coffeeorder.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class OrderAnalyticsServiceTest extends IntegrationTestSupport {
+
+    // 포크/조인 구간(31일)을 여러 개 걸치는 기간 (다른 테스트의 주문 날짜와 겹치지 않음)
+    private static final LocalDate FROM = LocalDate.of(2002, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2002, 4, 30);
+
+    @Autowired
+    private OrderAnalyticsService orderAnalyticsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Department department;
+    private List<Team> teams;
+    private Menu americano;
+    private Menu latte;
+    private TwosomeMenu icedTea;
+
+    // 적재한 주문의 기대값
+    private int[] dayCounts;
+    private final int[] weekdayCounts = new int[7];
+
+    @BeforeEach
+    void setUp() {
+        department = saveDepartment("분석테스트부서");
+        teams = saveTeams(department, 3);
+        americano = saveMenu(department, "아메리카노");
+        latte = saveMenu(department, "카페라떼");
+        icedTea = saveTwosomeMenu("아이스티", "티");
+
+        // 팀원0: 매일 아메리카노, 팀원1: 짝수날 라떼/홀수날 아메리카노, 팀원2: 3일에 한 번 아이스티
+        int days = (int) (TO.toEpochDay() - FROM.toEpochDay()) + 1;
+        dayCounts = new int[days];
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < days; i++) {
+            LocalDate date = FROM.plusDays(i);
+            rows.add(orderRow(teams.get(0), date, americano.getId(), null));
+            rows.add(orderRow(teams.get(1), date, i % 2 == 0 ? latte.getId() : americano.getId(), null));
+            int count = 2;
+            if (i % 3 == 0) {
+                rows.add(orderRow(teams.get(2), date, null, icedTea.getId()));
+                count++;
+            }
+            dayCounts[i] = count;
+            weekdayCounts[date.getDayOfWeek().getValue() - 1] += count;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO orders (department_id, team_id, menu_id, twosome_menu_id, menu_type, "
+                + "order_date, del_yn, created_time, updated_time) VALUES (?, ?, ?, ?, ?, ?, 'N', ?, ?)", rows);
+    }
+
+    @Test
+    @DisplayName("팀원별 즐겨 찾는 메뉴를 주문 수 순으로 이름과 함께 돌려준다")
+    void teamFavorites() {
+        List<TeamFavoritesDto> favorites = orderAnalyticsService.findTeamFavorites(department.getId(), FROM, TO, 3);
+
+        assertThat(favorites)
+                .extracting(TeamFavoritesDto::getTeamName, TeamFavoritesDto::getOrderCount)
+                .containsExactly(tuple("팀원0", 120), tuple("팀원1", 120), tuple("팀원2", 40));
+        assertThat(favorites.get(1).getFavorites())
+                .extracting(TeamFavoritesDto.FavoriteMenu::getMenuName, TeamFavoritesDto.FavoriteMenu::getCount)
+                .containsExactly(tuple("아메리카노", 60), tuple("카페라떼", 60));
+        assertThat(favorites.get(2).getFavorites())
+                .extracting(TeamFavoritesDto.FavoriteMenu::getMenuType, TeamFavoritesDto.FavoriteMenu::getMenuId,
+                        TeamFavoritesDto.FavoriteMenu::getMenuName, TeamFavoritesDto.FavoriteMenu::getCount)
+                .containsExactly(tuple("TWOSOME", icedTea.getId(), "아이스티", 40));
+
+        assertThat(orderAnalyticsService.findTeamFavorites(department.getId(), FROM, TO, 1).get(1).getFavorites())
+                .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("요일별 주문 수와 하루 평균을 부서별로 집계한다")
+    void weekdayTrends() {
+        List<WeekdayTrendDto> trends = orderAnalyticsService.findWeekdayTrends(department.getId(), FROM, TO);
+
+        assertThat(trends).hasSize(1);
+        WeekdayTrendDto trend = trends.get(0);
+        assertThat(trend.getDepartmentName()).isEqualTo("분석테스트부서");
+        assertThat(trend.getCounts()).containsExactly(weekdayCounts);
+        assertThat(trend.getOrderCount()).isEqualTo(280);
+        // 2002-01-01은 화요일, 120일 중 화요일은 18일
+        assertThat(trend.getAverages()[1]).isEqualTo(Math.round(weekdayCounts[1] * 100.0 / 18) / 100.0);
+    }
+
+    @Test
+    @DisplayName("히트맵은 구간 경계와 상관없이 날짜별 주문 수를 빠짐없이 채운다")
+    void heatmap() {
+        OrderHeatmapDto heatmap = orderAnalyticsService.getHeatmap(department.getId(), FROM, TO);
+
+        assertThat(heatmap.getDays()).hasSize(dayCounts.length);
+        assertThat(heatmap.getDays()).extracting(OrderHeatmapDto.DayCount::getCount)
+                .containsExactly(Arrays.stream(dayCounts).boxed().toArray(Integer[]::new));
+        assertThat(heatmap.getTotalCount()).isEqualTo(280);
+        assertThat(heatmap.getMaxCount()).isEqualTo(3);
+
+        // 기간 중간만 조회하면 그 구간만 집계
+        OrderHeatmapDto february = orderAnalyticsService.getHeatmap(
+                department.getId(), LocalDate.of(2002, 2, 1), LocalDate.of(2002, 2, 28));
+        assertThat(february.getDays()).hasSize(28);
+        assertThat(february.getDays().get(0).getCount()).isEqualTo(dayCounts[31]);
+    }
+
+    private Object[] orderRow(Team team, LocalDate date, Long menuId, Long twosomeMenuId) {
+        LocalDateTime time = date.atTime(9, 0);
+        return new Object[]{department.getId(), team.getId(), menuId, twosomeMenuId,
+                twosomeMenuId != null ? "TWOSOME" : "CUSTOM", date, time, time};
+    }
+}
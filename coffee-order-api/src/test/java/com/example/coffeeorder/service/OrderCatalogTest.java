@@ -0,0 +1,61 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.entity.Team;
+import com.example.coffeeorder.repository.DepartmentRepository;
+import com.example.coffeeorder.repository.MenuRepository;
+import com.example.coffeeorder.repository.TeamRepository;
+import com.example.coffeeorder.repository.TwosomeMenuRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderCatalogTest {
+
+    private final TeamRepository teamRepository = mock(TeamRepository.class);
+
+    private final OrderCatalog orderCatalog = new OrderCatalog(teamRepository, mock(DepartmentRepository.class),
+            mock(MenuRepository.class), mock(TwosomeMenuRepository.class));
+
+    @Test
+    @DisplayName("적재 중에 목록이 비워지면 이전 이름으로 만든 스냅샷을 보관하지 않는다")
+    void discardsLoadStartedBeforeInvalidation() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(teamRepository.findAll())
+                .thenAnswer(invocation -> {
+                    loading.countDown();
+                    release.await(2, TimeUnit.SECONDS);
+                    return List.of(team("이전 이름"));
+                })
+                .thenReturn(List.of(team("새 이름")));
+
+        CompletableFuture<Optional<OrderCatalog.TeamEntry>> first =
+                CompletableFuture.supplyAsync(() -> orderCatalog.findTeam(1L));
+        assertThat(loading.await(2, TimeUnit.SECONDS)).isTrue();
+        // 적재 중인 스레드가 DB 조회를 마칠 때까지 비우기가 기다리지 않음
+        orderCatalog.invalidateTeams();
+        release.countDown();
+
+        assertThat(first.get(2, TimeUnit.SECONDS)).get().extracting(OrderCatalog.TeamEntry::name).isEqualTo("이전 이름");
+        assertThat(orderCatalog.findTeam(1L)).get().extracting(OrderCatalog.TeamEntry::name).isEqualTo("새 이름");
+        verify(teamRepository, times(2)).findAll();
+    }
+
+    private static Team team(String name) {
+        Team team = new Team();
+        team.setId(1L);
+        team.setName(name);
+        return team;
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.dto.OrderCreateDto;
+import com.example.coffeeorder.dto.OrderResponseDto;
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.entity.Menu;
+import com.example.coffeeorder.entity.Settings;
+import com.example.coffeeorder.entity.Team;
+import com.example.coffeeorder.repository.OrderDaySnapshotRepository;
+import com.example.coffeeorder.support.IntegrationTestSupport;
+import com.example.coffeeorder.support.StatementCounter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class OrderDayFreezerTest extends IntegrationTestSupport {
+
+    private static final LocalDate DATE = LocalDate.of(2006, 5, 10);
+
+    @Autowired
+    private OrderDayFreezer orderDayFreezer;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private SettingsService settingsService;
+
+    @Autowired
+    private OrderDaySnapshotRepository snapshotRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Department department;
+    private Menu latte;
+
+    @BeforeEach
+    void setUp() {
+        department = saveDepartment("마감스냅샷부서");
+        latte = saveMenu(department, "카페 라떼");
+    }
+
+    @Test
+    @DisplayName("마감된 날짜는 DB 조회 없이 저장된 스냅샷으로 응답한다")
+    void servesFrozenDayFromSnapshot() throws Exception {
+        createOrder(saveTeam("팀원A"), DATE);
+        createOrder(saveTeam("팀원B"), DATE);
+        orderDayFreezer.freeze(department.getId(), DATE);
+
+        StatementCounter.reset();
+        OrderDayFreezer.FrozenDay day = orderDayFreezer.find(department.getId(), DATE).orElseThrow();
+        assertThat(StatementCounter.count()).isZero();
+        assertThat(objectMapper.readTree(day.ordersJson())).hasSize(2);
+        JsonNode summary = objectMapper.readTree(day.summaryJson());
+        assertThat(summary.get("totalCount").asInt()).isEqualTo(2);
+        assertThat(snapshotRepository.findByDepartmentIdAndOrderDate(department.getId(), DATE))
+                .hasValueSatisfying(snapshot -> assertThat(snapshot.getOrderCount()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("마감된 날짜의 주문은 부서 파라미터 없이도 수정/삭제/추가 모두 400으로 거절하고 스냅샷은 그대로다")
+    void rejectsWritesToFrozenDay() throws Exception {
+        Long first = createOrder(saveTeam("팀원A"), DATE);
+        Long second = createOrder(saveTeam("팀원B"), DATE);
+        orderDayFreezer.freeze(department.getId(), DATE);
+        Menu mocha = saveMenu(department, "카페 모카");
+
+        mockMvc.perform(patch("/api/orders/" + first)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"menuType\":\"CUSTOM\",\"menuId\":" + mocha.getId() + "}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("주문이 마감된 날짜입니다."));
+        mockMvc.perform(put("/api/orders/" + first)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"menuType\":\"CUSTOM\",\"menu\":{\"id\":" + mocha.getId() + "}}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("주문이 마감된 날짜입니다."));
+        mockMvc.perform(delete("/api/orders/" + first))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(delete("/api/orders").param("ids", first + "," + second))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(orderJson(department, saveTeam("팀원C"), latte)
+                                .replace("}", ",\"orderDate\":\"" + DATE + "\"}")))
+                .andExpect(status().isBadRequest());
+
+        // 거절된 변경은 롤백되어 주문과 스냅샷 모두 그대로
+        assertThat(orderService.findOrderResponsesByDate(department.getId(), DATE))
+                .extracting(OrderResponseDto::getMenuName)
+                .containsOnly("카페 라떼")
+                .hasSize(2);
+        OrderDayFreezer.FrozenDay day = orderDayFreezer.find(department.getId(), DATE).orElseThrow();
+        assertThat(objectMapper.readTree(day.ordersJson())).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("마감된 날짜의 날짜별 메뉴 집계는 마감 이후 바뀐 주문을 반영하지 않는다")
+    void menuSummaryServesFrozenSnapshot() throws Exception {
+        Long first = createOrder(saveTeam("팀원A"), DATE);
+        createOrder(saveTeam("팀원B"), DATE);
+        orderDayFreezer.freeze(department.getId(), DATE);
+
+        // 마감 이후 서비스를 거치지 않고 바뀐 주문
+        Menu mocha = saveMenu(department, "카페 모카");
+        jdbcTemplate.update("UPDATE orders SET menu_id = ? WHERE id = ?", mocha.getId(), first);
+
+        mockMvc.perform(get("/api/orders/summary")
+                        .param("date", DATE.toString())
+                        .param("departmentId", department.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['카페 라떼'].count").value(2))
+                .andExpect(jsonPath("$['카페 모카']").doesNotExist());
+        // 부서 없는 전체 집계는 마감과 무관하게 DB 기준
+        mockMvc.perform(get("/api/orders/summary").param("date", DATE.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['카페 모카'].count").value(1));
+    }
+
+    @Test
+    @DisplayName("마감 시각이 지나면 오늘 주문을 마감하고, 24시간 주문으로 바꾸면 마감을 푼다")
+    void freezesTodayAfterDeadlineAndThawsOnSettingsChange() throws Exception {
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+        updateSettings(false, LocalTime.MIDNIGHT);
+        await(() -> orderDayFreezer.isFrozen(department.getId(), today));
+        assertThat(settingsService.isOrderAvailableByDepartment(department.getId())).isFalse();
+        mockMvc.perform(delete("/api/orders")
+                        .param("ids", "1")
+                        .param("departmentId", department.getId().toString()))
+                .andExpect(status().isForbidden());
+
+        updateSettings(true, LocalTime.MIDNIGHT);
+        assertThat(orderDayFreezer.isFrozen(department.getId(), today)).isFalse();
+        assertThat(settingsService.isOrderAvailableByDepartment(department.getId())).isTrue();
+        await(() -> snapshotRepository.findByDepartmentIdAndOrderDate(department.getId(), today).isEmpty());
+    }
+
+    private void updateSettings(boolean is24Hours, LocalTime deadline) {
+        Settings settings = new Settings();
+        settings.setIs24Hours(is24Hours);
+        settings.setOrderDeadlineTime(deadline);
+        settingsService.updateSettingsByDepartment(department.getId(), settings);
+    }
+
+    private Team saveTeam(String name) {
+        return saveTeam(department, name);
+    }
+
+    private Long createOrder(Team team, LocalDate orderDate) throws Exception {
+        OrderCreateDto dto = orderDto(department, team, latte);
+        dto.setOrderDate(orderDate);
+        return orderService.createOrderFromDto(dto);
+    }
+
+    // 예약 스레드에서 처리되는 작업 대기 (최대 5초)
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("condition not met within 5s");
+            }
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.dto.OrderCreateDto;
+import com.example.coffeeorder.dto.OrderResponseDto;
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.entity.Menu;
+import com.example.coffeeorder.entity.Team;
+import com.example.coffeeorder.support.IntegrationTestSupport;
+import com.example.coffeeorder.support.StatementCounter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@TestPropertySource(properties = {
+        "app.order.group-commit.enabled=true",
+        "app.order.group-commit.linger-millis=50"
+})
+class OrderGroupCommitterTest extends IntegrationTestSupport {
+
+    private static final int TEAMS = 20;
+
+    @Autowired
+    private OrderGroupCommitter orderGroupCommitter;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Department department;
+    private Menu menu;
+    private List<Team> teams;
+
+    @BeforeEach
+    void setUp() {
+        department = saveDepartment("그룹커밋테스트부서");
+        menu = saveMenu(department, "아메리카노");
+        teams = saveTeams(department, TEAMS);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 주문은 묶어서 저장하고 요청마다 자기 주문 응답을 받는다")
+    void groupsConcurrentOrders() throws Exception {
+        StatementCounter.reset();
+        List<Callable<OrderResponseDto>> tasks = new ArrayList<>();
+        for (Team team : teams) {
+            tasks.add(() -> orderGroupCommitter.placeOrder(orderDto(team)));
+        }
+
+        List<OrderResponseDto> responses = new ArrayList<>();
+        for (Future<OrderResponseDto> future : runConcurrently(tasks)) {
+            responses.add(future.get());
+        }
+
+        assertThat(responses).extracting(OrderResponseDto::getTeamName)
+                .containsExactlyElementsOf(teams.stream().map(Team::getName).toList());
+        assertThat(responses).extracting(OrderResponseDto::getMenuName).containsOnly("아메리카노");
+        assertThat(responses).extracting(OrderResponseDto::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(orderService.findOrderResponsesByDate(department.getId(), responses.get(0).getOrderDate()))
+                .hasSize(TEAMS);
+
+        long inserts = StatementCounter.statements().stream()
+                .filter(sql -> sql.toLowerCase().startsWith("insert into orders"))
+                .count();
+        assertThat(inserts).isLessThan(TEAMS);
+    }
+
+    @Test
+    @DisplayName("같은 묶음 안의 중복 주문과 검증 실패는 해당 요청만 기존과 같은 메시지로 실패한다")
+    void failsOnlyInvalidRequests() throws Exception {
+        Team team = teams.get(0);
+        OrderCreateDto unknownMenu = orderDto(teams.get(1));
+        unknownMenu.setMenuId(-1L);
+
+        List<Future<OrderResponseDto>> futures = runConcurrently(List.of(
+                () -> orderGroupCommitter.placeOrder(orderDto(team)),
+                () -> orderGroupCommitter.placeOrder(orderDto(team)),
+                () -> orderGroupCommitter.placeOrder(unknownMenu),
+                () -> orderGroupCommitter.placeOrder(orderDto(teams.get(2)))));
+
+        List<String> errors = new ArrayList<>();
+        int succeeded = 0;
+        for (Future<OrderResponseDto> future : futures) {
+            try {
+                future.get();
+                succeeded++;
+            } catch (Exception e) {
+                errors.add(e.getCause().getMessage());
+            }
+        }
+        assertThat(succeeded).isEqualTo(2);
+        assertThat(errors).containsExactlyInAnyOrder("이미 오늘 주문하셨습니다.", "메뉴를 찾을 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("이미 저장된 주문과 겹치면 중복 주문으로 거절된다")
+    void rejectsOrderPlacedOutsideGroup() throws Exception {
+        orderService.createOrderFromDto(orderDto(teams.get(0)));
+
+        assertThatThrownBy(() -> orderGroupCommitter.placeOrder(orderDto(teams.get(0))))
+                .hasMessage("이미 오늘 주문하셨습니다.");
+    }
+
+    @Test
+    @DisplayName("그룹 커밋 응답은 바로 저장한 주문 응답과 같은 JSON이다")
+    void groupedResponseMatchesDirectResponse() throws Exception {
+        OrderCreateDto direct = orderDto(teams.get(0));
+        direct.setPersonalOption("샷 추가 <연하게>");
+        direct.setOrderDate(LocalDate.of(2005, 1, 3));
+        OrderCreateDto grouped = orderDto(teams.get(0));
+        grouped.setPersonalOption("샷 추가 <연하게>");
+        grouped.setOrderDate(LocalDate.of(2005, 1, 4));
+
+        JsonNode expected = withoutOrderIdentity(orderService.placeOrder(direct));
+        JsonNode actual = withoutOrderIdentity(orderGroupCommitter.placeOrder(grouped));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("카탈로그에 있는 팀원/메뉴로만 이루어진 묶음은 INSERT 한 문장으로 저장한다")
+    void groupsWithoutLookupsOnceCatalogIsWarm() throws Exception {
+        // 팀원/메뉴를 카탈로그에 적재
+        orderService.createOrdersGrouped(teams.stream()
+                .map(team -> {
+                    OrderCreateDto dto = orderDto(team);
+                    dto.setOrderDate(LocalDate.of(2005, 1, 3));
+                    return dto;
+                })
+                .toList());
+
+        StatementCounter.reset();
+        orderService.createOrdersGrouped(teams.stream().map(this::orderDto).toList());
+
+        assertThat(StatementCounter.statements())
+                .singleElement()
+                .asString()
+                .startsWithIgnoringCase("insert into orders");
+    }
+
+    private JsonNode withoutOrderIdentity(OrderResponseDto order) {
+        ObjectNode json = objectMapper.valueToTree(order);
+        json.remove(List.of("id", "orderDate", "createdTime"));
+        return json;
+    }
+
+    private <T> List<Future<T>> runConcurrently(List<Callable<T>> tasks) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            for (Future<T> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception ignored) {
+                    // 결과 확인은 호출한 쪽에서
+                }
+            }
+            return futures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private OrderCreateDto orderDto(Team team) {
+        return orderDto(department, team, menu);
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.dto.OrderHistoryPageDto;
+import com.example.coffeeorder.dto.OrderResponseDto;
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.entity.Menu;
+import com.example.coffeeorder.entity.Order;
+import com.example.coffeeorder.entity.Team;
+import com.example.coffeeorder.entity.TwosomeMenu;
+import com.example.coffeeorder.repository.OrderRepository;
+import com.example.coffeeorder.support.IntegrationTestSupport;
+import com.example.coffeeorder.support.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderServiceReadTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private final LocalDate orderDate = LocalDate.of(2024, 3, 4);
+
+    private Department department;
+    private Menu menu;
+    private TwosomeMenu twosomeMenu;
+    private int teamSeq;
+
+    @BeforeEach
+    void setUp() {
+        department = saveDepartment("조회테스트부서");
+        menu = saveMenu(department, "아메리카노");
+        twosomeMenu = saveTwosomeMenu("카페 라떼", "커피");
+    }
+
+    @Test
+    @DisplayName("주문 수와 관계없이 한 번의 쿼리로 조회한다")
+    void statementCountStaysConstant() {
+        createOrders(3);
+        StatementCounter.reset();
+        List<OrderResponseDto> small = orderService.findOrderResponsesByDate(department.getId(), orderDate);
+        int smallCount = StatementCounter.count();
+
+        createOrders(30);
+        StatementCounter.reset();
+        List<OrderResponseDto> large = orderService.findOrderResponsesByDate(department.getId(), orderDate);
+        int largeCount = StatementCounter.count();
+
+        assertThat(small).hasSize(3);
+        assertThat(large).hasSize(33);
+        assertThat(smallCount).isEqualTo(1);
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    @Test
+    @DisplayName("메뉴 타입에 따라 응답 필드를 채운다")
+    void fillsFieldsByMenuType() {
+        createOrders(2);
+
+        List<OrderResponseDto> orders = orderService.findOrderResponsesByDate(department.getId(), orderDate);
+
+        OrderResponseDto custom = orders.get(0);
+        assertThat(custom.getMenuType()).isEqualTo("CUSTOM");
+        assertThat(custom.getMenuName()).isEqualTo("아메리카노");
+        assertThat(custom.getTwosomeMenuId()).isNull();
+
+        OrderResponseDto twosome = orders.get(1);
+        assertThat(twosome.getMenuType()).isEqualTo("TWOSOME");
+        assertThat(twosome.getTwosomeMenuName()).isEqualTo("카페 라떼");
+        assertThat(twosome.getTwosomeMenuCode()).isEqualTo(twosomeMenu.getMenuCd());
+        assertThat(twosome.getMenuId()).isNull();
+    }
+
+    @Test
+    @DisplayName("이력은 최신 날짜, 최신 ID 순으로 커서를 따라 빠짐없이 페이징된다")
+    void pagesHistoryWithCursor() throws Exception {
+        createOrders(4);
+        createOrders(3, orderDate.minusDays(1));
+        createOrders(3, orderDate.minusDays(7));
+        createOrders(2, orderDate.minusDays(30));
+
+        List<OrderResponseDto> all = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            OrderHistoryPageDto page = orderService.findOrderHistory(
+                    department.getId(), orderDate.minusDays(7), orderDate, cursor, 4);
+            all.addAll(page.getOrders());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(all).hasSize(10);
+        assertThat(all).extracting(OrderResponseDto::getId).doesNotHaveDuplicates();
+        assertThat(all).isSortedAccordingTo(Comparator.comparing(OrderResponseDto::getOrderDate)
+                .thenComparing(OrderResponseDto::getId)
+                .reversed());
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 거절한다")
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> orderService.findOrderHistory(department.getId(), null, null, "2024-03-04", 10))
+                .hasMessage("잘못된 페이지 커서입니다.");
+    }
+
+    private void createOrders(int count) {
+        createOrders(count, orderDate);
+    }
+
+    private void createOrders(int count, LocalDate orderDate) {
+        for (int i = 0; i < count; i++) {
+            Team team = saveTeam(department, "팀원" + (++teamSeq));
+
+            Order order = new Order();
+            order.setDepartment(department);
+            order.setTeam(team);
+            order.setOrderDate(orderDate);
+            if (teamSeq % 2 == 0) {
+                order.setMenuType("TWOSOME");
+                order.setTwosomeMenu(twosomeMenu);
+            } else {
+                order.setMenu(menu);
+            }
+            orderRepository.save(order);
+        }
+    }
+}
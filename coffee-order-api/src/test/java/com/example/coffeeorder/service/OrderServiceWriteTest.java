@@ -0,0 +1,96 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.dto.OrderCreateDto;
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.entity.Menu;
+import com.example.coffeeorder.entity.Team;
+import com.example.coffeeorder.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderServiceWriteTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderService orderService;
+
+    private Department department;
+    private Team team;
+    private Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        department = saveDepartment("주문쓰기테스트부서");
+        menu = saveMenu(department, "아메리카노");
+        team = saveTeam(department, "팀원A");
+    }
+
+    @Test
+    @DisplayName("같은 날 두 번째 주문은 유니크 제약으로 거절된다")
+    void rejectsSecondOrderOfTheDay() throws Exception {
+        orderService.createOrderFromDto(orderDto());
+
+        assertThatThrownBy(() -> orderService.createOrderFromDto(orderDto()))
+                .hasMessage("이미 오늘 주문하셨습니다.");
+    }
+
+    @Test
+    @DisplayName("삭제한 주문은 제약에서 빠져 다시 주문할 수 있다")
+    void allowsReorderAfterSoftDelete() throws Exception {
+        Long first = orderService.createOrderFromDto(orderDto());
+        orderService.softDelete(first);
+
+        Long second = orderService.createOrderFromDto(orderDto());
+
+        assertThat(second).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 팀원 주문은 한 건만 성공한다")
+    void acceptsOnlyOneOfConcurrentOrders() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        orderService.createOrderFromDto(orderDto());
+                        return true;
+                    } catch (Exception e) {
+                        assertThat(e).hasMessage("이미 오늘 주문하셨습니다.");
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    succeeded++;
+                }
+            }
+            assertThat(succeeded).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private OrderCreateDto orderDto() {
+        return orderDto(department, team, menu);
+    }
+}
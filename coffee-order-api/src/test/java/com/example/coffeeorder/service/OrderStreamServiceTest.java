@@ -0,0 +1,126 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.event.OrderChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderStreamServiceTest {
+
+    private static final Long DEPARTMENT = 1L;
+
+    private static final int SENDER_THREADS = 16;
+
+    // 삭제 이벤트는 현황판/설정을 읽지 않으므로 의존성 없이 생성
+    private final OrderStreamService orderStreamService = new OrderStreamService(null, null, SENDER_THREADS);
+
+    // 멈춘 클라이언트의 전송을 풀어 주는 래치 (테스트 종료 시)
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        orderStreamService.shutdown();
+    }
+
+    @Test
+    @DisplayName("전송이 멈춘 구독자가 여럿이어도 다른 구독자는 이벤트를 받고, 멈춘 구독자는 제한 시간 후 끊긴다")
+    void stalledSubscribersDoNotBlockOthers() throws Exception {
+        ReflectionTestUtils.setField(orderStreamService, "sendTimeoutMs", 100L);
+        List<StalledEmitter> stalled = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            StalledEmitter emitter = new StalledEmitter(release);
+            orderStreamService.register(DEPARTMENT, emitter);
+            stalled.add(emitter);
+        }
+        RecordingEmitter healthy = new RecordingEmitter(2);
+        orderStreamService.register(DEPARTMENT, healthy);
+
+        orderStreamService.onOrderChanged(
+                new OrderChangedEvent(OrderChangedEvent.Type.DELETED, 10L, DEPARTMENT, 1L, LocalDate.now()));
+
+        // 연결 확인 주석 + 삭제 이벤트
+        assertThat(healthy.received.await(2, TimeUnit.SECONDS)).isTrue();
+        for (StalledEmitter emitter : stalled) {
+            assertThat(emitter.entered.await(2, TimeUnit.SECONDS)).isTrue();
+        }
+
+        Thread.sleep(150);
+        orderStreamService.closeStalledSubscribers();
+
+        // 멈춘 구독자는 빠지고, 이후 이벤트는 정상 구독자에게만
+        orderStreamService.onOrderChanged(
+                new OrderChangedEvent(OrderChangedEvent.Type.DELETED, 11L, DEPARTMENT, 1L, LocalDate.now()));
+        Thread.sleep(100);
+        assertThat(healthy.count.get()).isEqualTo(3);
+        assertThat(stalled).allSatisfy(emitter -> assertThat(emitter.sends.get()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("전송 스레드는 설정한 수를 넘지 않는다")
+    void senderThreadsAreBounded() throws Exception {
+        List<StalledEmitter> stalled = new ArrayList<>();
+        for (int i = 0; i < SENDER_THREADS * 2; i++) {
+            StalledEmitter emitter = new StalledEmitter(release);
+            orderStreamService.register(DEPARTMENT, emitter);
+            stalled.add(emitter);
+        }
+
+        Thread.sleep(200);
+        assertThat(stalled).filteredOn(emitter -> emitter.sends.get() > 0).hasSize(SENDER_THREADS);
+
+        // 멈춘 전송이 풀리면 대기하던 구독자도 전송됨
+        release.countDown();
+        for (StalledEmitter emitter : stalled) {
+            assertThat(emitter.entered.await(2, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    // 첫 전송에서 멈추는 클라이언트 (반쯤 끊긴 연결)
+    private static final class StalledEmitter extends SseEmitter {
+        private final CountDownLatch release;
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final AtomicInteger sends = new AtomicInteger();
+
+        private StalledEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sends.incrementAndGet();
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch received;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private RecordingEmitter(int expected) {
+            this.received = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            count.incrementAndGet();
+            received.countDown();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.dto.DepartmentDto;
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.entity.Settings;
+import com.example.coffeeorder.repository.SettingsRepository;
+import com.example.coffeeorder.support.IntegrationTestSupport;
+import com.example.coffeeorder.support.StatementCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SettingsServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private SettingsService settingsService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private SettingsRepository settingsRepository;
+
+    @Test
+    @DisplayName("부서를 만들면 기본 설정이 함께 저장된다")
+    void provisionsDefaultsOnDepartmentCreation() {
+        DepartmentDto department = departmentService.create("설정생성테스트부서");
+
+        Settings settings = settingsRepository.findFirstByDepartmentId(department.getId()).orElseThrow();
+        assertThat(settings.getIs24Hours()).isTrue();
+        assertThat(settings.getOrderDeadlineTime()).isEqualTo(LocalTime.of(9, 0));
+        assertThat(settings.getMenuMode()).isEqualTo("TWOSOME");
+    }
+
+    @Test
+    @DisplayName("설정이 없는 부서를 조회해도 설정을 저장하지 않는다")
+    void doesNotInsertOnRead() {
+        Department department = saveDepartment("설정조회테스트부서");
+
+        assertThat(settingsService.getSettingsByDepartment(department.getId()).getIs24Hours()).isTrue();
+        assertThat(settingsService.isOrderAvailableByDepartment(department.getId())).isTrue();
+
+        assertThat(settingsRepository.existsByDepartmentId(department.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("주문 가능 여부는 스냅샷으로 판단하고, 설정을 바꾸면 커밋 이후 다시 적재한다")
+    void answersFromSnapshotUntilSettingsChange() {
+        DepartmentDto department = departmentService.create("마감스냅샷테스트부서");
+        settingsService.isOrderAvailableByDepartment(department.getId());
+
+        StatementCounter.reset();
+        assertThat(settingsService.isOrderAvailableByDepartment(department.getId())).isTrue();
+        assertThat(StatementCounter.count()).isZero();
+
+        // 자정 마감이면 오늘은 이미 마감
+        settingsService.updateSettingsByDepartment(department.getId(), settings(false, LocalTime.MIDNIGHT));
+        assertThat(settingsService.isOrderAvailableByDepartment(department.getId())).isFalse();
+
+        settingsService.updateSettingsByDepartment(department.getId(), settings(false, LocalTime.of(23, 59, 59)));
+        assertThat(settingsService.isOrderAvailableByDepartment(department.getId())).isTrue();
+
+        StatementCounter.reset();
+        assertThat(settingsService.isOrderAvailableByDepartment(department.getId())).isTrue();
+        assertThat(StatementCounter.count()).isZero();
+    }
+
+    private Settings settings(boolean is24Hours, LocalTime deadline) {
+        Settings settings = new Settings();
+        settings.setIs24Hours(is24Hours);
+        settings.setOrderDeadlineTime(deadline);
+        return settings;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.dto.OrderCreateDto;
+import com.example.coffeeorder.dto.OrderResponseDto;
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.entity.Menu;
+import com.example.coffeeorder.entity.Team;
+import com.example.coffeeorder.support.IntegrationTestSupport;
+import com.example.coffeeorder.support.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class TeamOrderHistoryTest extends IntegrationTestSupport {
+
+    private static final LocalDate DATE = LocalDate.of(2004, 3, 2);
+
+    @Autowired
+    private OrderService orderService;
+
+    private Department department;
+    private Team team;
+    private Menu latte;
+    private Menu americano;
+
+    @BeforeEach
+    void setUp() {
+        department = saveDepartment("주문이력테스트부서");
+        team = saveTeam(department, "팀원A");
+        latte = saveMenu(department, "바닐라 라떼");
+        americano = saveMenu(department, "아메리카노");
+    }
+
+    @Test
+    @DisplayName("최근 주문과 즐겨 찾는 주문은 적재 이후 DB 조회 없이 응답한다")
+    void servesLatestAndFavoritesFromMemory() throws Exception {
+        createOrder(latte, "ICE", DATE);
+        createOrder(latte, "ICE", DATE.plusDays(1));
+        createOrder(americano, null, DATE.plusDays(2));
+        createOrder(latte, "HOT", DATE.plusDays(3));
+        Long latest = createOrder(latte, "ICE", DATE.plusDays(4));
+        orderService.findLatestOrderResponseByTeam(team.getId());
+
+        StatementCounter.reset();
+        OrderResponseDto order = orderService.findLatestOrderResponseByTeam(team.getId()).orElseThrow();
+        List<OrderResponseDto> favorites = orderService.findFavoriteOrdersByTeam(team.getId(), 5);
+
+        assertThat(StatementCounter.count()).isZero();
+        assertThat(order.getId()).isEqualTo(latest);
+        // 라떼 ICE 3회, 이후 동률은 최근 주문 순 (라떼 HOT -> 아메리카노)
+        assertThat(favorites)
+                .extracting(OrderResponseDto::getMenuName, OrderResponseDto::getPersonalOption)
+                .containsExactly(
+                        tuple("바닐라 라떼", "ICE"),
+                        tuple("바닐라 라떼", "HOT"),
+                        tuple("아메리카노", null));
+        assertThat(favorites.get(0).getId()).isEqualTo(latest);
+    }
+
+    @Test
+    @DisplayName("주문 생성은 이력에 바로 반영되고, 삭제하면 이전 주문으로 돌아간다")
+    void appliesWritesAfterCommit() throws Exception {
+        Long first = createOrder(americano, null, DATE.plusDays(10));
+        assertThat(orderService.findLatestOrderResponseByTeam(team.getId()))
+                .map(OrderResponseDto::getId).contains(first);
+
+        Long second = createOrder(latte, "ICE", DATE.plusDays(11));
+        StatementCounter.reset();
+        assertThat(orderService.findLatestOrderResponseByTeam(team.getId()))
+                .map(OrderResponseDto::getId).contains(second);
+        assertThat(StatementCounter.count()).isZero();
+
+        orderService.softDelete(second);
+        assertThat(orderService.findLatestOrderResponseByTeam(team.getId()))
+                .map(OrderResponseDto::getId).contains(first);
+
+        orderService.softDelete(first);
+        assertThat(orderService.findLatestOrderResponseByTeam(team.getId())).isEmpty();
+    }
+
+    private Long createOrder(Menu menu, String personalOption, LocalDate orderDate) throws Exception {
+        OrderCreateDto dto = orderDto(department, team, menu);
+        dto.setPersonalOption(personalOption);
+        dto.setOrderDate(orderDate);
+        return orderService.createOrderFromDto(dto);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.dto.OrderPatchDto;
+import com.example.coffeeorder.dto.OrderResponseDto;
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.entity.Menu;
+import com.example.coffeeorder.event.OrderChangedEvent;
+import com.example.coffeeorder.support.IntegrationTestSupport;
+import com.example.coffeeorder.support.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodayOrderBoardTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private TodayOrderBoard todayOrderBoard;
+
+    private Department department;
+    private Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        department = saveDepartment("현황판테스트부서");
+        menu = saveMenu(department, "바닐라 라떼");
+    }
+
+    @Test
+    @DisplayName("적재된 현황판은 DB 조회 없이 응답한다")
+    void servesFromMemoryAfterLoad() throws Exception {
+        createOrder("팀원A");
+        orderService.findTodayOrderResponses(department.getId());
+
+        StatementCounter.reset();
+        List<OrderResponseDto> orders = orderService.findTodayOrderResponses(department.getId());
+
+        assertThat(orders).hasSize(1);
+        assertThat(StatementCounter.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("주문 생성/삭제가 커밋 후 현황판에 반영된다")
+    void appliesWritesAfterCommit() throws Exception {
+        assertThat(orderService.findTodayOrderResponses(department.getId())).isEmpty();
+
+        Long first = createOrder("팀원B");
+        Long second = createOrder("팀원C");
+        assertThat(orderService.findTodayOrderResponses(department.getId()))
+                .extracting(OrderResponseDto::getId)
+                .containsExactly(first, second);
+
+        orderService.softDelete(first);
+        assertThat(orderService.findTodayOrderResponses(department.getId()))
+                .extracting(OrderResponseDto::getId)
+                .containsExactly(second);
+    }
+
+    @Test
+    @DisplayName("같은 주문의 수정 이벤트가 커밋과 다른 순서로 도착해도 나중에 커밋된 행을 유지하고 응답 객체와 공유하지 않는다")
+    void keepsNewestRowWhenUpdatesArriveOutOfOrder() throws Exception {
+        Long id = createOrder("팀원D");
+        orderService.findTodayOrderResponses(department.getId());
+
+        OrderResponseDto first = orderService.patchOrder(id, patch("ICE")).orElseThrow();
+        OrderResponseDto second = orderService.patchOrder(id, patch("HOT")).orElseThrow();
+
+        // 먼저 커밋된 수정의 리스너가 늦게 실행된 경우
+        todayOrderBoard.onOrderChanged(new OrderChangedEvent(OrderChangedEvent.Type.UPDATED, id,
+                department.getId(), first.getTeamId(), first.getOrderDate(), first));
+        second.setPersonalOption("응답 변경");
+
+        assertThat(orderService.findTodayOrderResponses(department.getId()))
+                .singleElement()
+                .satisfies(row -> assertThat(row).isNotSameAs(second))
+                .extracting(OrderResponseDto::getPersonalOption)
+                .isEqualTo("HOT");
+    }
+
+    private static OrderPatchDto patch(String personalOption) {
+        OrderPatchDto dto = new OrderPatchDto();
+        dto.setPersonalOption(personalOption);
+        return dto;
+    }
+
+    private Long createOrder(String teamName) throws Exception {
+        return orderService.createOrderFromDto(orderDto(department, saveTeam(department, teamName), menu));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.entity.TwosomeMenu;
+import com.example.coffeeorder.repository.TwosomeMenuRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TwosomeMenuCatalogTest {
+
+    private final TwosomeMenuRepository repository = mock(TwosomeMenuRepository.class);
+
+    // 다시 만들기 예약은 실행하지 않고 다음 조회에서 만들어지는지 확인
+    private final TwosomeMenuCatalog catalog =
+            new TwosomeMenuCatalog(repository, new ObjectMapper(), mock(TaskScheduler.class));
+
+    @Test
+    @DisplayName("생성 중에 무효화되면 이전 목록으로 만든 스냅샷을 보관하지 않는다")
+    void discardsSnapshotBuiltBeforeInvalidation() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.findByDelYnOrderByMidNmAscSortOrdAsc("N"))
+                .thenAnswer(invocation -> {
+                    loading.countDown();
+                    release.await(2, TimeUnit.SECONDS);
+                    return List.of(menu("이전 메뉴"));
+                })
+                .thenReturn(List.of(menu("새 메뉴")));
+
+        CompletableFuture<TwosomeMenuCatalog.Snapshot> first = CompletableFuture.supplyAsync(catalog::get);
+        assertThat(loading.await(2, TimeUnit.SECONDS)).isTrue();
+        // 생성 중인 스레드가 DB 조회를 마칠 때까지 무효화가 기다리지 않음
+        catalog.invalidate();
+        release.countDown();
+
+        assertThat(json(first.get(2, TimeUnit.SECONDS))).contains("이전 메뉴");
+        assertThat(json(catalog.get())).contains("새 메뉴");
+        verify(repository, times(2)).findByDelYnOrderByMidNmAscSortOrdAsc("N");
+    }
+
+    private static TwosomeMenu menu(String name) {
+        TwosomeMenu menu = new TwosomeMenu();
+        menu.setMenuNm(name);
+        menu.setMidNm("커피");
+        return menu;
+    }
+
+    private static String json(TwosomeMenuCatalog.Snapshot snapshot) {
+        return new String(snapshot.json(), StandardCharsets.UTF_8);
+    }
+}
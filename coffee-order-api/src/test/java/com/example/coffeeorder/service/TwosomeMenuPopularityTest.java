@@ -0,0 +1,85 @@
+package com.example.coffeeorder.service;
+
+import com.example.coffeeorder.dto.OrderCreateDto;
+import com.example.coffeeorder.dto.OrderPatchDto;
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.entity.Team;
+import com.example.coffeeorder.entity.TwosomeMenu;
+import com.example.coffeeorder.support.IntegrationTestSupport;
+import com.example.coffeeorder.support.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwosomeMenuPopularityTest extends IntegrationTestSupport {
+
+    private static final LocalDate TODAY = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+    @Autowired
+    private TwosomeMenuPopularity twosomeMenuPopularity;
+
+    @Autowired
+    private OrderService orderService;
+
+    private Department department;
+    private Team team;
+    private TwosomeMenu americano;
+    private TwosomeMenu latte;
+
+    @BeforeEach
+    void setUp() {
+        department = saveDepartment("투썸인기테스트부서");
+        team = saveTeam(department, "팀원A");
+        americano = saveTwosomeMenu("아메리카노", "커피");
+        latte = saveTwosomeMenu("카페 라떼", "커피");
+    }
+
+    @Test
+    @DisplayName("자주 주문하는 투썸 메뉴는 주문 수 많은 순으로 DB 조회 없이 응답하고, 삭제하면 순위가 바뀐다")
+    void ranksByOrderCountWithoutQueries() throws Exception {
+        createOrder(americano, TODAY);
+        Long first = createOrder(latte, TODAY.minusDays(1));
+        Long second = createOrder(latte, TODAY.minusDays(2));
+        twosomeMenuPopularity.findPopular(department.getId(), 10);
+
+        StatementCounter.reset();
+        List<TwosomeMenu> popular = twosomeMenuPopularity.findPopular(department.getId(), 10);
+
+        assertThat(StatementCounter.count()).isZero();
+        assertThat(popular).extracting(TwosomeMenu::getId).containsExactly(latte.getId(), americano.getId());
+        assertThat(twosomeMenuPopularity.findPopular(department.getId(), 1))
+                .extracting(TwosomeMenu::getId).containsExactly(latte.getId());
+
+        orderService.softDeleteAll(List.of(first, second));
+        assertThat(twosomeMenuPopularity.findPopular(department.getId(), 10))
+                .extracting(TwosomeMenu::getId).containsExactly(americano.getId());
+    }
+
+    @Test
+    @DisplayName("주문 메뉴를 바꾸면 이전 메뉴 건수를 빼고 새 메뉴에 더하며, 이후 삭제는 새 메뉴에서 뺀다")
+    void movesCountWhenPatchChangesMenu() throws Exception {
+        // 이 테스트에서 만든 메뉴까지 메뉴 목록에 적재
+        twosomeMenuPopularity.invalidateMenus();
+        Long orderId = createOrder(americano, TODAY);
+
+        orderService.patchOrder(orderId, new OrderPatchDto("TWOSOME", null, latte.getId(), null));
+        assertThat(twosomeMenuPopularity.findPopular(department.getId(), 10))
+                .extracting(TwosomeMenu::getId).containsExactly(latte.getId());
+
+        orderService.softDelete(orderId);
+        assertThat(twosomeMenuPopularity.findPopular(department.getId(), 10)).isEmpty();
+    }
+
+    private Long createOrder(TwosomeMenu menu, LocalDate orderDate) throws Exception {
+        OrderCreateDto dto = orderDto(department, team, menu);
+        dto.setOrderDate(orderDate);
+        return orderService.createOrderFromDto(dto);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.coffeeorder.support;
+
+import com.example.coffeeorder.dto.OrderCreateDto;
+import com.example.coffeeorder.entity.Department;
+import com.example.coffeeorder.entity.Menu;
+import com.example.coffeeorder.entity.Team;
+import com.example.coffeeorder.entity.TwosomeMenu;
+import com.example.coffeeorder.repository.DepartmentRepository;
+import com.example.coffeeorder.repository.MenuRepository;
+import com.example.coffeeorder.repository.TeamRepository;
+import com.example.coffeeorder.repository.TwosomeMenuRepository;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * 통합 테스트 공통 설정
+ * 인메모리 H2를 사용하고, Redis 연결이 필요한 RedissonClient는 목으로 대체한다.
+ * 테스트는 같은 DB를 공유하므로 각자 새 부서를 만들고 그 아래에 팀원/메뉴/주문을 만든다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:coffee-order-test;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "app.data.path=target/test-data"
+})
+@Import(StatementCounter.class)
+public abstract class IntegrationTestSupport {
+
+    // 투썸 메뉴 코드 순번 (menu_cd 유니크 제약, 테스트 실행마다 다른 값에서 시작)
+    private static final AtomicLong MENU_CODE_SEQ = new AtomicLong(System.nanoTime() % 1_000_000_000L);
+
+    @MockitoBean
+    protected RedissonClient redissonClient;
+
+    @Autowired
+    protected DepartmentRepository departmentRepository;
+
+    @Autowired
+    protected TeamRepository teamRepository;
+
+    @Autowired
+    protected MenuRepository menuRepository;
+
+    @Autowired
+    protected TwosomeMenuRepository twosomeMenuRepository;
+
+    protected Department saveDepartment(String name) {
+        Department department = new Department();
+        department.setName(name);
+        return departmentRepository.save(department);
+    }
+
+    protected Team saveTeam(Department department, String name) {
+        Team team = new Team();
+        team.setDepartment(department);
+        team.setName(name);
+        return teamRepository.save(team);
+    }
+
+    // 팀원0 ~ 팀원{count-1}
+    protected List<Team> saveTeams(Department department, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> saveTeam(department, "팀원" + i))
+                .toList();
+    }
+
+    // 커스텀 메뉴 (카테고리는 기본값 커피)
+    protected Menu saveMenu(Department department, String name) {
+        Menu menu = new Menu();
+        menu.setDepartment(department);
+        menu.setName(name);
+        return menuRepository.save(menu);
+    }
+
+    protected TwosomeMenu saveTwosomeMenu(String name, String midNm) {
+        TwosomeMenu menu = new TwosomeMenu();
+        menu.setMenuCd("T" + MENU_CODE_SEQ.incrementAndGet());
+        menu.setMenuNm(name);
+        menu.setMidNm(midNm);
+        return twosomeMenuRepository.save(menu);
+    }
+
+    // 커스텀 메뉴 주문 요청 (주문 날짜/옵션은 호출한 쪽에서)
+    protected static OrderCreateDto orderDto(Department department, Team team, Menu menu) {
+        OrderCreateDto dto = new OrderCreateDto();
+        dto.setDepartmentId(department.getId());
+        dto.setTeamId(team.getId());
+        dto.setMenuId(menu.getId());
+        return dto;
+    }
+
+    // 투썸 메뉴 주문 요청
+    protected static OrderCreateDto orderDto(Department department, Team team, TwosomeMenu menu) {
+        OrderCreateDto dto = new OrderCreateDto();
+        dto.setDepartmentId(department.getId());
+        dto.setTeamId(team.getId());
+        dto.setMenuType("TWOSOME");
+        dto.setTwosomeMenuId(menu.getId());
+        return dto;
+    }
+
+    // POST /api/orders 요청 본문 (커스텀 메뉴)
+    protected static String orderJson(Department department, Team team, Menu menu) {
+        return String.format("{\"departmentId\":%d,\"teamId\":%d,\"menuId\":%d}",
+                department.getId(), team.getId(), menu.getId());
+    }
+}
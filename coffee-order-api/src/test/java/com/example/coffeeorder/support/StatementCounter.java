@@ -0,0 +1,88 @@
+package com.example.coffeeorder.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 SQL 실행 횟수 카운터
+ * DataSource를 프록시로 감싸 prepareStatement/createStatement 호출 수를 세고, 준비된 SQL을 기록한다.
+ */
+@TestConfiguration
+public class StatementCounter {
+
+    private static final AtomicInteger COUNT = new AtomicInteger();
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    public static void reset() {
+        COUNT.set(0);
+        STATEMENTS.clear();
+    }
+
+    public static int count() {
+        return COUNT.get();
+    }
+
+    // reset 이후 prepareStatement/prepareCall로 준비된 SQL 목록
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return wrap(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static DataSource wrap(DataSource target) {
+        return (DataSource) Proxy.newProxyInstance(
+                DataSource.class.getClassLoader(),
+                new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    if (result instanceof Connection connection) {
+                        return wrap(connection);
+                    }
+                    return result;
+                });
+    }
+
+    private static Connection wrap(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("prepareStatement") || name.equals("prepareCall") || name.equals("createStatement")) {
+                        COUNT.incrementAndGet();
+                        if (args != null && args.length > 0 && args[0] instanceof String sql) {
+                            STATEMENTS.add(sql);
+                        }
+                    }
+                    return invoke(target, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -73,6 +73,11 @@ self.addEventListener('fetch', (event) => {
     return;
   }
 
+  // 실시간 스트림(SSE)은 캐시하지 않고 그대로 통과
+  if (request.headers.get('Accept') === 'text/event-stream') {
+    return;
+  }
+
   // API 요청 처리
   if (url.pathname.startsWith('/api/')) {
     event.respondWith(networkFirstStrategy(request));
@@ -12,6 +12,7 @@ const HistoryPage = () => {
     new Date().toLocaleDateString('sv-SE')
   );
   const [orders, setOrders] = useState([]);
+  const [menuSummary, setMenuSummary] = useState(null);
   const [teams, setTeams] = useState([]);
   const [loading, setLoading] = useState(false);
   const [orderAvailable, setOrderAvailable] = useState(true);
@@ -42,12 +43,14 @@ const HistoryPage = () => {
   const loadData = async () => {
     try {
       setLoading(true);
-      const [ordersData, teamsData] = await Promise.all([
+      const [ordersData, teamsData, summaryData] = await Promise.all([
         orderAPI.getByDate(selectedDate, selectedDepartmentId),
-        teamAPI.getAll(selectedDepartmentId)
+        teamAPI.getAll(selectedDepartmentId),
+        orderAPI.getBaristaSummary(selectedDepartmentId, selectedDate)
       ]);
       setOrders(ordersData);
       setTeams(teamsData);
+      setMenuSummary(summaryData);
     } catch (err) {
       console.error('데이터 로드 실패:', err);
     } finally {
@@ -57,8 +60,12 @@ const HistoryPage = () => {
 
   const loadOrders = async () => {
     try {
-      const data = await orderAPI.getByDate(selectedDate, selectedDepartmentId);
+      const [data, summaryData] = await Promise.all([
+        orderAPI.getByDate(selectedDate, selectedDepartmentId),
+        orderAPI.getBaristaSummary(selectedDepartmentId, selectedDate)
+      ]);
       setOrders(data);
+      setMenuSummary(summaryData);
     } catch (err) {
       console.error('주문 내역 로드 실패:', err);
     }
@@ -97,50 +104,14 @@ const HistoryPage = () => {
     });
   };
 
-  // 메뉴별 집계 (투썸 메뉴 지원)
-  const getMenuSummary = () => {
-    const summary = {};
-    orders.forEach((order) => {
-      // 메뉴 타입에 따라 메뉴 이름과 카테고리 가져오기
-      const menuName = order.menuType === 'TWOSOME'
-        ? order.twosomeMenuName
-        : order.menuName;
-      // 투썸 메뉴만 카테고리가 있음
-      const category = order.menuType === 'TWOSOME'
-        ? order.twosomeMenuCategory
-        : '커스텀 메뉴';
-
-      if (!menuName) return;
-
-      if (!summary[menuName]) {
-        summary[menuName] = {
-          category: category || '기타',
-          count: 0,
-          options: {},
-        };
-      }
-
-      summary[menuName].count++;
-
-      // 옵션별 카운트 (옵션이 없는 경우도 포함)
-      const optionKey = order.personalOption || '(옵션 없음)';
-      summary[menuName].options[optionKey] =
-        (summary[menuName].options[optionKey] || 0) + 1;
-    });
-
-    return summary;
-  };
-
-  const menuSummary = getMenuSummary();
-
-  // 카테고리별로 그룹화
+  // 메뉴별 집계를 카테고리별로 그룹화 (서버 집계는 카테고리, 메뉴 이름 순, 마감된 날짜는 마감 스냅샷)
   const groupedSummary = {};
-  Object.entries(menuSummary).forEach(([menuName, data]) => {
-    const category = data.category;
+  (menuSummary?.menus || []).forEach((menu) => {
+    const category = menu.category || '기타';
     if (!groupedSummary[category]) {
       groupedSummary[category] = [];
     }
-    groupedSummary[category].push({ menuName, ...data });
+    groupedSummary[category].push(menu);
   });
 
   // 주문 안한 사람 목록
@@ -165,6 +136,13 @@ const HistoryPage = () => {
           <button className="today-button" onClick={handleTodayClick}>
             오늘
           </button>
+          <a
+            className="export-button"
+            href={orderAPI.getExportUrl(selectedDate, selectedDate, selectedDepartmentId)}
+            download
+          >
+            CSV 다운로드
+          </a>
         </div>
       </div>
 
@@ -178,19 +156,19 @@ const HistoryPage = () => {
           <div className="summary-section">
             <h3>메뉴별 집계</h3>
             <div className="total-summary">
-              총 <strong>{orders.length}</strong>잔
+              총 <strong>{menuSummary ? menuSummary.totalCount : orders.length}</strong>잔
             </div>
             {Object.entries(groupedSummary).map(([category, items]) => (
               <div key={category} className="category-group">
                 <div className="category-header">{category}</div>
                 {items.map((item) => (
-                  <div key={item.menuName} className="summary-item">
+                  <div key={`${item.menuType}-${item.menuId}`} className="summary-item">
                     <div className="summary-main">
                       {item.menuName} x {item.count}
                     </div>
-                    {Object.entries(item.options).map(([option, count]) => (
+                    {item.options.map(({ option, count }) => (
                       <div key={option} className="summary-option">
-                        └ {option} x {count}
+                        └ {option || '(옵션 없음)'} x {count}
                       </div>
                     ))}
                   </div>
@@ -56,22 +56,51 @@ const OrderPage = ({ onAddTeamMember, onAddMenu }) => {
 
   // 데이터 로드 (부서 변경 시 재로드)
   useEffect(() => {
-    if (selectedDepartmentId) {
-      loadData();
-      loadSettings();
-      checkOrderAvailable();
-      resetOrderForm();
+    if (!selectedDepartmentId) {
+      return undefined;
     }
 
-    // 5초마다 주문 목록 및 주문 가능 여부 자동 새로고침 (폴링)
-    const interval = setInterval(() => {
-      if (selectedDepartmentId) {
+    loadData();
+    loadSettings();
+    checkOrderAvailable();
+    resetOrderForm();
+
+    // SSE 미지원 환경에서는 5초마다 주문 목록 및 주문 가능 여부 자동 새로고침 (폴링)
+    if (typeof EventSource === 'undefined') {
+      const interval = setInterval(() => {
+        loadOrders();
+        checkOrderAvailable();
+      }, 5000);
+
+      return () => clearInterval(interval);
+    }
+
+    // 실시간 주문 스트림 구독 (재연결 시 놓친 변경분은 전체 목록으로 다시 동기화)
+    const source = orderAPI.subscribe(selectedDepartmentId);
+    let connectedOnce = false;
+
+    const upsertOrder = (event) => {
+      const order = JSON.parse(event.data);
+      setOrders((prev) => [...prev.filter((o) => o.id !== order.id), order].sort((a, b) => a.id - b.id));
+    };
+
+    source.addEventListener('open', () => {
+      if (connectedOnce) {
         loadOrders();
         checkOrderAvailable();
       }
-    }, 5000);
+      connectedOnce = true;
+    });
+    source.addEventListener('order-created', upsertOrder);
+    source.addEventListener('order-updated', upsertOrder);
+    source.addEventListener('order-deleted', (event) => {
+      const { id } = JSON.parse(event.data);
+      setOrders((prev) => prev.filter((o) => o.id !== id));
+    });
+    source.addEventListener('ordering-closed', () => setOrderAvailable(false));
+    source.addEventListener('ordering-opened', () => setOrderAvailable(true));
 
-    return () => clearInterval(interval);
+    return () => source.close();
   }, [selectedDepartmentId]);
 
   // 현재 시간 업데이트 (1초마다)
@@ -179,19 +208,12 @@ const OrderPage = ({ onAddTeamMember, onAddMenu }) => {
 
       if (existingOrder) {
         // 기존 주문이 있으면 수정
-        const updatedOrder = {
-          team: { id: parseInt(selectedTeam) },
+        await orderAPI.patch(existingOrder.id, {
           menuType: orderData.menuType,
-          menu: orderData.menuType === 'CUSTOM' && orderData.menuId
-            ? { id: orderData.menuId }
-            : null,
-          twosomeMenu: orderData.menuType === 'TWOSOME' && orderData.twosomeMenuId
-            ? { id: orderData.twosomeMenuId }
-            : null,
-          personalOption: orderData.personalOption,
-          orderDate: existingOrder.orderDate,
-        };
-        await orderAPI.update(existingOrder.id, updatedOrder, selectedDepartmentId);
+          menuId: orderData.menuId,
+          twosomeMenuId: orderData.twosomeMenuId,
+          personalOption: orderData.personalOption || '',
+        }, selectedDepartmentId);
         showAlert('주문이 변경되었습니다!');
       } else {
         // 새 주문 생성
@@ -331,20 +353,12 @@ const OrderPage = ({ onAddTeamMember, onAddMenu }) => {
     try {
       const { existingOrder, newOrderData } = orderChangeData;
 
-      const updatedOrder = {
-        team: { id: existingOrder.teamId },
+      await orderAPI.patch(existingOrder.id, {
         menuType: newOrderData.menuType,
-        menu: newOrderData.menuType === 'CUSTOM' && newOrderData.menuId
-          ? { id: newOrderData.menuId }
-          : null,
-        twosomeMenu: newOrderData.menuType === 'TWOSOME' && newOrderData.twosomeMenuId
-          ? { id: newOrderData.twosomeMenuId }
-          : null,
-        personalOption: newOrderData.personalOption,
-        orderDate: existingOrder.orderDate,
-      };
-
-      await orderAPI.update(existingOrder.id, updatedOrder, selectedDepartmentId);
+        menuId: newOrderData.menuType === 'CUSTOM' ? newOrderData.menuId : null,
+        twosomeMenuId: newOrderData.menuType === 'TWOSOME' ? newOrderData.twosomeMenuId : null,
+        personalOption: newOrderData.personalOption || '',
+      }, selectedDepartmentId);
       showAlert('주문이 변경되었습니다!');
       resetOrderForm();
       loadOrders();
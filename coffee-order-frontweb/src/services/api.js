@@ -7,11 +7,11 @@ const API_BASE_URL = process.env.REACT_APP_API_URL || '/api';
 const fetchAPI = async (url, options = {}) => {
   try {
     const response = await fetch(`${API_BASE_URL}${url}`, {
+      ...options,
       headers: {
         'Content-Type': 'application/json',
         ...options.headers,
       },
-      ...options,
     });
 
     if (!response.ok) {
@@ -36,6 +36,29 @@ const fetchAPI = async (url, options = {}) => {
   }
 };
 
+// 재시도 중복 방지 키 생성 (보안 컨텍스트가 아니면 생략)
+const createIdempotencyKey = () => (
+  typeof crypto !== 'undefined' && crypto.randomUUID ? crypto.randomUUID() : null
+);
+
+// 네트워크 오류 시 같은 Idempotency-Key로 재시도 (서버가 처음 응답을 재사용)
+const fetchIdempotent = async (url, options = {}, retries = 2) => {
+  const key = createIdempotencyKey();
+  const headers = key ? { ...options.headers, 'Idempotency-Key': key } : options.headers;
+
+  for (let attempt = 0; ; attempt += 1) {
+    try {
+      return await fetchAPI(url, { ...options, headers });
+    } catch (error) {
+      // fetch 자체가 실패한 경우(TypeError)만 재시도
+      if (!key || !(error instanceof TypeError) || attempt >= retries) {
+        throw error;
+      }
+      await new Promise((resolve) => setTimeout(resolve, 500 * (attempt + 1)));
+    }
+  }
+};
+
 // ==================== Department API ====================
 export const departmentAPI = {
   // 전체 부서 조회
@@ -120,8 +143,8 @@ export const orderAPI = {
     return fetchAPI(`/orders?${params.toString()}`);
   },
 
-  // 주문 생성
-  create: (order) => fetchAPI('/orders', {
+  // 주문 생성 (네트워크 오류 시 자동 재시도)
+  create: (order) => fetchIdempotent('/orders', {
     method: 'POST',
     body: JSON.stringify(order),
   }),
@@ -135,6 +158,15 @@ export const orderAPI = {
     });
   },
 
+  // 주문 부분 수정 (메뉴 타입, 메뉴 ID, 개인 옵션만 전송)
+  patch: (id, changes, departmentId) => {
+    const params = departmentId ? `?departmentId=${departmentId}` : '';
+    return fetchAPI(`/orders/${id}${params}`, {
+      method: 'PATCH',
+      body: JSON.stringify(changes),
+    });
+  },
+
   // 주문 삭제
   delete: (id) => fetchAPI(`/orders/${id}`, {
     method: 'DELETE',
@@ -143,11 +175,28 @@ export const orderAPI = {
   // 날짜별 메뉴 집계
   getSummary: (date) => fetchAPI(`/orders/summary?date=${date}`),
 
+  // 부서별 메뉴/옵션 집계 (바리스타 주문표용, 날짜 생략 시 오늘)
+  getBaristaSummary: (departmentId, date) => {
+    const params = new URLSearchParams({ departmentId });
+    if (date) params.append('date', date);
+    return fetchAPI(`/orders/summary/barista?${params.toString()}`);
+  },
+
   // 특정 팀원의 오늘 주문 조회
   getTodayByTeam: (teamId) => fetchAPI(`/orders/team/${teamId}/today`),
 
   // 특정 팀원의 최근 주문 조회
   getLatestByTeam: (teamId) => fetchAPI(`/orders/team/${teamId}/latest`),
+
+  // 부서별 주문 실시간 스트림 구독 (SSE)
+  subscribe: (departmentId) => new EventSource(`${API_BASE_URL}/orders/stream?departmentId=${departmentId}`),
+
+  // 기간별 주문 내역 내보내기 다운로드 URL (format: csv | ndjson)
+  getExportUrl: (from, to, departmentId, format = 'csv') => {
+    const params = new URLSearchParams({ from, to, format });
+    if (departmentId) params.append('departmentId', departmentId);
+    return `${API_BASE_URL}/orders/export?${params.toString()}`;
+  },
 };
 
 // ==================== Settings API ====================
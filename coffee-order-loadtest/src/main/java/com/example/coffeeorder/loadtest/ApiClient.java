@@ -0,0 +1,90 @@
+package com.example.coffeeorder.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 부하 테스트용 HTTP 클라이언트
+ * 시나리오 요청은 비동기로 보내 사용자 수만큼 스레드를 두지 않고, 엔드포인트 라벨별로 응답 시간을 기록한다.
+ */
+public class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+
+    public ApiClient(String baseUrl, LatencyRecorder recorder) {
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+    }
+
+    /**
+     * 측정 대상 GET
+     * @param endpoint 리포트에 표시할 라벨
+     */
+    public CompletableFuture<Void> get(String endpoint, String path) {
+        return send(endpoint, request(path).GET().build());
+    }
+
+    // 측정 대상 POST (JSON 본문)
+    public CompletableFuture<Void> post(String endpoint, String path, Object body) {
+        return send(endpoint, request(path).POST(jsonBody(body)).build());
+    }
+
+    // 시드 데이터 생성용 동기 호출 (측정하지 않음)
+    public JsonNode postForJson(String path, Object body) throws IOException, InterruptedException {
+        return sendForJson(request(path).POST(jsonBody(body)).build());
+    }
+
+    public JsonNode putForJson(String path, Object body) throws IOException, InterruptedException {
+        return sendForJson(request(path).PUT(jsonBody(body)).build());
+    }
+
+    private CompletableFuture<Void> send(String endpoint, HttpRequest request) {
+        long startTime = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    boolean success = error == null && response.statusCode() < 400;
+                    recorder.record(endpoint, System.nanoTime() - startTime, success);
+                    return null;
+                });
+    }
+
+    private JsonNode sendForJson(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(request.method() + " " + request.uri()
+                    + " failed: " + response.statusCode() + " " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher jsonBody(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.coffeeorder.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * coffee-order-api JAR을 별도 JVM으로 실행 (메모리 H2 + 임시 데이터 폴더)
+ * 운영과 같은 한국 시간대로 띄우며, Redis 주소는 SPRING_DATA_REDIS_HOST/PORT 환경변수를 그대로 넘긴다.
+ */
+public class AppLauncher implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final Process process;
+    private final Path logFile;
+    private final String baseUrl;
+
+    private AppLauncher(Process process, Path logFile, String baseUrl) {
+        this.process = process;
+        this.logFile = logFile;
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * 앱을 실행하고 API가 응답할 때까지 대기
+     * @param appJar coffee-order-api 실행 JAR
+     */
+    public static AppLauncher start(Path appJar) throws IOException, InterruptedException {
+        if (!Files.isRegularFile(appJar)) {
+            throw new IllegalStateException("App jar not found: " + appJar.toAbsolutePath()
+                    + " (run 'mvn -pl coffee-order-api package -DskipTests' first or pass --app-jar / --base-url)");
+        }
+
+        int port = findFreePort();
+        Path dataDir = Files.createTempDirectory("coffee-order-loadtest");
+        Path logFile = dataDir.resolve("app.log");
+
+        List<String> command = List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Duser.timezone=Asia/Seoul",
+                "-jar", appJar.toAbsolutePath().toString(),
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--app.data.path=" + dataDir);
+
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        AppLauncher launcher = new AppLauncher(process, logFile, "http://localhost:" + port);
+        System.out.printf("Starting %s on port %d (log: %s)%n", appJar.getFileName(), port, logFile);
+
+        try {
+            launcher.awaitReady();
+        } catch (InterruptedException | RuntimeException e) {
+            launcher.close();
+            throw e;
+        }
+        return launcher;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    // 부서 목록 API가 200을 줄 때까지 폴링
+    private void awaitReady() throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/departments")).GET().build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("App exited with code " + process.exitValue() + " (see " + logFile + ")");
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("App did not start within " + STARTUP_TIMEOUT.toSeconds() + "s (see " + logFile + ")");
+    }
+
+    @Override
+    public void close() {
+        process.destroy();
+        try {
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static int findFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.coffeeorder.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔드포인트별 응답 시간 수집 및 처리량/백분위 리포트
+ * 요청 수가 수십만 건 수준이라 전체 샘플을 보관하고 리포트 시점에 정렬한다.
+ */
+public class LatencyRecorder {
+
+    private final Map<String, EndpointSamples> samples = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long elapsedNanos, boolean success) {
+        samples.computeIfAbsent(endpoint, k -> new EndpointSamples()).add(elapsedNanos, success);
+    }
+
+    /**
+     * 측정 구간 전체 기준 통계
+     * @param elapsedNanos 측정 구간 길이 (처리량 계산용)
+     */
+    public List<EndpointReport> summarize(long elapsedNanos) {
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        List<EndpointReport> reports = new ArrayList<>();
+        new ConcurrentSkipListMap<>(samples).forEach((endpoint, endpointSamples) ->
+                reports.add(endpointSamples.toReport(endpoint, elapsedSeconds)));
+        return reports;
+    }
+
+    public static void print(List<EndpointReport> reports, PrintStream out) {
+        out.printf("%-34s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        for (EndpointReport report : reports) {
+            out.printf("%-34s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    report.endpoint(), report.requests(), report.errors(), report.throughput(),
+                    report.p50(), report.p90(), report.p95(), report.p99(), report.max());
+        }
+    }
+
+    // 이전 실행 결과와 비교하기 위한 CSV 저장
+    public static void writeCsv(List<EndpointReport> reports, Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("endpoint,requests,errors,req_per_sec,p50_ms,p90_ms,p95_ms,p99_ms,max_ms");
+        for (EndpointReport report : reports) {
+            lines.add(String.format("%s,%d,%d,%.1f,%.1f,%.1f,%.1f,%.1f,%.1f",
+                    report.endpoint(), report.requests(), report.errors(), report.throughput(),
+                    report.p50(), report.p90(), report.p95(), report.p99(), report.max()));
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, lines);
+    }
+
+    public record EndpointReport(String endpoint, int requests, int errors, double throughput,
+                                 double p50, double p90, double p95, double p99, double max) {
+    }
+
+    private static class EndpointSamples {
+        private long[] nanos = new long[1024];
+        private int count;
+        private int errors;
+
+        synchronized void add(long elapsedNanos, boolean success) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = elapsedNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized EndpointReport toReport(String endpoint, double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return new EndpointReport(endpoint, count, errors, count / elapsedSeconds,
+                    percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 95),
+                    percentile(sorted, 99), percentile(sorted, 100));
+        }
+
+        // nearest-rank 백분위 (ms)
+        private static double percentile(long[] sorted, int percent) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+            long value = sorted[Math.max(rank, 1) - 1];
+            return value / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.coffeeorder.loadtest;
+
+import java.util.List;
+
+/**
+ * 마감 직전 트래픽 부하 테스트 진입점
+ * 예) java -jar coffee-order-loadtest/target/coffee-order-loadtest-1.0.0.jar --departments=10 --report-file=target/baseline.csv
+ */
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        AppLauncher launcher = null;
+        try {
+            String baseUrl = options.getBaseUrl();
+            if (baseUrl == null) {
+                launcher = AppLauncher.start(options.getAppJar());
+                baseUrl = launcher.getBaseUrl();
+            }
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            ApiClient apiClient = new ApiClient(baseUrl, recorder);
+
+            List<Seeder.SimulatedUser> users = new Seeder(apiClient, options).seed();
+            System.out.printf("Seeded %d departments, %d users; running %ds ramp + %ds steady + %ds burst against %s%n",
+                    options.getDepartments(), users.size(), options.getRampSeconds(),
+                    options.getSteadySeconds(), options.getBurstSeconds(), baseUrl);
+
+            long elapsedNanos = new TrafficScenario(apiClient, options).run(users);
+
+            List<LatencyRecorder.EndpointReport> reports = recorder.summarize(elapsedNanos);
+            System.out.printf("%nCompleted in %.1fs%n", elapsedNanos / 1_000_000_000.0);
+            LatencyRecorder.print(reports, System.out);
+            if (options.getReportFile() != null) {
+                LatencyRecorder.writeCsv(reports, options.getReportFile());
+                System.out.println("Report written to " + options.getReportFile().toAbsolutePath());
+            }
+        } finally {
+            if (launcher != null) {
+                launcher.close();
+            }
+        }
+    }
+}
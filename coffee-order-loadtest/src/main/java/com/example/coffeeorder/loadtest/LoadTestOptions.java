@@ -0,0 +1,126 @@
+package com.example.coffeeorder.loadtest;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션 (--key=value 형식)
+ * --base-url 을 주면 이미 떠 있는 서버를 호출하고, 없으면 --app-jar 를 임시 H2로 직접 띄운다.
+ */
+public class LoadTestOptions {
+
+    // 대상 서버 주소 (없으면 앱을 직접 실행)
+    private String baseUrl;
+
+    // 직접 실행할 coffee-order-api JAR
+    private Path appJar = Path.of("coffee-order-api/target/coffee-order-api-1.0.0.jar");
+
+    // 시드 규모
+    private int departments = 5;
+    private int teamsPerDepartment = 20;
+    private int menusPerDepartment = 8;
+
+    // 사용자들이 주문 화면에 들어오는 구간 (이 시간 안에 고르게 loadData 호출)
+    private int rampSeconds = 30;
+
+    // 모든 사용자가 화면을 열어두고 폴링만 하는 구간
+    private int steadySeconds = 60;
+
+    // 마감 직전 주문이 몰리는 구간
+    private int burstSeconds = 10;
+
+    // 주문 화면 폴링 주기 (프론트엔드와 동일하게 5초)
+    private int pollSeconds = 5;
+
+    // 결과 CSV 저장 경로 (회귀 비교용, 선택)
+    private Path reportFile;
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unknown argument: " + arg + " (expected --key=value)");
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions();
+        options.baseUrl = values.remove("base-url");
+        if (values.containsKey("app-jar")) {
+            options.appJar = Path.of(values.remove("app-jar"));
+        }
+        options.departments = intValue(values, "departments", options.departments);
+        options.teamsPerDepartment = intValue(values, "teams-per-department", options.teamsPerDepartment);
+        options.menusPerDepartment = intValue(values, "menus-per-department", options.menusPerDepartment);
+        options.rampSeconds = intValue(values, "ramp-seconds", options.rampSeconds);
+        options.steadySeconds = intValue(values, "steady-seconds", options.steadySeconds);
+        options.burstSeconds = intValue(values, "burst-seconds", options.burstSeconds);
+        options.pollSeconds = intValue(values, "poll-seconds", options.pollSeconds);
+        if (values.containsKey("report-file")) {
+            options.reportFile = Path.of(values.remove("report-file"));
+        }
+
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        return options;
+    }
+
+    private static int intValue(Map<String, String> values, String key, int defaultValue) {
+        String value = values.remove(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        int parsed = Integer.parseInt(value);
+        if (parsed < 1) {
+            throw new IllegalArgumentException("--" + key + " must be at least 1");
+        }
+        return parsed;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public Path getAppJar() {
+        return appJar;
+    }
+
+    public int getDepartments() {
+        return departments;
+    }
+
+    public int getTeamsPerDepartment() {
+        return teamsPerDepartment;
+    }
+
+    public int getMenusPerDepartment() {
+        return menusPerDepartment;
+    }
+
+    public int getRampSeconds() {
+        return rampSeconds;
+    }
+
+    public int getSteadySeconds() {
+        return steadySeconds;
+    }
+
+    public int getBurstSeconds() {
+        return burstSeconds;
+    }
+
+    public int getPollSeconds() {
+        return pollSeconds;
+    }
+
+    public Path getReportFile() {
+        return reportFile;
+    }
+
+    public int getUsers() {
+        return departments * teamsPerDepartment;
+    }
+}
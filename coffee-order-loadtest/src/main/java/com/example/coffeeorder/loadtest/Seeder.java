@@ -0,0 +1,76 @@
+package com.example.coffeeorder.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부서/메뉴/팀원 시드 데이터 생성 (공개 API 사용)
+ * 부서 이름에 실행 시각을 붙여 같은 서버에 여러 번 돌려도 주문이 겹치지 않게 한다.
+ */
+public class Seeder {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final ApiClient apiClient;
+    private final LoadTestOptions options;
+
+    public Seeder(ApiClient apiClient, LoadTestOptions options) {
+        this.apiClient = apiClient;
+        this.options = options;
+    }
+
+    /**
+     * 부서별 설정(마감 시간), 메뉴, 팀원 생성
+     * @return 팀원 한 명당 가상 사용자 하나
+     */
+    public List<SimulatedUser> seed() throws IOException, InterruptedException {
+        String runId = LocalTime.now(KST).format(DateTimeFormatter.ofPattern("HHmmss"));
+        Map<String, Object> settings = deadlineSettings();
+        List<SimulatedUser> users = new ArrayList<>();
+
+        for (int d = 1; d <= options.getDepartments(); d++) {
+            JsonNode department = apiClient.postForJson("/api/departments",
+                    Map.of("name", "부하테스트-" + runId + "-" + d));
+            long departmentId = department.get("id").asLong();
+            apiClient.putForJson("/api/settings?departmentId=" + departmentId, settings);
+
+            List<Long> menuIds = new ArrayList<>();
+            for (int m = 1; m <= options.getMenusPerDepartment(); m++) {
+                JsonNode menu = apiClient.postForJson("/api/menus",
+                        Map.of("departmentId", departmentId, "name", "메뉴-" + m));
+                menuIds.add(menu.get("id").asLong());
+            }
+
+            for (int t = 1; t <= options.getTeamsPerDepartment(); t++) {
+                JsonNode team = apiClient.postForJson("/api/teams",
+                        Map.of("departmentId", departmentId, "name", "팀원-" + t));
+                users.add(new SimulatedUser(departmentId, team.get("id").asLong(), List.copyOf(menuIds)));
+            }
+        }
+        return users;
+    }
+
+    // 마감 시간은 주문 폭주 구간이 끝난 직후로 설정 (자정을 넘기면 24시간 주문으로 대체)
+    private Map<String, Object> deadlineSettings() {
+        int scenarioSeconds = options.getRampSeconds() + options.getSteadySeconds() + options.getBurstSeconds();
+        LocalTime now = LocalTime.now(KST);
+        LocalTime deadline = now.plusSeconds(scenarioSeconds).plusMinutes(2).truncatedTo(ChronoUnit.MINUTES);
+        if (deadline.isBefore(now)) {
+            System.out.println("Deadline would cross midnight, using 24-hour ordering instead");
+            return Map.of("is24Hours", true, "menuMode", "CUSTOM");
+        }
+        System.out.println("Order deadline set to " + deadline);
+        return Map.of("orderDeadlineTime", deadline.toString(), "is24Hours", false, "menuMode", "CUSTOM");
+    }
+
+    public record SimulatedUser(long departmentId, long teamId, List<Long> menuIds) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.coffeeorder.loadtest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아침 주문 트래픽 재현
+ * 1. ramp: 사용자들이 주문 화면에 들어오며 loadData의 GET 5개를 동시에 호출
+ * 2. steady: 화면을 열어둔 채 5초마다 오늘 주문 목록 + 주문 가능 여부 폴링 (SSE 미지원 환경 기준)
+ * 3. burst: 마감 직전 구간에 사용자마다 주문 1건 등록 (마감에 가까울수록 몰리도록 분포)
+ */
+public class TrafficScenario {
+
+    private final ApiClient apiClient;
+    private final LoadTestOptions options;
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+    private final Queue<CompletableFuture<Void>> inFlight = new ConcurrentLinkedQueue<>();
+
+    public TrafficScenario(ApiClient apiClient, LoadTestOptions options) {
+        this.apiClient = apiClient;
+        this.options = options;
+    }
+
+    /**
+     * 시나리오 실행 후 남은 요청까지 기다림
+     * @return 측정 구간 길이 (나노초)
+     */
+    public long run(List<Seeder.SimulatedUser> users) throws InterruptedException {
+        long rampMillis = TimeUnit.SECONDS.toMillis(options.getRampSeconds());
+        long burstStartMillis = rampMillis + TimeUnit.SECONDS.toMillis(options.getSteadySeconds());
+        long burstMillis = TimeUnit.SECONDS.toMillis(options.getBurstSeconds());
+        long pollMillis = TimeUnit.SECONDS.toMillis(options.getPollSeconds());
+        List<ScheduledFuture<?>> pollers = new ArrayList<>();
+
+        long startTime = System.nanoTime();
+        for (Seeder.SimulatedUser user : users) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long arrival = random.nextLong(rampMillis);
+            scheduler.schedule(() -> loadData(user), arrival, TimeUnit.MILLISECONDS);
+            pollers.add(scheduler.scheduleAtFixedRate(() -> poll(user),
+                    arrival + pollMillis, pollMillis, TimeUnit.MILLISECONDS));
+
+            // sqrt 분포: 구간 뒤쪽(마감 직전)으로 갈수록 주문이 많아짐
+            long orderAt = burstStartMillis + (long) (burstMillis * Math.sqrt(random.nextDouble()));
+            scheduler.schedule(() -> placeOrder(user), orderAt, TimeUnit.MILLISECONDS);
+        }
+
+        Thread.sleep(burstStartMillis + burstMillis);
+        pollers.forEach(poller -> poller.cancel(false));
+        scheduler.shutdown();
+        scheduler.awaitTermination(1, TimeUnit.MINUTES);
+        CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0])).join();
+        return System.nanoTime() - startTime;
+    }
+
+    // OrderPage.loadData: 팀원, 메뉴, 투썸 메뉴, 오늘 주문, 설정을 동시에 조회
+    private void loadData(Seeder.SimulatedUser user) {
+        long departmentId = user.departmentId();
+        track(apiClient.get("GET /api/teams", "/api/teams?departmentId=" + departmentId));
+        track(apiClient.get("GET /api/menus", "/api/menus?departmentId=" + departmentId));
+        track(apiClient.get("GET /api/twosome-menus", "/api/twosome-menus"));
+        track(apiClient.get("GET /api/orders/today", "/api/orders/today?departmentId=" + departmentId));
+        track(apiClient.get("GET /api/settings", "/api/settings?departmentId=" + departmentId));
+    }
+
+    // OrderPage 폴링: loadOrders + checkOrderAvailable
+    private void poll(Seeder.SimulatedUser user) {
+        long departmentId = user.departmentId();
+        track(apiClient.get("GET /api/orders/today", "/api/orders/today?departmentId=" + departmentId));
+        track(apiClient.get("GET /api/settings/order-available",
+                "/api/settings/order-available?departmentId=" + departmentId));
+    }
+
+    private void placeOrder(Seeder.SimulatedUser user) {
+        List<Long> menuIds = user.menuIds();
+        Map<String, Object> body = new HashMap<>();
+        body.put("departmentId", user.departmentId());
+        body.put("teamId", user.teamId());
+        body.put("menuId", menuIds.get(ThreadLocalRandom.current().nextInt(menuIds.size())));
+        body.put("menuType", "CUSTOM");
+        body.put("personalOption", ThreadLocalRandom.current().nextBoolean() ? "ICE" : "HOT");
+        track(apiClient.post("POST /api/orders", "/api/orders", body));
+    }
+
+    private void track(CompletableFuture<Void> request) {
+        inFlight.add(request);
+        request.whenComplete((result, error) -> inFlight.remove(request));
+    }
+}